@@ -0,0 +1,96 @@
+package com.pser.hotel.domain.hotel.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 실행 중인 서버의 /hotels/search 에 동시 요청을 보내 처리량과 지연 분포(p99, p99.9)를 잰다.
+ * 서버를 spring.threads.virtual.enabled=false 와 true 로 한 번씩 띄우고, mode 에 실행 방식을 넘겨 두 JSON 결과를 비교한다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -jar build/libs/hotel-0.0.1-SNAPSHOT-jmh.jar HotelSearchLoadBenchmark \
+ *     -p baseUrl=http://localhost:8080 -p mode=virtual -rf json -rff search-virtual.json
+ * </pre>
+ * 503 응답은 DB 동시 실행 한도로 버려진 요청이므로 실패로 세지 않고 shed 카운터로 따로 센다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+@Fork(1)
+public class HotelSearchLoadBenchmark {
+    private static final List<String> QUERIES = List.of(
+            "name=%ED%98%B8%ED%85%94",
+            "province=%EC%84%9C%EC%9A%B8%ED%8A%B9%EB%B3%84%EC%8B%9C",
+            "wifi=true&parkingLot=true",
+            "category=HOTEL&people=2",
+            "city=%EC%A0%9C%EC%A3%BC%EC%8B%9C&breakfast=true"
+    );
+
+    @Param("http://localhost:8080")
+    private String baseUrl;
+
+    @Param("platform")
+    private String mode;
+
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Benchmark
+    public int search(Counters counters) throws IOException, InterruptedException {
+        String query = QUERIES.get(ThreadLocalRandom.current().nextInt(QUERIES.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/hotels/search?" + query + "&size=20"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 503) {
+            counters.shed++;
+        } else if (status >= 400) {
+            counters.failed++;
+        }
+        return status;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long shed;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            shed = 0;
+            failed = 0;
+        }
+    }
+}
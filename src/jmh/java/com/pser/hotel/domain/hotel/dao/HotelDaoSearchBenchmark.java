@@ -0,0 +1,77 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.HotelCategoryEnum;
+import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
+import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
+import com.pser.hotel.global.bench.BenchmarkDatabase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * HotelDaoImpl.search 의 첫 페이지 조회를 검색 조건 조합별로 잰다. 데이터 크기는 BenchmarkDatabase 의 Param 으로 바꾼다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -jar build/libs/hotel-0.0.1-SNAPSHOT-jmh.jar HotelDaoSearchBenchmark -p reservations=100000 \
+ *     -rf json -rff hotel-search-$(git rev-parse --short HEAD).json
+ * </pre>
+ * ./gradlew jmh 로 모두 돌리면 결과는 build/results/jmh/results.json 에 남으므로 커밋마다 복사해 두고 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class HotelDaoSearchBenchmark {
+    @Param({"none", "name", "region", "facility", "category_people", "stay_dates", "keyword", "all"})
+    private String filter;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private HotelDao hotelDao;
+    private HotelSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        hotelDao = database.getBean(HotelDao.class);
+        request = createRequest(database);
+    }
+
+    @Benchmark
+    public Slice<HotelSummaryResponse> search(BenchmarkDatabase database) {
+        return database.readOnly(() -> hotelDao.search(request, pageable));
+    }
+
+    private HotelSearchRequest createRequest(BenchmarkDatabase database) {
+        HotelSearchRequest.HotelSearchRequestBuilder builder = HotelSearchRequest.builder();
+        switch (filter) {
+            case "none" -> {
+            }
+            case "name" -> builder.name("오션");
+            case "region" -> builder.province("서울특별시").district("강남구");
+            case "facility" -> builder.wifi(true).parkingLot(true).breakfast(false);
+            case "category_people" -> builder.category(HotelCategoryEnum.HOTEL).people(4);
+            case "stay_dates" -> builder.searchStartAt(database.getAnchorDate().plusDays(3))
+                    .searchEndAt(database.getAnchorDate().plusDays(5));
+            case "keyword" -> builder.keyword("해운대");
+            case "all" -> builder.province("제주특별자치도").category(HotelCategoryEnum.HOTEL).wifi(true).people(2)
+                    .searchStartAt(database.getAnchorDate().plusDays(3))
+                    .searchEndAt(database.getAnchorDate().plusDays(5));
+            default -> throw new IllegalArgumentException("알 수 없는 filter: " + filter);
+        }
+        return builder.build();
+    }
+}
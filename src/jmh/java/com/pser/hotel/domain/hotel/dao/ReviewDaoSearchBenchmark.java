@@ -0,0 +1,64 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.Review;
+import com.pser.hotel.domain.hotel.dto.request.ReviewSearchRequest;
+import com.pser.hotel.global.bench.BenchmarkDatabase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * ReviewDaoImpl.search(Page) 를 검색 조건별로 잰다. 리뷰는 예약 수의 1/10 만큼 채워진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ReviewDaoSearchBenchmark {
+    @Param({"none", "rating", "keyword", "created_range"})
+    private String filter;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private ReviewDao reviewDao;
+    private ReviewSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        reviewDao = database.getBean(ReviewDao.class);
+        request = createRequest(database);
+    }
+
+    @Benchmark
+    public Page<Review> search(BenchmarkDatabase database) {
+        return database.readOnly(() -> reviewDao.search(request, pageable));
+    }
+
+    private ReviewSearchRequest createRequest(BenchmarkDatabase database) {
+        ReviewSearchRequest.ReviewSearchRequestBuilder builder = ReviewSearchRequest.builder();
+        switch (filter) {
+            case "none" -> {
+            }
+            case "rating" -> builder.rating(5.0);
+            case "keyword" -> builder.keyword("방음");
+            case "created_range" -> builder.createdAfter(database.getAnchorDate().minusDays(30).atStartOfDay())
+                    .createdBefore(database.getAnchorDate().atStartOfDay());
+            default -> throw new IllegalArgumentException("알 수 없는 filter: " + filter);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import com.pser.hotel.global.bench.BenchmarkDatabase;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 예약 전에 요청한 밤이 이미 찼는지 확인하는 조회를 잰다. 예약 겹침은 예약 테이블을 세지 않고 객실-날짜별 재고 행으로 판단하므로,
+ * 임의의 객실에 대해 RoomInventoryService 가 쓰는 count 와 목록 조회를 각각 돌린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class RoomAvailabilityBenchmark {
+    @Param({"1", "3", "7"})
+    private int nights;
+
+    private RoomNightInventoryDao roomNightInventoryDao;
+    private int rooms;
+    private List<LocalDate> stayDates;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        roomNightInventoryDao = database.getBean(RoomNightInventoryDao.class);
+        rooms = database.getRooms();
+        LocalDate startAt = database.getAnchorDate().plusDays(1);
+        stayDates = RoomNightInventory.nightsOf(startAt, startAt.plusDays(nights));
+    }
+
+    @Benchmark
+    public long countBookedNights(BenchmarkDatabase database) {
+        return database.readOnly(() -> roomNightInventoryDao.countByRoomIdAndStayDateIn(randomRoomId(), stayDates));
+    }
+
+    @Benchmark
+    public List<RoomNightInventory> findBookedNights(BenchmarkDatabase database) {
+        return database.readOnly(() -> roomNightInventoryDao.findByRoomIdAndStayDateInOrderByStayDateAsc(
+                randomRoomId(), stayDates));
+    }
+
+    private long randomRoomId() {
+        return ThreadLocalRandom.current().nextLong(1, rooms + 1);
+    }
+}
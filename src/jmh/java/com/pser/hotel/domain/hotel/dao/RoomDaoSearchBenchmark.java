@@ -0,0 +1,64 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
+import com.pser.hotel.global.bench.BenchmarkDatabase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * RoomDaoImpl.search(Page) 를 검색 조건별로 잰다. Page 라서 목록 조회 뒤 count 쿼리까지 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class RoomDaoSearchBenchmark {
+    @Param({"none", "price", "capacity", "amenity", "keyword"})
+    private String filter;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private RoomDao roomDao;
+    private RoomSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        roomDao = database.getBean(RoomDao.class);
+        request = createRequest();
+    }
+
+    @Benchmark
+    public Page<RoomResponse> search(BenchmarkDatabase database) {
+        return database.readOnly(() -> roomDao.search(request, pageable));
+    }
+
+    private RoomSearchRequest createRequest() {
+        RoomSearchRequest.RoomSearchRequestBuilder builder = RoomSearchRequest.builder();
+        switch (filter) {
+            case "none" -> {
+            }
+            case "price" -> builder.priceGte(100_000).priceLte(200_000);
+            case "capacity" -> builder.standardCapacityGte(2).maxCapacityGte(4);
+            case "amenity" -> builder.tv(true).internet(true).bathtub(true);
+            case "keyword" -> builder.keyword("패밀리");
+            default -> throw new IllegalArgumentException("알 수 없는 filter: " + filter);
+        }
+        return builder.build();
+    }
+}
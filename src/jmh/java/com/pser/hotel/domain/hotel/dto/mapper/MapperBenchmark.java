@@ -0,0 +1,159 @@
+package com.pser.hotel.domain.hotel.dto.mapper;
+
+import com.pser.hotel.domain.hotel.domain.Amenity;
+import com.pser.hotel.domain.hotel.domain.Facility;
+import com.pser.hotel.domain.hotel.domain.Hotel;
+import com.pser.hotel.domain.hotel.domain.HotelCategoryEnum;
+import com.pser.hotel.domain.hotel.domain.HotelImage;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.RoomImage;
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.domain.hotel.dto.ReservationDto;
+import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
+import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
+import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
+import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.domain.model.BaseEntity;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * HotelMapper, ReservationMapper 의 MapStruct 변환 비용을 잰다. DB 없이 메모리에 만든 엔티티 그래프를 변환하며,
+ * 호텔 하나에 딸린 객실과 이미지 수를 Param 으로 바꿔 컬렉션 매핑 비용을 따로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"1", "10", "50"})
+    private int roomsPerHotel;
+
+    @Param({"3"})
+    private int imagesPerEntity;
+
+    private final HotelMapper hotelMapper = new HotelMapperImpl();
+    private final ReservationMapper reservationMapper = new ReservationMapperImpl();
+    private Hotel hotel;
+    private Reservation reservation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = User.builder().email("owner@pser.dev").password("password").build();
+        setId(user, 1L);
+        hotel = createHotel(user);
+        reservation = Reservation.builder()
+                .user(user)
+                .room(hotel.getRooms().get(0))
+                .price(120_000)
+                .startAt(LocalDate.of(2024, 5, 1))
+                .endAt(LocalDate.of(2024, 5, 3))
+                .visitorCount(3)
+                .adultCount(2)
+                .childCount(1)
+                .build();
+        setId(reservation, 1L);
+    }
+
+    @Benchmark
+    public HotelDto hotelToDto() {
+        return hotelMapper.toDto(hotel);
+    }
+
+    @Benchmark
+    public HotelResponse hotelToResponse() {
+        return hotelMapper.changeToHotelResponse(hotel, 4.2, 90_000, 120_000);
+    }
+
+    @Benchmark
+    public HotelSummaryResponse hotelToSummaryResponse() {
+        return hotelMapper.changeToHotelSummaryResponse(hotel, 4.2, 90_000, 120_000);
+    }
+
+    @Benchmark
+    public ReservationResponse reservationToResponse() {
+        return reservationMapper.toResponse(reservation);
+    }
+
+    @Benchmark
+    public ReservationDto reservationToDto() {
+        return reservationMapper.toDto(reservation);
+    }
+
+    private Hotel createHotel(User user) {
+        Hotel hotel = Hotel.builder()
+                .name("그랜드 강남구 호텔 1")
+                .category(HotelCategoryEnum.HOTEL)
+                .description("바다와 도심을 모두 누릴 수 있는 숙소입니다.")
+                .notice("체크인은 15시부터입니다.")
+                .province("서울특별시")
+                .city("서울시")
+                .district("강남구")
+                .detailedAddress("강남구 테헤란로 1")
+                .latitude(37.4979)
+                .longitude(127.0276)
+                .mainImage("https://img.pser.dev/hotels/1/main.jpg")
+                .businessNumber("123-45-67890")
+                .certUrl("https://img.pser.dev/hotels/1/cert.jpg")
+                .visitGuidance("역에서 도보 5분 거리입니다.")
+                .user(user)
+                .build();
+        setId(hotel, 1L);
+        Facility facility = Facility.builder()
+                .parkingLot(true).wifi(true).breakfast(true).fitness(false).petFriendly(false)
+                .hotel(hotel)
+                .build();
+        setId(facility, 1L);
+        for (int i = 1; i <= imagesPerEntity; i++) {
+            HotelImage.builder().imageUrl("https://img.pser.dev/hotels/1/" + i + ".jpg").hotel(hotel).build();
+        }
+
+        for (long roomId = 1; roomId <= roomsPerHotel; roomId++) {
+            Room room = Room.builder()
+                    .hotel(hotel)
+                    .name("스탠다드 " + roomId)
+                    .description("창밖으로 전망이 보이는 객실입니다.")
+                    .precaution("객실 내 흡연은 금지입니다.")
+                    .price(120_000)
+                    .checkIn(LocalTime.of(15, 0))
+                    .checkOut(LocalTime.of(11, 0))
+                    .standardCapacity(2)
+                    .maxCapacity(4)
+                    .totalRooms(5)
+                    .build();
+            setId(room, roomId);
+            Amenity amenity = Amenity.builder().room(room).tv(true).internet(true).bathtub(true).build();
+            setId(amenity, roomId);
+            for (int i = 1; i <= imagesPerEntity; i++) {
+                RoomImage.builder().room(room).imageUrl("https://img.pser.dev/rooms/" + roomId + "/" + i + ".jpg")
+                        .build();
+            }
+            hotel.getRooms().add(room);
+        }
+        return hotel;
+    }
+
+    private static void setId(BaseEntity entity, Long id) {
+        Field field = ReflectionUtils.findField(BaseEntity.class, "id");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, entity, id);
+    }
+}
@@ -0,0 +1,131 @@
+package com.pser.hotel.global.bench;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dto.mapper.HotelMapper;
+import com.pser.hotel.domain.hotel.dto.mapper.HotelMapperImpl;
+import com.pser.hotel.global.config.QueryDslConfig;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * H2(MariaDB 모드) 메모리 DB 위에 JPA, QueryDSL, 리포지토리만 올린 컨텍스트를 띄우고 SyntheticDataGenerator 로 채운다.
+ * 기본 크기는 호텔 1만, 객실 10만, 예약 100만이며 -p hotels=1000 -p rooms=10000 -p reservations=100000 처럼 줄일 수 있다.
+ * fork 마다 새로 채우므로 채우는 데 걸린 시간은 Setup 에서 출력한다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    public static final String H2_URL =
+            "jdbc:h2:mem:bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    @Param("10000")
+    private int hotels;
+
+    @Param("100000")
+    private int rooms;
+
+    @Param("1000000")
+    private int reservations;
+
+    @Param("42")
+    private long seed;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private LocalDate anchorDate;
+    private LocalDate firstStay;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(Map.of(
+                        "spring.datasource.url", H2_URL,
+                        "spring.jpa.hibernate.ddl-auto", "create",
+                        "spring.jpa.open-in-view", "false",
+                        "logging.level.root", "WARN"))
+                .run();
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(context.getBean(DataSource.class), seed,
+                LocalDate.now());
+        long started = System.nanoTime();
+        Map<String, Long> rowCounts = generator.generate(hotels, rooms, reservations, reservations / 10);
+        anchorDate = generator.getAnchorDate();
+        firstStay = generator.firstStayOf(rooms, reservations);
+        System.out.printf("%nseeded %s in %d ms%n", rowCounts, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 서비스 계층처럼 읽기 전용 트랜잭션 하나 안에서 조회한다.
+     */
+    public <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    public int getHotels() {
+        return hotels;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public int getReservations() {
+        return reservations;
+    }
+
+    public LocalDate getAnchorDate() {
+        return anchorDate;
+    }
+
+    public LocalDate getFirstStay() {
+        return firstStay;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackages = "com.pser.hotel.domain")
+    @EnableJpaRepositories(basePackageClasses = HotelDao.class)
+    @Import(QueryDslConfig.class)
+    static class Config {
+        @Bean
+        public HotelMapper hotelMapper() {
+            return new HotelMapperImpl();
+        }
+    }
+}
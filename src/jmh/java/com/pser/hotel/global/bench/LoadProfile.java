@@ -0,0 +1,206 @@
+package com.pser.hotel.global.bench;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * LoadProfileRunner 가 돌리는 요청 구성. 가상 사용자마다 seed 로 만든 난수로 다음 요청을 고르므로 같은 seed 면 같은 요청 순서가 나온다.
+ * 요청은 SyntheticDataGenerator 가 만든 id 범위(호텔, 객실, 손님, 타임특가 객실) 안에서만 고른다.
+ */
+public enum LoadProfile {
+    /**
+     * 검색 위주의 평상시 트래픽. 호텔 검색이 절반이고 나머지는 상세, 주변, 객실 검색이다.
+     */
+    SEARCH_HEAVY(200, 60, 10) {
+        @Override
+        public LoadRequest next(Target target, SplittableRandom random) {
+            int pick = random.nextInt(100);
+            if (pick < 50) {
+                return target.get("hotels.search", "/hotels/search?" + target.hotelSearchQuery(random));
+            }
+            if (pick < 65) {
+                return target.get("hotels.detail", "/hotels/" + target.randomHotel(random));
+            }
+            if (pick < 75) {
+                double[] center = SyntheticDataGenerator.REGION_CENTERS[
+                        random.nextInt(SyntheticDataGenerator.REGION_CENTERS.length)];
+                return target.get("hotels.nearby", "/hotels/nearby?latitude=%s&longitude=%s&radius=3"
+                        .formatted(center[0], center[1]));
+            }
+            if (pick < 90) {
+                return target.get("rooms.search", "/rooms/search?withTotal=false&priceGte=%d&maxCapacityGte=%d"
+                        .formatted(random.nextInt(5, 20) * 10_000, random.nextInt(1, 5)));
+            }
+            if (pick < 95) {
+                return target.get("rooms.detail", "/rooms/" + target.randomRoom(random));
+            }
+            return target.get("timesales.list", "/timesales");
+        }
+    },
+    /**
+     * 예약이 몰리는 구간. 모든 사용자가 동시에 시작해 예약 생성을 반복하고 사이사이 객실과 예약을 조회한다.
+     */
+    BOOKING_BURST(500, 30, 0) {
+        @Override
+        public LoadRequest next(Target target, SplittableRandom random) {
+            int pick = random.nextInt(100);
+            if (pick < 70) {
+                return target.createReservation(target.randomRoom(random), random);
+            }
+            if (pick < 90) {
+                return target.get("rooms.detail", "/rooms/" + target.randomRoom(random));
+            }
+            return target.get("reservations.detail", "/reservations/" + (random.nextInt(target.reservations) + 1));
+        }
+    },
+    /**
+     * 타임특가 공개 직후. 모든 사용자가 같은 순간에 특가 목록을 열고, 특가 호텔 상세를 본 뒤 특가 객실을 예약한다.
+     */
+    TIMESALE_LAUNCH(1_000, 30, 0) {
+        @Override
+        public LoadRequest next(Target target, SplittableRandom random) {
+            int pick = random.nextInt(100);
+            if (pick < 50) {
+                return target.get("timesales.list", "/timesales?page=" + random.nextInt(3));
+            }
+            long room = target.randomTimesaleRoom(random);
+            if (pick < 80) {
+                return target.get("hotels.detail", "/hotels/" + SyntheticDataGenerator.hotelOfRoom(room,
+                        target.hotels));
+            }
+            return target.createReservation(room, random);
+        }
+    };
+
+    private final int defaultUsers;
+    private final int defaultDurationSeconds;
+    private final int defaultWarmupSeconds;
+
+    LoadProfile(int defaultUsers, int defaultDurationSeconds, int defaultWarmupSeconds) {
+        this.defaultUsers = defaultUsers;
+        this.defaultDurationSeconds = defaultDurationSeconds;
+        this.defaultWarmupSeconds = defaultWarmupSeconds;
+    }
+
+    public abstract LoadRequest next(Target target, SplittableRandom random);
+
+    public int getDefaultUsers() {
+        return defaultUsers;
+    }
+
+    public int getDefaultDurationSeconds() {
+        return defaultDurationSeconds;
+    }
+
+    public int getDefaultWarmupSeconds() {
+        return defaultWarmupSeconds;
+    }
+
+    public static LoadProfile of(String name) {
+        return valueOf(name.toUpperCase().replace('-', '_'));
+    }
+
+    public static final class LoadRequest {
+        private final String endpoint;
+        private final HttpRequest request;
+
+        private LoadRequest(String endpoint, HttpRequest request) {
+            this.endpoint = endpoint;
+            this.request = request;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public HttpRequest getRequest() {
+            return request;
+        }
+    }
+
+    /**
+     * 부하를 보낼 서버 주소와 서버를 채울 때 쓴 데이터 크기.
+     */
+    public static final class Target {
+        private static final Duration TIMEOUT = Duration.ofSeconds(10);
+        private static final String[] KEYWORDS = {"오션", "해운대", "강남", "제주", "펜션"};
+
+        private final String baseUrl;
+        private final int hotels;
+        private final int rooms;
+        private final int reservations;
+        private final LocalDate anchorDate;
+
+        public Target(String baseUrl, int hotels, int rooms, int reservations, LocalDate anchorDate) {
+            this.baseUrl = baseUrl;
+            this.hotels = hotels;
+            this.rooms = rooms;
+            this.reservations = reservations;
+            this.anchorDate = anchorDate;
+        }
+
+        private LoadRequest get(String endpoint, String path) {
+            return new LoadRequest(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(TIMEOUT)
+                    .GET()
+                    .build());
+        }
+
+        /**
+         * 시드 데이터의 투숙일과 겹치지 않도록 기준일 한 달 뒤부터 두 달 사이에 예약한다.
+         */
+        private LoadRequest createReservation(long roomId, SplittableRandom random) {
+            LocalDate startAt = anchorDate.plusDays(30 + random.nextInt(60));
+            int adultCount = random.nextInt(1, 3);
+            String body = ("{\"roomId\":%d,\"price\":%d,\"visitorCount\":%d,\"adultCount\":%d,\"childCount\":0,"
+                    + "\"startAt\":\"%s\",\"endAt\":\"%s\",\"status\":\"CREATED\"}")
+                    .formatted(roomId, random.nextInt(50, 500) * 1_000, adultCount, adultCount, startAt,
+                            startAt.plusDays(random.nextInt(1, 3)));
+            return new LoadRequest("reservations.create", HttpRequest.newBuilder(URI.create(baseUrl + "/reservations"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("User-Id", String.valueOf(randomGuest(random)))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+
+        private String hotelSearchQuery(SplittableRandom random) {
+            String[] region = SyntheticDataGenerator.REGIONS[random.nextInt(SyntheticDataGenerator.REGIONS.length)];
+            LocalDate startAt = anchorDate.plusDays(random.nextInt(1, 10));
+            return switch (random.nextInt(6)) {
+                case 0 -> "keyword=" + encode(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+                case 1 -> "province=" + encode(region[0]) + "&district=" + encode(region[2]);
+                case 2 -> "wifi=true&parkingLot=true";
+                case 3 -> "category=HOTEL&people=" + random.nextInt(1, 5);
+                case 4 -> "searchStartAt=%s&searchEndAt=%s".formatted(startAt, startAt.plusDays(2));
+                default -> "city=" + encode(region[1]) + "&breakfast=true";
+            };
+        }
+
+        private long randomHotel(SplittableRandom random) {
+            return random.nextInt(hotels) + 1;
+        }
+
+        private long randomRoom(SplittableRandom random) {
+            return random.nextInt(rooms) + 1;
+        }
+
+        private long randomTimesaleRoom(SplittableRandom random) {
+            long timesaleRooms = Math.max(1, SyntheticDataGenerator.timesaleRoomCount(rooms));
+            return (random.nextLong(timesaleRooms) + 1) * SyntheticDataGenerator.TIMESALE_ROOM_INTERVAL;
+        }
+
+        private long randomGuest(SplittableRandom random) {
+            return hotels + 1 + random.nextInt(SyntheticDataGenerator.guestsOf(reservations));
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.pser.hotel.global.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pser.hotel.global.bench.LoadProfile.LoadRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadProfile 하나를 실행 중인 서버에 정해진 시간 동안 보내고 엔드포인트별 처리량, 응답 코드, 지연 분포를 출력한 뒤 JSON 으로 남긴다.
+ * 워밍업 동안 보낸 요청은 세지 않는다.
+ * <ul>
+ * <li>closed-loop(기본): 가상 사용자마다 가상 스레드 하나가 응답을 받은 뒤 다음 요청을 보낸다. 서버가 느려지면 요청도 줄어드는
+ * coordinated omission 때문에 꼬리 지연이 실제보다 작게 나오므로 처리량 한계를 볼 때만 쓴다.</li>
+ * <li>open-loop(--load.rate=초당 요청 수): 응답과 상관없이 정해진 간격으로 요청을 보내고, 지연을 보내기로 한 시각부터 잰다.
+ * 서버가 밀리면 기다린 시간까지 지연에 들어가므로 p99 이상을 비교할 때는 이 모드를 쓴다.</li>
+ * </ul>
+ * <pre>
+ * java -cp build/libs/hotel-0.0.1-SNAPSHOT-jmh.jar com.pser.hotel.global.bench.LoadProfileRunner \
+ *     --load.profile=search-heavy --load.users=200 --load.duration-seconds=60 \
+ *     --load.hotels=10000 --load.rooms=100000 --load.reservations=1000000 --load.seed=42 [--load.rate=500]
+ * </pre>
+ * 결과는 build/load/{profile}.json 에 남으므로 커밋마다 복사해 두고 비교한다.
+ */
+public class LoadProfileRunner {
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+
+        LoadProfile profile = LoadProfile.of(options.getOrDefault("load.profile", "search-heavy"));
+        int users = intOption(options, "load.users", profile.getDefaultUsers());
+        int ratePerSecond = intOption(options, "load.rate", 0);
+        int durationSeconds = intOption(options, "load.duration-seconds", profile.getDefaultDurationSeconds());
+        int warmupSeconds = intOption(options, "load.warmup-seconds", profile.getDefaultWarmupSeconds());
+        long seed = Long.parseLong(options.getOrDefault("load.seed", "42"));
+        LoadProfile.Target target = new LoadProfile.Target(
+                options.getOrDefault("load.base-url", "http://localhost:8080"),
+                intOption(options, "load.hotels", 10_000),
+                intOption(options, "load.rooms", 100_000),
+                intOption(options, "load.reservations", 1_000_000),
+                LocalDate.now());
+        File output = new File(options.getOrDefault("load.output",
+                "build/load/" + profile.name().toLowerCase().replace('_', '-') + ".json"));
+
+        new LoadProfileRunner().run(profile, target, users, ratePerSecond, warmupSeconds, durationSeconds, seed,
+                output);
+    }
+
+    public void run(LoadProfile profile, LoadProfile.Target target, int users, int ratePerSecond, int warmupSeconds,
+                    int durationSeconds, long seed, File output) throws Exception {
+        if (ratePerSecond > 0) {
+            runOpenLoop(profile, target, ratePerSecond, warmupSeconds, durationSeconds, seed);
+        } else {
+            runClosedLoop(profile, target, users, warmupSeconds, durationSeconds, seed);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profile.name());
+        report.put("mode", ratePerSecond > 0 ? "open-loop" : "closed-loop");
+        report.put("users", ratePerSecond > 0 ? null : users);
+        report.put("ratePerSecond", ratePerSecond > 0 ? ratePerSecond : null);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("durationSeconds", durationSeconds);
+        report.put("seed", seed);
+        report.put("endpoints", summarize(durationSeconds));
+        print(report);
+
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.printf("report written to %s%n", output.getPath());
+    }
+
+    private void runClosedLoop(LoadProfile profile, LoadProfile.Target target, int users, int warmupSeconds,
+                               int durationSeconds, long seed) {
+        CountDownLatch start = new CountDownLatch(1);
+        long[] window = new long[2];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                SplittableRandom random = new SplittableRandom(seed + user);
+                executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < window[1]) {
+                        send(profile.next(target, random), System.nanoTime(), window[0]);
+                    }
+                    return null;
+                });
+            }
+            window[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            window[1] = window[0] + TimeUnit.SECONDS.toNanos(durationSeconds);
+            start.countDown();
+        }
+    }
+
+    /**
+     * 요청마다 가상 스레드를 하나씩 띄우므로 서버가 밀려도 보내는 간격은 그대로이고, 동시에 떠 있는 요청 수만 늘어난다.
+     */
+    private void runOpenLoop(LoadProfile profile, LoadProfile.Target target, int ratePerSecond, int warmupSeconds,
+                             int durationSeconds, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long until = recordFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sent = 0; ; sent++) {
+                long intended = start + sent * intervalNanos;
+                if (intended >= until) {
+                    break;
+                }
+                LockSupport.parkNanos(intended - System.nanoTime());
+                LoadRequest request = profile.next(target, random);
+                executor.submit(() -> send(request, intended, recordFrom));
+            }
+        }
+    }
+
+    /**
+     * 워밍업이 끝난 뒤 시작하기로 한 요청만 기록하고, 지연은 started 부터 잰다. 연결 실패나 타임아웃은 응답 코드 대신 io_error 로 센다.
+     */
+    private void send(LoadRequest request, long started, long recordFrom) {
+        String status;
+        try {
+            status = String.valueOf(client.send(request.getRequest(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode());
+        } catch (IOException e) {
+            status = "io_error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (started < recordFrom) {
+            return;
+        }
+        Timer.builder("load.request")
+                .tag("endpoint", request.getEndpoint())
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        registry.counter("load.response", "endpoint", request.getEndpoint(), "status", status).increment();
+    }
+
+    private Map<String, Object> summarize(int durationSeconds) {
+        Map<String, Object> endpoints = new TreeMap<>();
+        for (Meter meter : registry.getMeters()) {
+            if (!(meter instanceof Timer timer)) {
+                continue;
+            }
+            String endpoint = timer.getId().getTag("endpoint");
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", snapshot.count());
+            summary.put("throughputPerSecond", (double) snapshot.count() / durationSeconds);
+            summary.put("statuses", statusesOf(endpoint));
+            summary.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                summary.put("p" + (percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+            }
+            summary.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            endpoints.put(endpoint, summary);
+        }
+        return endpoints;
+    }
+
+    private Map<String, Long> statusesOf(String endpoint) {
+        Map<String, Long> statuses = new TreeMap<>();
+        for (Counter counter : registry.find("load.response").tag("endpoint", endpoint).counters()) {
+            statuses.put(counter.getId().getTag("status"), (long) counter.count());
+        }
+        return statuses;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.printf("%n%s, %s, users=%s, rate=%s/s, %s s%n", report.get("profile"), report.get("mode"),
+                report.get("users"), report.get("ratePerSecond"), report.get("durationSeconds"));
+        System.out.printf("%-22s %9s %10s %9s %9s %9s %9s %9s  %s%n", "endpoint", "count", "req/s", "p50(ms)",
+                "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "statuses");
+        ((Map<String, Map<String, Object>>) report.get("endpoints")).forEach((endpoint, summary) ->
+                System.out.printf("%-22s %9d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n", endpoint,
+                        summary.get("count"), summary.get("throughputPerSecond"), summary.get("p50.0Ms"),
+                        summary.get("p90.0Ms"), summary.get("p99.0Ms"), summary.get("p99.9Ms"),
+                        summary.get("maxMs"), summary.get("statuses")));
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pser.hotel.global.bench;
+
+import com.pser.hotel.HotelApplication;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * embedded Kafka broker 와 H2(MariaDB 모드) 위에 애플리케이션 전체를 띄우고 SyntheticDataGenerator 로 채운 뒤 요청을 기다린다.
+ * LoadProfileRunner 와 같은 load.* 값을 넘겨야 두 쪽이 같은 id 범위를 쓴다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -Xmx6g -cp build/libs/hotel-0.0.1-SNAPSHOT-jmh.jar com.pser.hotel.global.bench.LocalLoadServer \
+ *     --load.hotels=10000 --load.rooms=100000 --load.reservations=1000000 --load.seed=42
+ * </pre>
+ * --spring.datasource.url 로 로컬 MariaDB 를 가리킬 수도 있다. 이때도 ddl-auto=create 로 스키마를 새로 만들므로 비어 있는 DB 에만 쓰고,
+ * batch insert 가 묶여 전송되도록 URL 에 useBulkStmts=true 를 붙인다.
+ */
+public class LocalLoadServer {
+    public static void main(String[] args) throws Exception {
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaKraftBroker(1, 3, topics());
+        broker.afterPropertiesSet();
+
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.datasource.url", BenchmarkDatabase.H2_URL);
+        defaults.put("spring.jpa.hibernate.ddl-auto", "create");
+        defaults.put("kafka.bootstrap-servers", broker.getBrokersAsString());
+        defaults.put("kafka.consumer-group-id", "hotel-load");
+        defaults.put("gateway.url", "http://localhost:8080");
+        defaults.put("management.endpoints.web.exposure.include", "health,prometheus");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HotelApplication.class)
+                .properties(defaults)
+                .run(args);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            context.close();
+            broker.destroy();
+        }));
+
+        Environment env = context.getEnvironment();
+        if (env.getProperty("load.seed.enabled", Boolean.class, true)) {
+            int hotels = env.getProperty("load.hotels", Integer.class, 10_000);
+            int rooms = env.getProperty("load.rooms", Integer.class, 100_000);
+            int reservations = env.getProperty("load.reservations", Integer.class, 1_000_000);
+            long seed = env.getProperty("load.seed", Long.class, 42L);
+            seed(context.getBean(DataSource.class), seed, hotels, rooms, reservations);
+        }
+        System.out.printf("ready on port %s, kafka %s%n", env.getProperty("local.server.port"),
+                broker.getBrokersAsString());
+    }
+
+    private static void seed(DataSource dataSource, long seed, int hotels, int rooms, int reservations)
+            throws Exception {
+        long started = System.nanoTime();
+        Map<String, Long> rowCounts = new SyntheticDataGenerator(dataSource, seed, LocalDate.now())
+                .generate(hotels, rooms, reservations, reservations / 10);
+        double minutes = (System.nanoTime() - started) / 60_000_000_000.0;
+        long totalRows = rowCounts.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf("seeded %s%n%d rows in %.2f min (%.0f rows/min)%n", rowCounts, totalRows, minutes,
+                totalRows / minutes);
+    }
+
+    private static String[] topics() throws IllegalAccessException {
+        Field[] fields = KafkaTopics.class.getFields();
+        String[] topics = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            topics[i] = (String) fields[i].get(null);
+        }
+        return topics;
+    }
+}
@@ -0,0 +1,455 @@
+package com.pser.hotel.global.bench;
+
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryBackfillStatus;
+import com.pser.hotel.domain.hotel.domain.AmenityFlag;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.global.util.GeoHash;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+/**
+ * 같은 seed 와 기준일이면 항상 같은 행을 만드는 합성 데이터 생성기. JPA 를 거치지 않고 JDBC batch insert 로 바로 채운다.
+ * 객실마다 예약을 STAY_SPACING_DAYS 간격으로 겹치지 않게 깔아 절반은 기준일 이전(PAST), 절반은 이후(BEFORE_CHECKIN)가 되게 하고,
+ * 기준일부터 INVENTORY_DAYS 안의 예약된 밤만 room_night_inventory 에 남기고, 재고 백필은 끝난 것으로 기록한다. TIMESALE_ROOM_INTERVAL 번째 객실마다 기준일 전후로
+ * 진행 중인 타임특가를 건다. id 는 1 부터 직접 넣은 뒤 테이블별 시퀀스를 다음 값으로 옮기므로 이후 애플리케이션이 넣는 행과 겹치지 않는다.
+ * H2 와 MariaDB 를 지원하며, 스키마는 미리 만들어져 있어야 한다(ddl-auto=create 로 한 번 띄운 빈 DB).
+ */
+public class SyntheticDataGenerator {
+    public static final int TIMESALE_ROOM_INTERVAL = 50;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int STAY_SPACING_DAYS = 4;
+    private static final int INVENTORY_DAYS = 14;
+    private static final int SEQUENCE_INCREMENT = 50;
+    static final String[][] REGIONS = {
+            {"서울특별시", "서울시", "강남구"},
+            {"서울특별시", "서울시", "마포구"},
+            {"서울특별시", "서울시", "종로구"},
+            {"부산광역시", "부산시", "해운대구"},
+            {"부산광역시", "부산시", "수영구"},
+            {"제주특별자치도", "제주시", "애월읍"},
+            {"제주특별자치도", "서귀포시", "중문동"},
+            {"강원특별자치도", "강릉시", "경포동"},
+            {"강원특별자치도", "속초시", "조양동"},
+            {"경상북도", "경주시", "황남동"}
+    };
+    static final double[][] REGION_CENTERS = {
+            {37.4979, 127.0276}, {37.5563, 126.9220}, {37.5704, 126.9920}, {35.1631, 129.1635}, {35.1455, 129.1133},
+            {33.4628, 126.3095}, {33.2496, 126.4124}, {37.7956, 128.9083}, {38.1903, 128.6017}, {35.8342, 129.2128}
+    };
+    private static final String[] BRANDS = {"그랜드", "시티", "오션", "포레스트", "스테이", "라움", "하버", "힐사이드"};
+
+    private final DataSource dataSource;
+    private final long seed;
+    private final LocalDate anchorDate;
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+    public SyntheticDataGenerator(DataSource dataSource, long seed, LocalDate anchorDate) {
+        this.dataSource = dataSource;
+        this.seed = seed;
+        this.anchorDate = anchorDate;
+    }
+
+    public static int guestsOf(int reservations) {
+        return Math.max(1_000, reservations / 10);
+    }
+
+    /**
+     * 테이블별로 넣은 행 수를 넣은 순서대로 돌려준다.
+     */
+    public Map<String, Long> generate(int hotels, int rooms, int reservations, int reviews) throws SQLException {
+        if (hotels < 1 || rooms < hotels || reviews > reservations) {
+            throw new IllegalArgumentException("hotels >= 1, rooms >= hotels, reviews <= reservations 이어야 합니다");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int guests = guestsOf(reservations);
+        rowCounts.clear();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertUsers(connection, hotels + guests);
+            insertHotels(connection, random, hotels);
+            int[] totalRooms = insertRooms(connection, random, hotels, rooms);
+            insertTimeSales(connection, random, totalRooms.length - 1);
+            insertReservations(connection, random, hotels, guests, totalRooms, reservations);
+            insertReviews(connection, random, reviews);
+            insertRatingSummaries(connection);
+            insertInventoryBackfillMarker(connection);
+            for (String table : rowCounts.keySet()) {
+                restartSequence(connection, table);
+            }
+            connection.commit();
+        }
+        return new LinkedHashMap<>(rowCounts);
+    }
+
+    private void insertUsers(Connection connection, int users) throws SQLException {
+        try (Batch batch = new Batch(connection, "user", "id, created_at, updated_at, email, password, role")) {
+            Timestamp createdAt = timestamp(anchorDate.minusYears(1));
+            for (long id = 1; id <= users; id++) {
+                PreparedStatement ps = batch.statement();
+                ps.setLong(1, id);
+                ps.setTimestamp(2, createdAt);
+                ps.setTimestamp(3, createdAt);
+                ps.setString(4, "user" + id + "@pser.dev");
+                ps.setString(5, "password");
+                ps.setInt(6, 0);
+                batch.add();
+            }
+        }
+    }
+
+    private void insertHotels(Connection connection, SplittableRandom random, int hotels) throws SQLException {
+        List<FacilityFlag> flags = Arrays.asList(FacilityFlag.values());
+        try (Batch hotelBatch = new Batch(connection, "hotel", "id, created_at, updated_at, name, category, "
+                + "description, notice, province, city, district, detailed_address, latitude, longitude, geohash, "
+                + "main_image, business_number, cert_url, visit_guidance, user_id");
+             Batch facilityBatch = new Batch(connection, "facility", "id, created_at, updated_at, "
+                     + columnsOf(flags.stream().map(FacilityFlag::getProperty).toList())
+                     + ", facility_mask, hotel_id");
+             Batch imageBatch = new Batch(connection, "hotel_image",
+                     "id, created_at, updated_at, image_url, hotel_id")) {
+            long imageId = 0;
+            for (long id = 1; id <= hotels; id++) {
+                int region = random.nextInt(REGIONS.length);
+                int category = random.nextInt(4) == 0 ? 1 : 0;
+                double latitude = REGION_CENTERS[region][0] + (random.nextDouble() - 0.5) * 0.1;
+                double longitude = REGION_CENTERS[region][1] + (random.nextDouble() - 0.5) * 0.1;
+                Timestamp createdAt = timestamp(anchorDate.minusDays(random.nextInt(1, 365)));
+
+                PreparedStatement hotel = hotelBatch.statement();
+                hotel.setLong(1, id);
+                hotel.setTimestamp(2, createdAt);
+                hotel.setTimestamp(3, createdAt);
+                hotel.setString(4, "%s %s %s %d".formatted(BRANDS[random.nextInt(BRANDS.length)], REGIONS[region][2],
+                        category == 0 ? "호텔" : "펜션", id));
+                hotel.setInt(5, category);
+                hotel.setString(6, "바다와 도심을 모두 누릴 수 있는 숙소입니다.");
+                hotel.setString(7, "체크인은 15시부터입니다.");
+                hotel.setString(8, REGIONS[region][0]);
+                hotel.setString(9, REGIONS[region][1]);
+                hotel.setString(10, REGIONS[region][2]);
+                hotel.setString(11, REGIONS[region][2] + " " + random.nextInt(1, 500) + "번길 " + random.nextInt(1, 50));
+                hotel.setDouble(12, latitude);
+                hotel.setDouble(13, longitude);
+                hotel.setString(14, GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION));
+                hotel.setString(15, "https://img.pser.dev/hotels/" + id + "/main.jpg");
+                hotel.setString(16, "%03d-%02d-%05d".formatted(random.nextInt(1000), random.nextInt(100),
+                        random.nextInt(100_000)));
+                hotel.setString(17, "https://img.pser.dev/hotels/" + id + "/cert.jpg");
+                hotel.setString(18, "역에서 도보 5분 거리입니다.");
+                hotel.setLong(19, id);
+                hotelBatch.add();
+
+                long mask = random.nextLong() & ((1L << flags.size()) - 1);
+                PreparedStatement facility = facilityBatch.statement();
+                facility.setLong(1, id);
+                facility.setTimestamp(2, createdAt);
+                facility.setTimestamp(3, createdAt);
+                for (int i = 0; i < flags.size(); i++) {
+                    facility.setBoolean(4 + i, (mask & flags.get(i).bit()) != 0);
+                }
+                facility.setLong(4 + flags.size(), mask);
+                facility.setLong(5 + flags.size(), id);
+                facilityBatch.add();
+
+                for (int i = random.nextInt(1, 4); i > 0; i--) {
+                    PreparedStatement image = imageBatch.statement();
+                    image.setLong(1, ++imageId);
+                    image.setTimestamp(2, createdAt);
+                    image.setTimestamp(3, createdAt);
+                    image.setString(4, "https://img.pser.dev/hotels/" + id + "/" + i + ".jpg");
+                    image.setLong(5, id);
+                    imageBatch.add();
+                }
+            }
+        }
+    }
+
+    /**
+     * 객실 id 를 호텔 수로 나눈 나머지로 호텔에 고르게 나누고, 객실별 재고(total_rooms)를 돌려준다.
+     */
+    private int[] insertRooms(Connection connection, SplittableRandom random, int hotels, int rooms)
+            throws SQLException {
+        List<AmenityFlag> flags = Arrays.asList(AmenityFlag.values());
+        int[] totalRooms = new int[rooms + 1];
+        try (Batch roomBatch = new Batch(connection, "room", "id, created_at, updated_at, hotel_id, name, "
+                + "description, precaution, price, check_in, check_out, standard_capacity, max_capacity, total_rooms");
+             Batch amenityBatch = new Batch(connection, "amenity", "id, created_at, updated_at, room_id, "
+                     + columnsOf(flags.stream().map(AmenityFlag::getProperty).toList())
+                     + ", amenity_mask")) {
+            Time checkIn = Time.valueOf(LocalTime.of(15, 0));
+            Time checkOut = Time.valueOf(LocalTime.of(11, 0));
+            for (int id = 1; id <= rooms; id++) {
+                int standardCapacity = random.nextInt(1, 5);
+                totalRooms[id] = random.nextInt(1, 11);
+                Timestamp createdAt = timestamp(anchorDate.minusDays(random.nextInt(1, 365)));
+
+                PreparedStatement room = roomBatch.statement();
+                room.setLong(1, id);
+                room.setTimestamp(2, createdAt);
+                room.setTimestamp(3, createdAt);
+                room.setLong(4, hotelOfRoom(id, hotels));
+                room.setString(5, (standardCapacity <= 2 ? "스탠다드 " : "패밀리 ") + id);
+                room.setString(6, "창밖으로 전망이 보이는 객실입니다.");
+                room.setString(7, "객실 내 흡연은 금지입니다.");
+                room.setInt(8, random.nextInt(50, 500) * 1_000);
+                room.setTime(9, checkIn);
+                room.setTime(10, checkOut);
+                room.setInt(11, standardCapacity);
+                room.setInt(12, standardCapacity + random.nextInt(3));
+                room.setInt(13, totalRooms[id]);
+                roomBatch.add();
+
+                long mask = random.nextLong() & ((1L << flags.size()) - 1);
+                PreparedStatement amenity = amenityBatch.statement();
+                amenity.setLong(1, id);
+                amenity.setTimestamp(2, createdAt);
+                amenity.setTimestamp(3, createdAt);
+                amenity.setLong(4, id);
+                for (int i = 0; i < flags.size(); i++) {
+                    amenity.setBoolean(5 + i, (mask & flags.get(i).bit()) != 0);
+                }
+                amenity.setLong(5 + flags.size(), mask);
+                amenityBatch.add();
+            }
+        }
+        return totalRooms;
+    }
+
+    private void insertReservations(Connection connection, SplittableRandom random, int hotels, int guests,
+                                    int[] totalRooms, int reservations) throws SQLException {
+        int rooms = totalRooms.length - 1;
+        LocalDate firstStay = firstStayOf(rooms, reservations);
+        LocalDate inventoryEnd = anchorDate.plusDays(INVENTORY_DAYS);
+        try (Batch reservationBatch = new Batch(connection, "reservation", "id, created_at, updated_at, user_id, "
+                + "room_id, merchant_uid, price, start_at, end_at, visitor_count, adult_count, child_count, status");
+             Batch inventoryBatch = new Batch(connection, "room_night_inventory",
+                     "id, created_at, updated_at, room_id, stay_date, booked, total")) {
+            long inventoryId = 0;
+            for (long id = 1; id <= reservations; id++) {
+                int room = (int) ((id - 1) % rooms) + 1;
+                long stay = (id - 1) / rooms;
+                LocalDate startAt = firstStay.plusDays(stay * STAY_SPACING_DAYS + random.nextInt(2));
+                LocalDate endAt = startAt.plusDays(random.nextInt(1, 3));
+                int adultCount = random.nextInt(1, 3);
+                int childCount = random.nextInt(3) == 0 ? 1 : 0;
+                boolean past = endAt.isBefore(anchorDate);
+                Timestamp createdAt = timestamp(startAt.minusDays(random.nextInt(1, 60)));
+
+                PreparedStatement reservation = reservationBatch.statement();
+                reservation.setLong(1, id);
+                reservation.setTimestamp(2, createdAt);
+                reservation.setTimestamp(3, createdAt);
+                reservation.setLong(4, hotels + 1 + random.nextInt(guests));
+                reservation.setLong(5, room);
+                reservation.setString(6, new UUID(random.nextLong(), random.nextLong()).toString());
+                reservation.setInt(7, random.nextInt(50, 500) * 1_000);
+                reservation.setDate(8, Date.valueOf(startAt));
+                reservation.setDate(9, Date.valueOf(endAt));
+                reservation.setInt(10, adultCount + childCount);
+                reservation.setInt(11, adultCount);
+                reservation.setInt(12, childCount);
+                reservation.setInt(13, (past ? ReservationStatusEnum.PAST : ReservationStatusEnum.BEFORE_CHECKIN)
+                        .getValue());
+                reservationBatch.add();
+
+                if (past || !startAt.isBefore(inventoryEnd)) {
+                    continue;
+                }
+                for (LocalDate night = startAt; night.isBefore(endAt); night = night.plusDays(1)) {
+                    PreparedStatement inventory = inventoryBatch.statement();
+                    inventory.setLong(1, ++inventoryId);
+                    inventory.setTimestamp(2, createdAt);
+                    inventory.setTimestamp(3, createdAt);
+                    inventory.setLong(4, room);
+                    inventory.setDate(5, Date.valueOf(night));
+                    inventory.setInt(6, 1);
+                    inventory.setInt(7, totalRooms[room]);
+                    inventoryBatch.add();
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 이른 투숙부터 차례로 리뷰를 단다. 객실 수보다 리뷰가 적으면 모두 첫 번째 투숙(PAST)에 달린다.
+     */
+    private void insertReviews(Connection connection, SplittableRandom random, int reviews) throws SQLException {
+        try (Batch batch = new Batch(connection, "review",
+                "id, created_at, updated_at, grade, detail, reservation_id")) {
+            for (long id = 1; id <= reviews; id++) {
+                int grade = Math.min(5, random.nextInt(1, 7));
+                Timestamp createdAt = timestamp(anchorDate.minusDays(random.nextInt(1, 180)));
+
+                PreparedStatement ps = batch.statement();
+                ps.setLong(1, id);
+                ps.setTimestamp(2, createdAt);
+                ps.setTimestamp(3, createdAt);
+                ps.setInt(4, grade);
+                ps.setString(5, grade >= 4 ? "직원분들이 친절하고 객실이 깨끗했어요." : "위치는 좋았지만 방음이 아쉬웠어요.");
+                ps.setLong(6, id);
+                batch.add();
+            }
+        }
+    }
+
+    private void insertTimeSales(Connection connection, SplittableRandom random, int rooms) throws SQLException {
+        try (Batch batch = new Batch(connection, "time_sale",
+                "id, created_at, updated_at, room_id, price, start_at, end_at")) {
+            Timestamp createdAt = timestamp(anchorDate.minusDays(7));
+            long id = 0;
+            for (long roomId = TIMESALE_ROOM_INTERVAL; roomId <= rooms; roomId += TIMESALE_ROOM_INTERVAL) {
+                PreparedStatement ps = batch.statement();
+                ps.setLong(1, ++id);
+                ps.setTimestamp(2, createdAt);
+                ps.setTimestamp(3, createdAt);
+                ps.setLong(4, roomId);
+                ps.setInt(5, random.nextInt(30, 300) * 1_000);
+                ps.setTimestamp(6, Timestamp.valueOf(anchorDate.minusDays(1).atStartOfDay()));
+                ps.setTimestamp(7, Timestamp.valueOf(anchorDate.plusDays(2).atStartOfDay()));
+                batch.add();
+            }
+        }
+    }
+
+    private void insertInventoryBackfillMarker(Connection connection) throws SQLException {
+        try (Batch batch = new Batch(connection, "sweep_watermark",
+                "id, created_at, updated_at, name, watermark_date")) {
+            PreparedStatement ps = batch.statement();
+            Timestamp now = timestamp(anchorDate);
+            ps.setLong(1, 1);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setString(4, RoomNightInventoryBackfillStatus.NAME);
+            ps.setDate(5, Date.valueOf(anchorDate));
+            batch.add();
+        }
+    }
+
+    private void insertRatingSummaries(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("insert into hotel_rating_summary (id, "
+                + "created_at, updated_at, hotel_id, review_count, grade_sum, one_star_count, two_stars_count, "
+                + "three_stars_count, four_stars_count, five_stars_count) "
+                + "select rm.hotel_id, ?, ?, rm.hotel_id, count(*), sum(rv.grade), "
+                + "sum(case when rv.grade = 1 then 1 else 0 end), sum(case when rv.grade = 2 then 1 else 0 end), "
+                + "sum(case when rv.grade = 3 then 1 else 0 end), sum(case when rv.grade = 4 then 1 else 0 end), "
+                + "sum(case when rv.grade = 5 then 1 else 0 end) "
+                + "from review rv join reservation r on r.id = rv.reservation_id join room rm on rm.id = r.room_id "
+                + "group by rm.hotel_id")) {
+            Timestamp now = timestamp(anchorDate);
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            rowCounts.put("hotel_rating_summary", (long) ps.executeUpdate());
+            connection.commit();
+        }
+    }
+
+    /**
+     * pooled optimizer 는 시퀀스 값을 할당 구간의 끝으로 쓰므로 max(id) + SEQUENCE_INCREMENT 부터 다시 시작해야
+     * 다음 구간이 max(id) + 1 부터 시작한다.
+     */
+    private void restartSequence(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long next;
+            try (ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+                resultSet.next();
+                next = resultSet.getLong(1) + SEQUENCE_INCREMENT;
+            }
+            statement.execute("alter sequence " + table + "_seq restart with " + next);
+        }
+    }
+
+    public LocalDate getAnchorDate() {
+        return anchorDate;
+    }
+
+    public LocalDate firstStayOf(int rooms, int reservations) {
+        long staysPerRoom = (reservations + rooms - 1) / rooms;
+        return anchorDate.minusDays(staysPerRoom * STAY_SPACING_DAYS / 2);
+    }
+
+    public static long hotelOfRoom(long roomId, int hotels) {
+        return (roomId - 1) % hotels + 1;
+    }
+
+    public static long timesaleRoomCount(int rooms) {
+        return rooms / TIMESALE_ROOM_INTERVAL;
+    }
+
+    private static Timestamp timestamp(LocalDate date) {
+        return Timestamp.valueOf(LocalDateTime.of(date, LocalTime.NOON));
+    }
+
+    private static String columnsOf(List<String> properties) {
+        return properties.stream()
+                .map(property -> property.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private final class Batch implements AutoCloseable {
+        private final Connection connection;
+        private final String table;
+        private final PreparedStatement statement;
+        private int pending;
+        private long rows;
+
+        private Batch(Connection connection, String table, String columns) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.statement = connection.prepareStatement("insert into %s (%s) values (%s)".formatted(table, columns,
+                    placeholders(columns.split(",").length)));
+        }
+
+        private PreparedStatement statement() {
+            return statement;
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            rows++;
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                rowCounts.put(table, rows);
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.pser.hotel.global.config.kafka.producer;
+
+import com.pser.hotel.domain.hotel.dto.ReservationDto;
+import com.pser.hotel.global.common.PaymentDto;
+import com.pser.hotel.global.config.kafka.serde.KafkaSerde;
+import com.pser.hotel.global.config.kafka.serde.SerdeFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * embedded broker 에 세 종류의 메시지를 번갈아 보내며 초당 메시지 수를 잰다.
+ * separate 는 이전처럼 타입마다 기본 설정 producer 를 따로 쓰고, shared 는 KafkaProducerConfig 의 공용 producer 를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KafkaProducerBenchmark {
+    private static final int MESSAGES = 1000;
+    private static final String TOPIC = "benchmark";
+
+    @Param({"separate", "shared"})
+    private String producer;
+
+    private EmbeddedKafkaBroker broker;
+    private final List<DefaultKafkaProducerFactory<String, ?>> factories = new ArrayList<>();
+    private KafkaTemplate<String, String> stringTemplate;
+    private KafkaTemplate<String, PaymentDto> paymentTemplate;
+    private KafkaTemplate<String, ReservationDto> reservationTemplate;
+    private PaymentDto paymentDto;
+    private ReservationDto reservationDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+        KafkaSerde kafkaSerde = new KafkaSerde(SerdeFormat.JSON);
+
+        if (producer.equals("shared")) {
+            StandardEnvironment env = new StandardEnvironment();
+            env.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                    Map.of("kafka.bootstrap-servers", broker.getBrokersAsString())));
+            ProducerFactory<String, Object> shared = new KafkaProducerConfig(env, kafkaSerde).kafkaProducerFactory();
+            factories.add((DefaultKafkaProducerFactory<String, Object>) shared);
+            stringTemplate = template(shared);
+            paymentTemplate = template(shared);
+            reservationTemplate = template(shared);
+        } else {
+            stringTemplate = new KafkaTemplate<>(separate(new StringSerializer()));
+            paymentTemplate = new KafkaTemplate<>(separate(kafkaSerde.serializer()));
+            reservationTemplate = new KafkaTemplate<>(separate(kafkaSerde.serializer()));
+        }
+
+        paymentDto = PaymentDto.builder().impUid("imp_123456789012").merchantUid("merchant_1").amount(150000)
+                .status("paid").build();
+        reservationDto = ReservationDto.builder().id(1L).userId(1L).roomId(1L).price(150000).visitorCount(2).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factories.forEach(DefaultKafkaProducerFactory::destroy);
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void send() {
+        CompletableFuture<?>[] futures = new CompletableFuture[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            String key = String.valueOf(i);
+            futures[i] = switch (i % 3) {
+                case 0 -> stringTemplate.send(TOPIC, key, key);
+                case 1 -> paymentTemplate.send(TOPIC, key, paymentDto);
+                default -> reservationTemplate.send(TOPIC, key, reservationDto);
+            };
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private <V> DefaultKafkaProducerFactory<String, V> separate(Serializer<V> valueSerializer) {
+        DefaultKafkaProducerFactory<String, V> factory = new DefaultKafkaProducerFactory<>(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringSerializer(), valueSerializer);
+        factories.add(factory);
+        return factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> KafkaTemplate<String, V> template(ProducerFactory<String, ?> producerFactory) {
+        return new KafkaTemplate<>((ProducerFactory<String, V>) producerFactory);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pser.hotel.domain.hotel.dto.FacilityDto;
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.domain.hotel.dto.RoomDto;
+import com.pser.hotel.global.common.PaymentDto;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 기존 *DtoSerializer 방식(JSON 문자열을 거쳐 변환)과 KafkaSerde 의 JSON, Smile 을 메시지 종류별로 비교한다.
+ * 메시지당 바이트 수는 Setup 에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerdeBenchmark {
+    @Param({"LEGACY_JSON", "JSON", "SMILE"})
+    private String format;
+
+    @Param({"payment", "hotel"})
+    private String message;
+
+    private final ObjectMapper legacyMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private KafkaSerde kafkaSerde;
+    private Object value;
+    private Class<?> type;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean legacy = format.equals("LEGACY_JSON");
+        kafkaSerde = new KafkaSerde(legacy ? SerdeFormat.JSON : SerdeFormat.valueOf(format));
+        value = message.equals("payment") ? createPaymentDto() : createHotelDto();
+        type = value.getClass();
+        encoded = legacy ? legacyEncode(value) : kafkaSerde.encode(value);
+        System.out.printf("%n%s/%s: %d bytes per message%n", format, message, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        if (format.equals("LEGACY_JSON")) {
+            return legacyEncode(value);
+        }
+        return kafkaSerde.encode(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        if (format.equals("LEGACY_JSON")) {
+            return legacyMapper.readValue(new String(encoded, StandardCharsets.UTF_8), type);
+        }
+        return kafkaSerde.decode(encoded, type);
+    }
+
+    private byte[] legacyEncode(Object value) throws Exception {
+        return legacyMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private PaymentDto createPaymentDto() {
+        return PaymentDto.builder()
+                .impUid("imp_123456789012")
+                .merchantUid("merchant_20240401_000001")
+                .amount(150000)
+                .status("paid")
+                .payMethod("card")
+                .pgProvider("html5_inicis")
+                .cardName("신한카드")
+                .paidAt(1711942200)
+                .success(true)
+                .build();
+    }
+
+    private HotelDto createHotelDto() {
+        List<RoomDto> rooms = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> RoomDto.builder()
+                        .id(id)
+                        .name("스탠다드 더블 " + id)
+                        .description("오션뷰 객실, 넓은 침대와 욕조가 있고 조식이 포함된 객실입니다")
+                        .price(120000 + (int) id * 10000)
+                        .standardCapacity(2)
+                        .maxCapacity(4)
+                        .totalRooms(10)
+                        .build())
+                .toList();
+        return HotelDto.builder()
+                .id(1L)
+                .createdAt(LocalDateTime.of(2024, 4, 1, 12, 30))
+                .updatedAt(LocalDateTime.of(2024, 4, 1, 12, 30))
+                .name("신라호텔")
+                .description("서울 중구의 호텔입니다")
+                .province("서울특별시")
+                .city("중구")
+                .district("장충동")
+                .detailedAddress("동호로 249")
+                .latitude(37.5556)
+                .longitude(127.0055)
+                .userId(1L)
+                .facility(FacilityDto.builder().parkingLot(true).wifi(true).build())
+                .images(List.of("https://example.com/1.jpg", "https://example.com/2.jpg"))
+                .rooms(rooms)
+                .build();
+    }
+}
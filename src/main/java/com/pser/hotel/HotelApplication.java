@@ -1,5 +1,6 @@
 package com.pser.hotel;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class HotelApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(HotelApplication.class, args);
+        SpringApplication application = new SpringApplication(HotelApplication.class);
+        application.setDefaultProperties(Map.of("management.endpoints.web.exposure.include", "health,prometheus"));
+        application.run(args);
     }
 
 }
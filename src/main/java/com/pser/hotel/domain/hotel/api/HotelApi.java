@@ -1,12 +1,16 @@
 package com.pser.hotel.domain.hotel.api;
 
 import com.pser.hotel.domain.hotel.application.HotelService;
+import com.pser.hotel.domain.hotel.dto.request.HotelBoundsRequest;
 import com.pser.hotel.domain.hotel.dto.request.HotelCreateRequest;
+import com.pser.hotel.domain.hotel.dto.request.HotelNearbyRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
 import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
 import com.pser.hotel.domain.hotel.dto.request.HotelUpdateRequest;
+import com.pser.hotel.global.common.request.Cursor;
 import com.pser.hotel.global.common.response.ApiResponse;
+import com.pser.hotel.global.common.response.CursorSlice;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -38,7 +43,12 @@ public class HotelApi {
     }
 
     @GetMapping // 숙소 전체 조회 api
-    public ResponseEntity<ApiResponse<Slice<HotelSummaryResponse>>> getAllHotel(@PageableDefault Pageable pageable){
+    public ResponseEntity<ApiResponse<Slice<HotelSummaryResponse>>> getAllHotel(@PageableDefault Pageable pageable,
+                                                                               @RequestParam(required = false) String cursor){
+        if (cursor != null) {
+            CursorSlice<HotelSummaryResponse> result = hotelService.getAllHotelData(Cursor.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(result, result.getNextCursor()));
+        }
         return ResponseEntity.ok(ApiResponse.success(hotelService.getAllHotelData(pageable)));
     }
 
@@ -48,6 +58,16 @@ public class HotelApi {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    @GetMapping("/nearby") // 위치 기반 반경 검색 api
+    public ResponseEntity<ApiResponse<Slice<HotelSummaryResponse>>> searchNearbyHotel(HotelNearbyRequest hotelNearbyRequest, @PageableDefault Pageable pageable){
+        return ResponseEntity.ok(ApiResponse.success(hotelService.searchNearbyHotelData(hotelNearbyRequest, pageable)));
+    }
+
+    @GetMapping("/within") // 지도 영역 검색 api
+    public ResponseEntity<ApiResponse<Slice<HotelSummaryResponse>>> searchHotelWithin(HotelBoundsRequest hotelBoundsRequest, @PageableDefault Pageable pageable){
+        return ResponseEntity.ok(ApiResponse.success(hotelService.searchHotelDataWithin(hotelBoundsRequest, pageable)));
+    }
+
     @GetMapping("/{hotelId}") // 특정 숙소 조회 api
     public ResponseEntity<ApiResponse<HotelResponse>> getHotel(@PathVariable Long hotelId){
         return ResponseEntity.ok(ApiResponse.success(hotelService.getHotelDataById(hotelId)));
@@ -3,13 +3,18 @@ package com.pser.hotel.domain.hotel.api;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
 import com.pser.hotel.domain.hotel.dto.request.ReservationCreateRequest;
+import com.pser.hotel.domain.hotel.dto.request.ReservationStatusBulkUpdateRequest;
 import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
+import com.pser.hotel.global.common.StatusUpdateResult;
 import com.pser.hotel.global.common.response.ApiResponse;
 import java.net.URI;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -49,4 +54,14 @@ public class ReservationApi {
         ReservationStatusEnum response = reservationService.checkPayment(reservationId, impUid);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @PatchMapping("/status")
+    @PreAuthorize("@methodAuthorizationManager.isAdmin(#userId)")
+    public ResponseEntity<ApiResponse<Map<Long, StatusUpdateResult>>> updateStatuses(
+            @RequestHeader("User-Id") long userId,
+            @Validated @RequestBody ReservationStatusBulkUpdateRequest request) {
+        Map<Long, StatusUpdateResult> response = reservationService.transitionAllManually(request.getIds(),
+                request.getTargetStatus()).getResults();
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
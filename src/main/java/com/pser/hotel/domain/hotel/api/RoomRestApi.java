@@ -4,11 +4,14 @@ import com.pser.hotel.domain.hotel.application.RoomService;
 import com.pser.hotel.domain.hotel.dto.request.RoomRequest;
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.global.common.request.Cursor;
 import com.pser.hotel.global.common.response.ApiResponse;
+import com.pser.hotel.global.common.response.CursorSlice;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequestMapping("/rooms")
@@ -28,7 +32,12 @@ public class RoomRestApi {
     private final RoomService roomService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<RoomResponse>>> roomList(@PageableDefault Pageable pageable) {
+    public ResponseEntity<ApiResponse<Slice<RoomResponse>>> roomList(@PageableDefault Pageable pageable,
+                                                                     @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            CursorSlice<RoomResponse> result = roomService.findRoomList(Cursor.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(result, result.getNextCursor()));
+        }
         Page<RoomResponse> result = roomService.findRoomList(pageable);
 
         return ResponseEntity.ok(ApiResponse.success(result));
@@ -41,13 +50,26 @@ public class RoomRestApi {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<RoomResponse>>> searchRoom(
-            RoomSearchRequest request, @PageableDefault Pageable pageable) {
+    public ResponseEntity<ApiResponse<Slice<RoomResponse>>> searchRoom(
+            RoomSearchRequest request, @PageableDefault Pageable pageable, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        if (cursor != null) {
+            CursorSlice<RoomResponse> result = roomService.search(request, Cursor.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(result, result.getNextCursor()));
+        }
+        if (!withTotal) {
+            return ResponseEntity.ok(ApiResponse.success(roomService.searchSlice(request, pageable)));
+        }
         Page<RoomResponse> result = roomService.search(request, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    @GetMapping("/search/count")
+    public ResponseEntity<ApiResponse<Long>> countRoom(RoomSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(roomService.countSearch(request)));
+    }
+
     @PostMapping
     @PreAuthorize("@methodAuthorizationManager.isHotelByIdAndRequest(#userId, #request)")
     public ResponseEntity<ApiResponse<Void>> roomSave(@RequestBody RoomRequest request,
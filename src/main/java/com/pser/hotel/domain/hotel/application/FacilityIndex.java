@@ -0,0 +1,131 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.FacilityDao;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 편의시설별로 해당 시설을 가진 숙소 id 를 BitSet 으로 보관해 "모든 시설을 갖춘 숙소" 조회를 DB 없이 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FacilityIndex {
+    private static final int FLAG_COUNT = FacilityFlag.values().length;
+
+    private final FacilityDao facilityDao;
+    private final FlagMaskBackfillService flagMaskBackfillService;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet hotels = new BitSet();
+    private BitSet[] hotelsByFlag = newBitSets();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        flagMaskBackfillService.backfill();
+        rebuild();
+    }
+
+    public void rebuild() {
+        BitSet rebuiltHotels = new BitSet();
+        BitSet[] rebuiltHotelsByFlag = newBitSets();
+        for (Object[] row : facilityDao.findAllMasks()) {
+            int position = toPosition((Long) row[0]);
+            long mask = (Long) row[1];
+            rebuiltHotels.set(position);
+            for (int i = 0; i < FLAG_COUNT; i++) {
+                rebuiltHotelsByFlag[i].set(position, (mask & (1L << i)) != 0);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            hotels = rebuiltHotels;
+            hotelsByFlag = rebuiltHotelsByFlag;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("facility index rebuilt: hotels={}", rebuiltHotels.cardinality());
+    }
+
+    public void put(Long hotelId, long mask) {
+        int position = toPosition(hotelId);
+        lock.writeLock().lock();
+        try {
+            hotels.set(position);
+            for (int i = 0; i < FLAG_COUNT; i++) {
+                hotelsByFlag[i].set(position, (mask & (1L << i)) != 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long hotelId) {
+        int position = toPosition(hotelId);
+        lock.writeLock().lock();
+        try {
+            hotels.clear(position);
+            for (BitSet bitSet : hotelsByFlag) {
+                bitSet.clear(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void refresh(Long hotelId) {
+        facilityDao.findMaskByHotelId(hotelId)
+                .ifPresentOrElse(mask -> put(hotelId, mask), () -> remove(hotelId));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> findHotelIds(long required) {
+        return matching(required).stream()
+                .mapToObj(Long::valueOf)
+                .toList();
+    }
+
+    public int countHotels(long required) {
+        return matching(required).cardinality();
+    }
+
+    private BitSet matching(long required) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) hotels.clone();
+            for (int i = 0; i < FLAG_COUNT && !result.isEmpty(); i++) {
+                if ((required & (1L << i)) != 0) {
+                    result.and(hotelsByFlag[i]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int toPosition(Long hotelId) {
+        return Math.toIntExact(hotelId);
+    }
+
+    private static BitSet[] newBitSets() {
+        BitSet[] bitSets = new BitSet[FLAG_COUNT];
+        for (int i = 0; i < FLAG_COUNT; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
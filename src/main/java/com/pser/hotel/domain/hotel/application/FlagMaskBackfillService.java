@@ -0,0 +1,48 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.domain.AmenityFlag;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 편의시설 컬럼과 비트마스크 컬럼이 어긋난 행만 비트 단위로 보정한다. 여러 인스턴스가 동시에 실행해도 결과가 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlagMaskBackfillService {
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void backfill() {
+        int updated = 0;
+        for (FacilityFlag flag : FacilityFlag.values()) {
+            updated += syncBit("Facility", "facilityMask", flag.getProperty(), flag.bit());
+        }
+        for (AmenityFlag flag : AmenityFlag.values()) {
+            updated += syncBit("Amenity", "amenityMask", flag.getProperty(), flag.bit());
+        }
+        if (updated > 0) {
+            log.info("flag masks backfilled: updatedRows={}", updated);
+        }
+    }
+
+    private int syncBit(String entity, String mask, String property, long bit) {
+        String maskPath = "e." + mask;
+        String bitand = "function('bitand', " + maskPath + ", :bit)";
+
+        int set = entityManager.createQuery("update " + entity + " e set " + maskPath + " = " + maskPath + " + :bit"
+                        + " where e." + property + " = true and " + bitand + " = 0")
+                .setParameter("bit", bit)
+                .executeUpdate();
+        int cleared = entityManager.createQuery("update " + entity + " e set " + maskPath + " = " + maskPath + " - :bit"
+                        + " where (e." + property + " is null or e." + property + " = false) and " + bitand + " <> 0")
+                .setParameter("bit", bit)
+                .executeUpdate();
+        return set + cleared;
+    }
+}
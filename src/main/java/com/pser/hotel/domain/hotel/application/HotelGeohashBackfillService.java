@@ -0,0 +1,36 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.domain.Hotel;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotelGeohashBackfillService {
+    private final HotelDao hotelDao;
+    private final EntityManager entityManager;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        List<Hotel> hotels;
+        while (!(hotels = hotelDao.findTop500ByGeohashIsNull()).isEmpty()) {
+            hotels.forEach(Hotel::syncGeohash);
+            entityManager.flush();
+            entityManager.clear();
+            updated += hotels.size();
+        }
+        if (updated > 0) {
+            log.info("hotel geohash backfilled: updatedRows={}", updated);
+        }
+    }
+}
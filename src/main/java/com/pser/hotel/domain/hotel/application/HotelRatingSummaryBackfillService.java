@@ -0,0 +1,67 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.SweepWatermarkDao;
+import com.pser.hotel.domain.hotel.domain.SweepWatermark;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약 테이블 도입 전에 작성된 리뷰로 호텔별 평점 요약을 채운다. 호텔 묶음마다 한 트랜잭션으로 다시 세므로 여러 인스턴스가 동시에
+ * 실행해도 결과가 같고, 모든 호텔을 마쳐야 완료로 기록한다. 야간 재집계도 같은 경로로 전체 호텔을 다시 센다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotelRatingSummaryBackfillService {
+    public static final String NAME = "hotel-rating-summary.backfill";
+
+    private final HotelDao hotelDao;
+    private final HotelRatingSummaryService hotelRatingSummaryService;
+    private final SweepWatermarkDao sweepWatermarkDao;
+    private final Environment env;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (sweepWatermarkDao.findByName(NAME).isPresent()) {
+            return;
+        }
+        if (rebuildAll() > 0) {
+            log.warn("hotel rating summary backfill incomplete, retrying on next start");
+            return;
+        }
+        try {
+            sweepWatermarkDao.saveAndFlush(SweepWatermark.builder().name(NAME).watermarkDate(LocalDate.now()).build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 완료를 기록했다
+        }
+    }
+
+    public int rebuildAll() {
+        PageRequest chunk = PageRequest.of(0, env.getProperty("rating-summary.rebuild.chunk-size", Integer.class, 500));
+        int summaries = 0;
+        int failures = 0;
+        long afterHotelId = 0;
+        List<Long> hotelIds;
+        while (!(hotelIds = hotelDao.findIdsAfter(afterHotelId, chunk)).isEmpty()) {
+            try {
+                summaries += hotelRatingSummaryService.rebuild(hotelIds);
+            } catch (RuntimeException e) {
+                failures++;
+                log.warn("hotel rating summary rebuild failed: hotelIds={}..{}", hotelIds.get(0),
+                        hotelIds.get(hotelIds.size() - 1), e);
+            }
+            afterHotelId = hotelIds.get(hotelIds.size() - 1);
+        }
+        log.info("hotel rating summaries rebuilt: summaries={}, failedChunks={}", summaries, failures);
+        return failures;
+    }
+}
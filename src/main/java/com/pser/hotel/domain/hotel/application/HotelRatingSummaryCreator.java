@@ -0,0 +1,59 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.HotelRatingSummaryDao;
+import com.pser.hotel.domain.hotel.domain.HotelRatingSummary;
+import com.pser.hotel.domain.model.GradeEnum;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 요약 행이 없는 호텔의 행을 커밋된 리뷰로 집계해 만든다. 별도 트랜잭션이므로 호출한 트랜잭션에서 아직 커밋하지 않은 리뷰 변경은
+ * 포함되지 않고, 호출한 쪽이 행을 잠근 뒤 그 변경을 더한다. 동시에 같은 행을 만들면 unique 제약 위반이 나므로 호출한 쪽이 다시 시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelRatingSummaryCreator {
+    private final HotelRatingSummaryDao hotelRatingSummaryDao;
+    private final HotelDao hotelDao;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createMissing(Collection<Long> hotelIds) {
+        Set<Long> missing = new HashSet<>(hotelIds);
+        hotelRatingSummaryDao.findHotelIdsByHotelIdIn(hotelIds).forEach(missing::remove);
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<GradeEnum, Long>> gradeCountsByHotel = groupGradeCounts(
+                hotelRatingSummaryDao.countGradesGroupByHotel(missing));
+        List<HotelRatingSummary> summaries = missing.stream()
+                .map(hotelId -> {
+                    HotelRatingSummary summary = HotelRatingSummary.builder()
+                            .hotel(hotelDao.getReferenceById(hotelId))
+                            .build();
+                    summary.reset(gradeCountsByHotel.getOrDefault(hotelId, Map.of()));
+                    return summary;
+                })
+                .toList();
+        hotelRatingSummaryDao.saveAllAndFlush(summaries);
+    }
+
+    static Map<Long, Map<GradeEnum, Long>> groupGradeCounts(List<Object[]> rows) {
+        Map<Long, Map<GradeEnum, Long>> gradeCountsByHotel = new HashMap<>();
+        for (Object[] row : rows) {
+            gradeCountsByHotel.computeIfAbsent((Long) row[0], hotelId -> new EnumMap<>(GradeEnum.class))
+                    .put((GradeEnum) row[1], (Long) row[2]);
+        }
+        return gradeCountsByHotel;
+    }
+}
@@ -0,0 +1,86 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.HotelRatingSummaryDao;
+import com.pser.hotel.domain.hotel.domain.HotelRatingSummary;
+import com.pser.hotel.domain.model.GradeEnum;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 변경을 호텔별 평점 요약에 반영한다. 요약 행은 항상 비관적 락을 잡고 고치며, 행이 없으면 커밋된 리뷰로 집계해 먼저 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotelRatingSummaryService {
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private final HotelRatingSummaryDao hotelRatingSummaryDao;
+    private final HotelRatingSummaryCreator hotelRatingSummaryCreator;
+
+    @Transactional
+    public void add(Long hotelId, GradeEnum grade) {
+        getForUpdate(hotelId).add(grade);
+    }
+
+    @Transactional
+    public void remove(Long hotelId, GradeEnum grade) {
+        getForUpdate(hotelId).remove(grade);
+    }
+
+    @Transactional
+    public void change(Long hotelId, GradeEnum from, GradeEnum to) {
+        if (from == to) {
+            return;
+        }
+        getForUpdate(hotelId).change(from, to);
+    }
+
+    /**
+     * 요약 행을 먼저 잠근 뒤 리뷰를 다시 센다. 락을 잡은 동안에는 리뷰 변경이 요약을 고칠 수 없으므로, 센 결과로 덮어써도
+     * 동시에 반영된 증감을 잃지 않는다. REPEATABLE READ 에서는 첫 일반 조회가 스냅샷을 정하므로, 락을 잡기 전에는 이
+     * 트랜잭션에서 일반 조회를 하지 않는다. 없는 행은 별도 트랜잭션에서 만든다.
+     */
+    @Transactional
+    public int rebuild(List<Long> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return 0;
+        }
+        createMissing(hotelIds);
+        List<HotelRatingSummary> summaries = hotelRatingSummaryDao.findWithLockByHotelIdInOrderByHotelIdAsc(hotelIds);
+        Map<Long, Map<GradeEnum, Long>> gradeCountsByHotel = HotelRatingSummaryCreator.groupGradeCounts(
+                hotelRatingSummaryDao.countGradesGroupByHotel(hotelIds));
+        for (HotelRatingSummary summary : summaries) {
+            summary.reset(gradeCountsByHotel.getOrDefault(summary.getHotel().getId(), Map.of()));
+        }
+        return summaries.size();
+    }
+
+    private HotelRatingSummary getForUpdate(Long hotelId) {
+        List<Long> hotelIds = List.of(hotelId);
+        if (hotelRatingSummaryDao.countByHotelIdIn(hotelIds) == 0) {
+            createMissing(hotelIds);
+        }
+        return hotelRatingSummaryDao.findWithLockByHotelIdInOrderByHotelIdAsc(hotelIds).get(0);
+    }
+
+    private void createMissing(List<Long> hotelIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                hotelRatingSummaryCreator.createMissing(hotelIds);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("hotel rating summary created concurrently, retrying: hotelIds={}, attempt={}",
+                        hotelIds, attempt);
+            }
+        }
+    }
+}
@@ -5,23 +5,34 @@ import com.pser.hotel.domain.hotel.dao.HotelDao;
 import com.pser.hotel.domain.hotel.dao.HotelImageDao;
 import com.pser.hotel.domain.hotel.dao.UserDao;
 import com.pser.hotel.domain.hotel.domain.Facility;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
 import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.domain.HotelImage;
 import com.pser.hotel.domain.hotel.dto.HotelDto;
 import com.pser.hotel.domain.hotel.dto.mapper.HotelMapper;
+import com.pser.hotel.domain.hotel.dto.request.HotelBoundsRequest;
 import com.pser.hotel.domain.hotel.dto.request.HotelCreateRequest;
+import com.pser.hotel.domain.hotel.dto.request.HotelNearbyRequest;
 import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
 import com.pser.hotel.domain.hotel.dto.request.HotelUpdateRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
 import com.pser.hotel.domain.hotel.kafka.producer.HotelStatusProducer;
 import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import com.pser.hotel.global.config.cache.CacheNames;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +41,8 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 @RequiredArgsConstructor
 public class HotelService {
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 5;
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
 
     private final HotelDao hotelDao;
     private final FacilityDao facilityDao;
@@ -37,20 +50,64 @@ public class HotelService {
     private final HotelImageDao hotelImageDao;
     private final HotelMapper hotelMapper;
     private final HotelStatusProducer hotelStatusProducer;
+    private final FacilityIndex facilityIndex;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public Slice<HotelSummaryResponse> getAllHotelData(Pageable pageable) {
         return hotelDao.findAllWithGradeAndPrice(pageable);
     }
 
+    public CursorSlice<HotelSummaryResponse> getAllHotelData(Cursor cursor, int size) {
+        return hotelDao.findAllWithGradeAndPrice(cursor, size);
+    }
+
+    @Cacheable(cacheNames = CacheNames.HOTEL, key = "#id")
     public HotelResponse getHotelDataById(Long id) {
         return hotelDao.findHotel(id);
     }
 
     public Slice<HotelSummaryResponse> searchHotelData(HotelSearchRequest hotelSearchRequest,
                                                        Pageable pageable) {
+        long requiredFacilities = FacilityFlag.maskOf(hotelSearchRequest, true);
+        if (requiredFacilities != 0L && facilityIndex.isReady() && facilityIndex.countHotels(requiredFacilities) == 0) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        if (pageable.getSort().isUnsorted()) {
+            Optional<List<Long>> rankedIds = keywordSearchIndex.searchHotels(hotelSearchRequest.getKeyword());
+            if (rankedIds.isPresent()) {
+                return searchHotelDataByRank(hotelSearchRequest, rankedIds.get(), pageable);
+            }
+        }
         return hotelDao.search(hotelSearchRequest, pageable);
     }
 
+    public Slice<HotelSummaryResponse> searchNearbyHotelData(HotelNearbyRequest request, Pageable pageable) {
+        if (request.getLatitude() == null || request.getLongitude() == null) {
+            throw new IllegalArgumentException("위도와 경도는 필수입니다");
+        }
+        double radius = request.getRadius() != null ? request.getRadius() : DEFAULT_NEARBY_RADIUS_KM;
+        if (radius <= 0 || radius > MAX_NEARBY_RADIUS_KM) {
+            throw new IllegalArgumentException("검색 반경이 허용 범위를 벗어났습니다");
+        }
+        validateCoordinate(request.getLatitude(), request.getLongitude());
+        return hotelDao.findNearby(request.getLatitude(), request.getLongitude(), radius, pageable);
+    }
+
+    public Slice<HotelSummaryResponse> searchHotelDataWithin(HotelBoundsRequest request, Pageable pageable) {
+        if (request.getMinLatitude() == null || request.getMinLongitude() == null
+                || request.getMaxLatitude() == null || request.getMaxLongitude() == null) {
+            throw new IllegalArgumentException("검색 영역의 위도와 경도는 필수입니다");
+        }
+        validateCoordinate(request.getMinLatitude(), request.getMinLongitude());
+        validateCoordinate(request.getMaxLatitude(), request.getMaxLongitude());
+        if (request.getMinLatitude() > request.getMaxLatitude()
+                || request.getMinLongitude() > request.getMaxLongitude()) {
+            throw new IllegalArgumentException("검색 영역의 최소값이 최대값보다 클 수 없습니다");
+        }
+        return hotelDao.findWithin(request.getMinLatitude(), request.getMinLongitude(), request.getMaxLatitude(),
+                request.getMaxLongitude(), pageable);
+    }
+
     @Transactional
     public Long saveHotelData(HotelCreateRequest hotelCreateRequest, Long userId) {
         User user = userDao.findById(userId)
@@ -63,10 +120,12 @@ public class HotelService {
         hotelDao.save(hotel);
         HotelDto hotelDto = hotelMapper.toDto(hotel);
         hotelStatusProducer.onCreated(hotelDto);
+        indexHotel(hotel);
         return hotel.getId();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOTEL, key = "#hotelId")
     public void updateHotelData(HotelUpdateRequest hotelUpdateRequest, Long hotelId) {
         Hotel hotel = hotelDao.findById(hotelId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "not found hotel"));
@@ -91,9 +150,11 @@ public class HotelService {
 
         HotelDto hotelDto = hotelMapper.toDto(hotel);
         hotelStatusProducer.onUpdated(hotelDto);
+        indexHotel(hotel);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOTEL, key = "#hotelId")
     public void deleteHotelData(Long hotelId) {
         Hotel hotel = hotelDao.findById(hotelId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "not found hotel"));
@@ -101,6 +162,25 @@ public class HotelService {
 
         hotelDao.delete(hotel);
         hotelStatusProducer.onDeleted(hotelDto);
+        keywordSearchIndex.removeHotel(hotelId);
+    }
+
+    private Slice<HotelSummaryResponse> searchHotelDataByRank(HotelSearchRequest hotelSearchRequest,
+                                                              List<Long> rankedIds, Pageable pageable) {
+        return RankedSearch.page(rankedIds, hotelDao.searchIds(hotelSearchRequest, rankedIds), pageable,
+                ids -> hotelDao.findSummaries(ids).stream()
+                        .collect(Collectors.toMap(HotelSummaryResponse::getId, Function.identity())));
+    }
+
+    private void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다");
+        }
+    }
+
+    private void indexHotel(Hotel hotel) {
+        keywordSearchIndex.indexHotel(hotel.getId(), hotel.getName(), hotel.getProvince(), hotel.getCity(),
+                hotel.getDistrict(), hotel.getDetailedAddress());
     }
 
     private HotelImage createImage(Hotel hotel, String hotelImg) {
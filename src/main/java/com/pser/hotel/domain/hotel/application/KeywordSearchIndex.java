@@ -0,0 +1,173 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.ReviewDao;
+import com.pser.hotel.domain.hotel.dao.RoomDao;
+import com.pser.hotel.domain.hotel.domain.Review;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.global.util.NgramIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 숙소, 객실, 리뷰의 검색 대상 텍스트를 NgramIndex 로 보관해 LIKE '%keyword%' 전체 탐색 없이 관련도 순 id 를 돌려준다.
+ * 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어라면 빈 Optional 을 돌려주고, 호출 측은 기존 DB 검색을 사용한다.
+ * 일치하는 문서가 max-candidates 를 넘어도 빈 Optional 을 돌려준다. 잘린 후보에 DB 조건을 걸면 뒤쪽 후보가 빠지고 전체 건수도 틀리기 때문이다.
+ * 객실과 리뷰의 변경은 숙소처럼 Kafka 로 모든 인스턴스에 전달되어 각자의 색인에 반영된다.
+ * 다시 만드는 동안 들어온 변경은 기존 색인에 반영하면서 기록해 두고, 새 색인으로 바꾸기 직전에 다시 적용해 잃지 않는다.
+ * 변경이 색인을 최신으로 유지하므로 주기적인 재구성은 놓친 이벤트를 바로잡는 용도로 하루 한 번 돈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSearchIndex {
+    private final HotelDao hotelDao;
+    private final RoomDao roomDao;
+    private final ReviewDao reviewDao;
+    private final Environment env;
+    private final Object changeLock = new Object();
+    private volatile Indexes indexes = new Indexes(new NgramIndex(), new NgramIndex(), new NgramIndex());
+    private List<Consumer<Indexes>> pendingChanges = new ArrayList<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (changeLock) {
+            if (pendingChanges == null) {
+                pendingChanges = new ArrayList<>();
+            }
+        }
+        Indexes rebuilt;
+        try {
+            rebuilt = new Indexes(build(hotelDao.findAllKeywordFields()), build(roomDao.findAllKeywordFields()),
+                    build(reviewDao.findAllKeywordFields()));
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = ready ? null : pendingChanges;
+            }
+            throw e;
+        }
+
+        int replayed;
+        synchronized (changeLock) {
+            replayed = pendingChanges.size();
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            indexes = rebuilt;
+            ready = true;
+        }
+        log.info("keyword index rebuilt: hotels={}, rooms={}, reviews={}, replayedChanges={}", rebuilt.hotels().size(),
+                rebuilt.rooms().size(), rebuilt.reviews().size(), replayed);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<List<Long>> searchHotels(String keyword) {
+        return search(indexes.hotels(), keyword);
+    }
+
+    public Optional<List<Long>> searchRooms(String keyword) {
+        return search(indexes.rooms(), keyword);
+    }
+
+    public Optional<List<Long>> searchReviews(String keyword) {
+        return search(indexes.reviews(), keyword);
+    }
+
+    public void indexHotel(Long hotelId, String... fields) {
+        afterCommit(() -> apply(current -> current.hotels().put(hotelId, fields)));
+    }
+
+    public void removeHotel(Long hotelId) {
+        afterCommit(() -> apply(current -> current.hotels().remove(hotelId)));
+    }
+
+    public void indexRoom(Room room) {
+        indexRoom(room.getId(), room.getName(), room.getDescription(), room.getPrecaution());
+    }
+
+    public void indexRoom(Long roomId, String... fields) {
+        afterCommit(() -> apply(current -> current.rooms().put(roomId, fields)));
+    }
+
+    public void removeRoom(Long roomId) {
+        afterCommit(() -> apply(current -> current.rooms().remove(roomId)));
+    }
+
+    public void indexReview(Review review) {
+        indexReview(review.getId(), review.getDetail());
+    }
+
+    public void indexReview(Long reviewId, String detail) {
+        afterCommit(() -> apply(current -> current.reviews().put(reviewId, detail)));
+    }
+
+    public void removeReview(Long reviewId) {
+        afterCommit(() -> apply(current -> current.reviews().remove(reviewId)));
+    }
+
+    private Optional<List<Long>> search(NgramIndex index, String keyword) {
+        if (!ready || !NgramIndex.isSearchable(keyword)) {
+            return Optional.empty();
+        }
+        int maxCandidates = getMaxCandidates();
+        List<Long> ids = index.search(keyword, maxCandidates + 1);
+        if (ids.size() > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(ids);
+    }
+
+    private NgramIndex build(List<Object[]> rows) {
+        NgramIndex index = new NgramIndex();
+        for (Object[] row : rows) {
+            String[] fields = Arrays.stream(row, 1, row.length)
+                    .map(field -> (String) field)
+                    .toArray(String[]::new);
+            index.put((Long) row[0], fields);
+        }
+        return index;
+    }
+
+    private void apply(Consumer<Indexes> change) {
+        synchronized (changeLock) {
+            change.accept(indexes);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int getMaxCandidates() {
+        return env.getProperty("search.keyword.max-candidates", Integer.class, 1000);
+    }
+
+    private record Indexes(NgramIndex hotels, NgramIndex rooms, NgramIndex reviews) {
+    }
+}
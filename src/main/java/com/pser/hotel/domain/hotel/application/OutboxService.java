@@ -0,0 +1,42 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.OutboxEventDao;
+import com.pser.hotel.domain.hotel.domain.OutboxEvent;
+import com.pser.hotel.global.config.kafka.serde.KafkaSerde;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발행할 이벤트를 호출한 트랜잭션 안에서 outbox 테이블에 기록한다. 실제 발행은 OutboxRelay 가 커밋된 이벤트만 모아서 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventDao outboxEventDao;
+    private final KafkaSerde kafkaSerde;
+
+    @Transactional
+    public void enqueue(String topic, Object aggregateKey, Object payload) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .topic(topic)
+                .aggregateKey(String.valueOf(aggregateKey))
+                .payload(kafkaSerde.encode(payload))
+                .build();
+        outboxEventDao.save(outboxEvent);
+    }
+
+    @Transactional
+    public <T> void enqueueAll(String topic, List<T> payloads, Function<T, Object> aggregateKeyOf) {
+        List<OutboxEvent> outboxEvents = payloads.stream()
+                .map(payload -> OutboxEvent.builder()
+                        .topic(topic)
+                        .aggregateKey(String.valueOf(aggregateKeyOf.apply(payload)))
+                        .payload(kafkaSerde.encode(payload))
+                        .build())
+                .toList();
+        outboxEventDao.saveAll(outboxEvents);
+    }
+}
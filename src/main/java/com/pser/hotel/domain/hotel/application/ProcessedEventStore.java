@@ -0,0 +1,120 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pser.hotel.domain.hotel.dao.ProcessedEventDao;
+import com.pser.hotel.domain.hotel.domain.ProcessedEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 처리를 마친 이벤트를 (topic, eventId) 로 기록해 중복 수신을 JPA 조회 없이 걸러낸다. 최근 이벤트는 메모리 캐시에서,
+ * 그보다 오래된 이벤트는 processed_event 테이블에서 확인한다. 처리 후 기록하므로 그 사이에 종료되면 다시 처리될 수 있고,
+ * 이 경우는 기존처럼 상태 전이 검사가 막는다.
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+    private final ProcessedEventDao processedEventDao;
+    private final Environment env;
+    private final Cache<String, Boolean> recent;
+
+    public ProcessedEventStore(ProcessedEventDao processedEventDao, Environment env) {
+        this.processedEventDao = processedEventDao;
+        this.env = env;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(env.getProperty("kafka.idempotency.cache-size", Long.class, 100_000L))
+                .build();
+    }
+
+    public boolean isProcessed(String topic, String eventId) {
+        if (recent.getIfPresent(cacheKey(topic, eventId)) != null) {
+            return true;
+        }
+        boolean processed = processedEventDao.existsByTopicAndEventId(topic, eventId);
+        if (processed) {
+            recent.put(cacheKey(topic, eventId), true);
+        }
+        return processed;
+    }
+
+    public Set<String> findProcessed(String topic, Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        List<String> unknown = eventIds.stream()
+                .filter(eventId -> {
+                    boolean cached = recent.getIfPresent(cacheKey(topic, eventId)) != null;
+                    if (cached) {
+                        processed.add(eventId);
+                    }
+                    return !cached;
+                })
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            for (String eventId : processedEventDao.findEventIds(topic, unknown)) {
+                recent.put(cacheKey(topic, eventId), true);
+                processed.add(eventId);
+            }
+        }
+        return processed;
+    }
+
+    public void markProcessed(String topic, String eventId) {
+        markAllProcessed(topic, List.of(eventId));
+    }
+
+    public void markAllProcessed(String topic, Collection<String> eventIds) {
+        List<ProcessedEvent> processedEvents = eventIds.stream()
+                .distinct()
+                .filter(eventId -> recent.getIfPresent(cacheKey(topic, eventId)) == null)
+                .map(eventId -> ProcessedEvent.builder().topic(topic).eventId(eventId).build())
+                .toList();
+        if (processedEvents.isEmpty()) {
+            return;
+        }
+        try {
+            processedEventDao.saveAll(processedEvents);
+        } catch (DataIntegrityViolationException e) {
+            processedEvents.forEach(this::saveIgnoringDuplicate);
+        }
+        processedEvents.forEach(processedEvent -> recent.put(cacheKey(topic, processedEvent.getEventId()), true));
+    }
+
+    /**
+     * 이미 처리한 이벤트면 건너뛰고, 아니면 action 을 실행한 뒤 처리 완료로 기록한다. action 이 예외를 던지면 기록하지 않는다.
+     */
+    public void runOnce(String topic, String eventId, Runnable action) {
+        if (isProcessed(topic, eventId)) {
+            log.debug("duplicate event skipped: topic={}, eventId={}", topic, eventId);
+            return;
+        }
+        action.run();
+        markProcessed(topic, eventId);
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        int retentionDays = env.getProperty("kafka.idempotency.retention-days", Integer.class, 7);
+        return processedEventDao.deleteCreatedBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private void saveIgnoringDuplicate(ProcessedEvent processedEvent) {
+        try {
+            processedEventDao.save(processedEvent);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("processed event already recorded: {}", processedEvent);
+        }
+    }
+
+    private String cacheKey(String topic, String eventId) {
+        return topic + "|" + eventId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.pser.hotel.domain.hotel.application;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * KeywordSearchIndex 가 관련도 순으로 돌려준 id 중 DB 조건을 통과한 id 만 남겨 요청한 페이지를 만든다.
+ * 내용은 페이지에 든 id 만 loader 로 읽어 관련도 순서대로 놓는다.
+ */
+final class RankedSearch {
+    private RankedSearch() {
+    }
+
+    static <T> Page<T> page(List<Long> rankedIds, Collection<Long> matchedIds, Pageable pageable,
+                            Function<List<Long>, Map<Long, T>> loader) {
+        Set<Long> matched = new HashSet<>(matchedIds);
+        List<Long> ids = rankedIds.stream()
+                .filter(matched::contains)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        Map<Long, T> loaded = loader.apply(pageIds);
+        List<T> content = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.SweepWatermarkDao;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.domain.hotel.domain.SweepWatermark;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료일의 체크인 시각이 지난 예약을 종료일 단위 구간으로 나누어 PAST 로 일괄 변경한다. 구간 안에서는 id 순으로
+ * chunk-size 개씩 조건부 UPDATE 하고, 끝난 구간은 watermark 로 기록해 재시작하면 처리하지 못한 구간부터 이어서 처리한다.
+ * 최근 lookback-days 일은 매번 다시 확인해 종료일이 지난 뒤 종료 가능한 상태가 된 예약도 닫는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationClosingService {
+    static final String WATERMARK_NAME = "reservation.closing";
+    static final List<ReservationStatusEnum> CLOSABLE_STATUSES =
+            List.copyOf(ReservationStatusEnum.predecessorsOf(ReservationStatusEnum.PAST));
+
+    private final ReservationDao reservationDao;
+    private final SweepWatermarkDao sweepWatermarkDao;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment env;
+
+    public int closePastReservations() {
+        return closePastReservations(LocalDateTime.now());
+    }
+
+    public int closePastReservations(LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        LocalDate recent = today.minusDays(env.getProperty("reservation.closing.lookback-days", Integer.class, 1));
+        LocalDate watermark = getWatermark(today);
+        LocalDate from = watermark.isBefore(recent) ? watermark : recent;
+
+        int closed = 0;
+        for (LocalDate endAt = from; !endAt.isAfter(today); endAt = endAt.plusDays(1)) {
+            LocalTime checkInBefore = endAt.isBefore(today) ? LocalTime.MAX : now.toLocalTime();
+            closed += closeBucket(endAt, checkInBefore, now);
+            if (endAt.isBefore(today) && !endAt.isBefore(watermark)) {
+                saveWatermark(endAt.plusDays(1));
+            }
+        }
+        if (closed > 0) {
+            log.info("reservations closed: {} (from {})", closed, from);
+        }
+        return closed;
+    }
+
+    private int closeBucket(LocalDate endAt, LocalTime checkInBefore, LocalDateTime now) {
+        PageRequest chunk = PageRequest.of(0, env.getProperty("reservation.closing.chunk-size", Integer.class, 500));
+        int closed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = reservationDao.findIdsToClose(CLOSABLE_STATUSES, endAt, checkInBefore, afterId, chunk);
+            if (ids.isEmpty()) {
+                return closed;
+            }
+            Integer updated = transactionTemplate.execute(status -> reservationDao.updateStatusWhereStatusIn(ids,
+                    CLOSABLE_STATUSES, ReservationStatusEnum.PAST, now));
+            closed += updated == null ? 0 : updated;
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private LocalDate getWatermark(LocalDate today) {
+        return sweepWatermarkDao.findByName(WATERMARK_NAME)
+                .map(SweepWatermark::getWatermarkDate)
+                .orElseGet(() -> {
+                    LocalDate oldest = reservationDao.findMinEndAtByStatusIn(CLOSABLE_STATUSES);
+                    return oldest != null && oldest.isBefore(today) ? oldest : today;
+                });
+    }
+
+    private void saveWatermark(LocalDate watermarkDate) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SweepWatermark watermark = sweepWatermarkDao.findByName(WATERMARK_NAME)
+                    .orElseGet(() -> SweepWatermark.builder().name(WATERMARK_NAME).build());
+            watermark.setWatermarkDate(watermarkDate);
+            sweepWatermarkDao.save(watermark);
+        });
+    }
+}
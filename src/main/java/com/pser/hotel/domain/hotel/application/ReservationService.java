@@ -12,14 +12,28 @@ import com.pser.hotel.domain.hotel.dto.request.ReservationCreateRequest;
 import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
 import com.pser.hotel.domain.hotel.kafka.producer.ReservationStatusProducer;
 import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.global.common.BulkStatusUpdateResult;
 import com.pser.hotel.global.common.PaymentDto;
 import com.pser.hotel.global.common.RefundDto;
 import com.pser.hotel.global.common.StatusUpdateDto;
+import com.pser.hotel.global.common.StatusUpdateResult;
 import com.pser.hotel.global.error.SameStatusException;
+import com.pser.hotel.global.error.StatusUpdateException;
 import com.pser.hotel.global.error.ValidationFailedException;
 import io.vavr.control.Try;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,10 +43,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @RequiredArgsConstructor
 public class ReservationService {
+    /**
+     * 관리자가 직접 옮길 수 있는 목표 상태. 이벤트 발행이나 재고 변경 없이 상태만 바뀌는 전이로 한정한다.
+     * 환불, 결제 검증처럼 이벤트가 따라야 하는 상태는 각자의 서비스 경로(refund, checkPayment)를 거쳐야 한다.
+     */
+    private static final Set<ReservationStatusEnum> MANUAL_TARGET_STATUSES =
+            EnumSet.of(ReservationStatusEnum.PAST, ReservationStatusEnum.AUCTION_FAILURE);
+
     private final ReservationDao reservationDao;
     private final RoomDao roomDao;
     private final UserDao userDao;
     private final ReservationMapper reservationMapper;
+    private final RoomInventoryService roomInventoryService;
     private final ReservationStatusProducer reservationStatusProducer;
 
     public ReservationResponse getById(long reservationId) {
@@ -57,6 +79,8 @@ public class ReservationService {
                 .orElseThrow();
         request.setUser(user);
         request.setRoom(room);
+        roomInventoryService.checkOverlappingReservations(room, request.getStartAt(), request.getEndAt());
+        roomInventoryService.book(room, request.getStartAt(), request.getEndAt());
 
         Reservation reservation = reservationMapper.toEntity(request);
         reservationDao.save(reservation);
@@ -132,15 +156,122 @@ public class ReservationService {
 
     @Transactional
     public void updateStatus(StatusUpdateDto<ReservationStatusEnum> statusUpdateDto, Consumer<Reservation> validator) {
-        Reservation reservation = reservationDao.findById(statusUpdateDto.getId())
-                .orElseThrow();
+        Reservation reservation = findReservation(statusUpdateDto);
         ReservationStatusEnum targetStatus = (ReservationStatusEnum) statusUpdateDto.getTargetStatus();
 
         if (validator != null) {
             validator.accept(reservation);
         }
 
+        boolean heldInventory = reservation.getStatus().holdsInventory();
         reservation.updateStatus(targetStatus);
+        syncInventory(reservation, heldInventory);
+    }
+
+    /**
+     * 여러 예약의 상태를 한 트랜잭션에서 변경한다. 예약은 IN 쿼리 한 번으로 불러오고, 요청마다 처리 결과를 같은 순서로 돌려준다.
+     */
+    @Transactional
+    public List<StatusUpdateResult> updateStatuses(List<StatusUpdateDto<ReservationStatusEnum>> statusUpdateDtos) {
+        if (isBulkTransition(statusUpdateDtos)) {
+            List<Long> ids = statusUpdateDtos.stream()
+                    .map(StatusUpdateDto::getId)
+                    .toList();
+            BulkStatusUpdateResult result = transitionAll(ids, statusUpdateDtos.get(0).getTargetStatus());
+            return ids.stream()
+                    .map(result::get)
+                    .toList();
+        }
+
+        Map<Long, Reservation> reservationsById = findReservationsById(statusUpdateDtos);
+        Map<String, Reservation> reservationsByMerchantUid = findReservationsByMerchantUid(statusUpdateDtos);
+
+        List<StatusUpdateResult> results = new ArrayList<>();
+        for (StatusUpdateDto<ReservationStatusEnum> statusUpdateDto : statusUpdateDtos) {
+            Reservation reservation = statusUpdateDto.getId() != null
+                    ? reservationsById.get(statusUpdateDto.getId())
+                    : reservationsByMerchantUid.get(statusUpdateDto.getMerchantUid());
+            results.add(updateStatus(reservation, statusUpdateDto.getTargetStatus()));
+        }
+        return results;
+    }
+
+    /**
+     * 여러 예약을 targetStatus 로 한 번의 조건부 UPDATE 로 옮기고 id 별 결과를 돌려준다. 대상 예약을 잠근 채 전이 표로
+     * 옮길 수 있는 예약을 고른 뒤, status IN (직전 상태) 조건을 함께 걸어 갱신한다.
+     */
+    @Transactional
+    public BulkStatusUpdateResult transitionAll(Collection<Long> ids, ReservationStatusEnum targetStatus) {
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, Reservation> reservationsById = reservationDao.findAllWithLockByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        List<Long> movableIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Reservation reservation = reservationsById.get(id);
+            if (reservation == null) {
+                result.put(id, StatusUpdateResult.NOT_FOUND);
+            } else if (reservation.getStatus() == targetStatus) {
+                result.put(id, StatusUpdateResult.SAME_STATUS);
+            } else if (reservation.getStatus().canTransitionTo(targetStatus)) {
+                result.put(id, StatusUpdateResult.UPDATED);
+                movableIds.add(id);
+                syncInventory(reservation, reservation.getStatus().holdsInventory(), targetStatus.holdsInventory());
+            } else {
+                result.put(id, StatusUpdateResult.REJECTED);
+            }
+        }
+        if (!movableIds.isEmpty()) {
+            int updated = reservationDao.updateStatusWhereStatusIn(movableIds,
+                    ReservationStatusEnum.predecessorsOf(targetStatus), targetStatus, LocalDateTime.now());
+            if (updated != movableIds.size()) {
+                throw new StatusUpdateException();
+            }
+        }
+        return result;
+    }
+
+    @Transactional
+    public BulkStatusUpdateResult transitionAllManually(Collection<Long> ids, ReservationStatusEnum targetStatus) {
+        if (!MANUAL_TARGET_STATUSES.contains(targetStatus)) {
+            throw new IllegalArgumentException("직접 변경할 수 없는 상태입니다: " + targetStatus);
+        }
+        return transitionAll(ids, targetStatus);
+    }
+
+    /**
+     * 결제 검증에 실패한 결제들을 한 트랜잭션에서 환불 대기로 옮기고, 실제로 옮겨진 예약의 환불 이벤트만 한 번에 기록한다.
+     */
+    @Transactional
+    public BulkStatusUpdateResult requireRefunds(List<PaymentDto> paymentDtos) {
+        Map<String, PaymentDto> paymentsByMerchantUid = paymentDtos.stream()
+                .collect(Collectors.toMap(PaymentDto::getMerchantUid, Function.identity(), (first, second) -> first));
+        Map<Long, String> merchantUidsById = reservationDao.findAllByMerchantUidIn(paymentsByMerchantUid.keySet())
+                .stream()
+                .collect(Collectors.toMap(Reservation::getId, Reservation::getMerchantUid));
+
+        BulkStatusUpdateResult result = transitionAll(merchantUidsById.keySet(), ReservationStatusEnum.REFUND_REQUIRED);
+        List<RefundDto> refundDtos = result.getUpdatedIds().stream()
+                .map(id -> paymentsByMerchantUid.get(merchantUidsById.get(id)))
+                .map(paymentDto -> RefundDto.builder()
+                        .impUid(paymentDto.getImpUid())
+                        .merchantUid(paymentDto.getMerchantUid())
+                        .build())
+                .toList();
+        if (!refundDtos.isEmpty()) {
+            reservationStatusProducer.produceRefundsRequired(refundDtos);
+        }
+        return result;
+    }
+
+    public List<ReservationResponse> getAllByMerchantUids(Collection<String> merchantUids) {
+        return reservationDao.findAllByMerchantUidIn(merchantUids).stream()
+                .map(reservationMapper::toResponse)
+                .toList();
     }
 
     @Transactional
@@ -151,38 +282,104 @@ public class ReservationService {
     @Transactional
     public void rollbackStatus(StatusUpdateDto<ReservationStatusEnum> statusUpdateDto,
                                Consumer<Reservation> validator) {
-        Reservation reservation = reservationDao.findById(statusUpdateDto.getId())
-                .orElseThrow();
+        Reservation reservation = findReservation(statusUpdateDto);
         ReservationStatusEnum targetStatus = (ReservationStatusEnum) statusUpdateDto.getTargetStatus();
 
         if (validator != null) {
             validator.accept(reservation);
         }
 
+        boolean heldInventory = reservation.getStatus().holdsInventory();
         reservation.rollbackStatusTo(targetStatus);
+        syncInventory(reservation, heldInventory);
     }
 
-    private void checkSchedule(ReservationCreateRequest request) {
-        Room room = roomDao.findById(request.getRoomId())
-                .orElseThrow();
-        LocalDate startAt = request.getStartAt();
+    private StatusUpdateResult updateStatus(Reservation reservation, ReservationStatusEnum targetStatus) {
+        if (reservation == null) {
+            return StatusUpdateResult.NOT_FOUND;
+        }
+        boolean heldInventory = reservation.getStatus().holdsInventory();
+        try {
+            reservation.updateStatus(targetStatus);
+        } catch (SameStatusException e) {
+            return StatusUpdateResult.SAME_STATUS;
+        } catch (StatusUpdateException e) {
+            return StatusUpdateResult.REJECTED;
+        }
+        syncInventory(reservation, heldInventory);
+        return StatusUpdateResult.UPDATED;
+    }
 
-        if (startAt.isBefore(LocalDate.now())) {
-            throw new IllegalArgumentException("과거 일자로 예약할 수 없습니다");
+    /**
+     * 모든 요청이 서로 다른 예약 id 를 같은 목표 상태로 옮기는 경우에만 일괄 전이로 처리할 수 있다.
+     */
+    private boolean isBulkTransition(List<StatusUpdateDto<ReservationStatusEnum>> statusUpdateDtos) {
+        if (statusUpdateDtos.isEmpty()) {
+            return false;
         }
+        ReservationStatusEnum targetStatus = statusUpdateDtos.get(0).getTargetStatus();
+        return targetStatus != null
+                && statusUpdateDtos.stream().allMatch(statusUpdateDto -> statusUpdateDto.getId() != null
+                && statusUpdateDto.getTargetStatus() == targetStatus)
+                && statusUpdateDtos.stream().map(StatusUpdateDto::getId).distinct().count() == statusUpdateDtos.size();
+    }
 
-        int overlappingCount = reservationDao.countOverlappingReservations(request);
-        if (overlappingCount >= room.getMaxCapacity()) {
-            throw new IllegalArgumentException("해당 객실은 요청 일자에 비어 있지 않습니다");
+    private Map<Long, Reservation> findReservationsById(List<StatusUpdateDto<ReservationStatusEnum>> statusUpdateDtos) {
+        Set<Long> ids = statusUpdateDtos.stream()
+                .map(StatusUpdateDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
         }
+        return reservationDao.findAllById(ids).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
     }
 
-    @Transactional
-    public void closeReservation(long reservationId) {
-        Reservation reservation = reservationDao.findById(reservationId)
+    private Map<String, Reservation> findReservationsByMerchantUid(
+            List<StatusUpdateDto<ReservationStatusEnum>> statusUpdateDtos) {
+        Set<String> merchantUids = statusUpdateDtos.stream()
+                .filter(statusUpdateDto -> statusUpdateDto.getId() == null)
+                .map(StatusUpdateDto::getMerchantUid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (merchantUids.isEmpty()) {
+            return Map.of();
+        }
+        return reservationDao.findAllByMerchantUidIn(merchantUids).stream()
+                .collect(Collectors.toMap(Reservation::getMerchantUid, Function.identity()));
+    }
+
+    private Reservation findReservation(StatusUpdateDto<ReservationStatusEnum> statusUpdateDto) {
+        if (statusUpdateDto.getId() != null) {
+            return reservationDao.findById(statusUpdateDto.getId())
+                    .orElseThrow();
+        }
+        return reservationDao.findByMerchantUid(statusUpdateDto.getMerchantUid())
                 .orElseThrow();
-        ReservationStatusEnum targetStatus = ReservationStatusEnum.PAST;
-        reservation.updateStatus(targetStatus);
+    }
+
+    private void syncInventory(Reservation reservation, boolean heldInventory) {
+        syncInventory(reservation, heldInventory, reservation.getStatus().holdsInventory());
+    }
+
+    private void syncInventory(Reservation reservation, boolean heldInventory, boolean holdsInventory) {
+        if (heldInventory && !holdsInventory) {
+            roomInventoryService.release(reservation.getRoom(), reservation.getStartAt(), reservation.getEndAt());
+        } else if (!heldInventory && holdsInventory) {
+            roomInventoryService.book(reservation.getRoom(), reservation.getStartAt(), reservation.getEndAt());
+        }
+    }
+
+    private void checkSchedule(ReservationCreateRequest request) {
+        LocalDate startAt = request.getStartAt();
+
+        if (startAt.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("과거 일자로 예약할 수 없습니다");
+        }
+        if (request.getEndAt().isBefore(startAt)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 빠를 수 없습니다");
+        }
     }
 
     private int calculateRefundPrice(int price, LocalDate reservationStartDate) {
@@ -1,18 +1,29 @@
 package com.pser.hotel.domain.hotel.application;
 
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
 import com.pser.hotel.domain.hotel.dao.ReviewDao;
+import com.pser.hotel.domain.hotel.domain.Reservation;
 import com.pser.hotel.domain.hotel.domain.Review;
 import com.pser.hotel.domain.hotel.dto.mapper.ReviewMapper;
 import com.pser.hotel.domain.hotel.dto.request.ReviewCreateRequest;
 import com.pser.hotel.domain.hotel.dto.request.ReviewSearchRequest;
 import com.pser.hotel.domain.hotel.dto.request.ReviewUpdateRequest;
 import com.pser.hotel.domain.hotel.dto.response.ReviewResponse;
+import com.pser.hotel.domain.hotel.kafka.producer.ReviewStatusProducer;
+import com.pser.hotel.domain.model.GradeEnum;
+import com.pser.hotel.global.common.request.Cursor;
 import com.pser.hotel.global.common.request.SearchQuery;
+import com.pser.hotel.global.common.response.CursorSlice;
+import com.pser.hotel.global.config.cache.CacheNames;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,38 +31,85 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewDao reviewDao;
+    private final ReservationDao reservationDao;
     private final ReviewMapper reviewMapper;
+    private final HotelRatingSummaryService hotelRatingSummaryService;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final ReviewStatusProducer reviewStatusProducer;
 
     public Page<ReviewResponse> getAll(Pageable pageable) {
         return reviewDao.findAll(pageable).map(reviewMapper::toResponse);
     }
 
     public Page<ReviewResponse> search(ReviewSearchRequest request, SearchQuery searchQuery, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            Optional<List<Long>> rankedIds = keywordSearchIndex.searchReviews(request.getKeyword());
+            if (rankedIds.isPresent()) {
+                return searchByRank(request, rankedIds.get(), pageable);
+            }
+        }
         return reviewDao.search(request, pageable).map(reviewMapper::toResponse);
     }
 
+    public Slice<ReviewResponse> searchSlice(ReviewSearchRequest request, Pageable pageable) {
+        return reviewDao.searchSlice(request, pageable).map(reviewMapper::toResponse);
+    }
+
+    @Cacheable(cacheNames = CacheNames.SEARCH_COUNT, key = "'review:' + #request.toString()")
+    public Long countSearch(ReviewSearchRequest request) {
+        return reviewDao.searchForCount(request);
+    }
+
+    public CursorSlice<ReviewResponse> search(ReviewSearchRequest request, Cursor cursor, int size) {
+        return reviewDao.search(request, cursor, size).map(reviewMapper::toResponse);
+    }
+
     public ReviewResponse getById(Long id) {
         Review review = findById(id);
         return reviewMapper.toResponse(review);
     }
 
+    @Transactional
     public Long save(ReviewCreateRequest request) {
+        Reservation reservation = reservationDao.findById(request.getReservationId())
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 리소스"));
         Review review = reviewMapper.toEntity(request);
+        review.setReservation(reservation);
         review = reviewDao.save(review);
+        keywordSearchIndex.indexReview(review);
+        reviewStatusProducer.onSaved(review);
+        hotelRatingSummaryService.add(getHotelId(review), review.getGrade());
         return review.getId();
     }
 
     @Transactional
     public void update(Long id, ReviewUpdateRequest request) {
         Review review = findById(id);
+        GradeEnum previousGrade = review.getGrade();
         reviewMapper.updateReviewFromDto(request, review);
         reviewDao.save(review);
+        keywordSearchIndex.indexReview(review);
+        reviewStatusProducer.onSaved(review);
+        hotelRatingSummaryService.change(getHotelId(review), previousGrade, review.getGrade());
     }
 
     @Transactional
     public void delete(Long id) {
         Review review = findById(id);
         reviewDao.delete(review);
+        keywordSearchIndex.removeReview(id);
+        reviewStatusProducer.onDeleted(id);
+        hotelRatingSummaryService.remove(getHotelId(review), review.getGrade());
+    }
+
+    private Page<ReviewResponse> searchByRank(ReviewSearchRequest request, List<Long> rankedIds, Pageable pageable) {
+        return RankedSearch.page(rankedIds, reviewDao.searchIds(request, rankedIds), pageable,
+                ids -> reviewDao.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Review::getId, reviewMapper::toResponse)));
+    }
+
+    private Long getHotelId(Review review) {
+        return review.getReservation().getRoom().getHotel().getId();
     }
 
     private Review findById(Long id) {
@@ -0,0 +1,66 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.RoomDao;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryBackfillStatus;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재고 테이블 도입 전에 만들어진 예약으로 오늘 이후 밤의 room_night_inventory 를 채운다. 객실마다 한 트랜잭션으로 다시 세므로
+ * 여러 인스턴스가 동시에 실행해도 결과가 같고, 모든 객실을 마쳐야 완료로 기록한다. 완료 전에는 예약 테이블의 겹침 검사가 함께 동작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomInventoryBackfillService {
+    private final ReservationDao reservationDao;
+    private final RoomDao roomDao;
+    private final RoomInventoryService roomInventoryService;
+    private final RoomNightInventoryBackfillStatus backfillStatus;
+    private final Environment env;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (backfillStatus.isCompleted()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        PageRequest chunk = PageRequest.of(0, env.getProperty("inventory.backfill.chunk-size", Integer.class, 500));
+        int rooms = 0;
+        int nights = 0;
+        int failures = 0;
+        long afterRoomId = 0;
+        List<Long> roomIds;
+        while (!(roomIds = reservationDao.findRoomIdsWithStaysFrom(ReservationStatusEnum.inventoryHoldingStatuses(),
+                today, afterRoomId, chunk)).isEmpty()) {
+            for (Long roomId : roomIds) {
+                try {
+                    nights += roomDao.findById(roomId)
+                            .map(room -> roomInventoryService.rebuild(room, today))
+                            .orElse(0);
+                    rooms++;
+                } catch (RuntimeException e) {
+                    failures++;
+                    log.warn("room night inventory backfill failed: roomId={}", roomId, e);
+                }
+            }
+            afterRoomId = roomIds.get(roomIds.size() - 1);
+        }
+        if (failures > 0) {
+            log.warn("room night inventory backfill incomplete, reservation overlap check stays on: failedRooms={}",
+                    failures);
+            return;
+        }
+        backfillStatus.markCompleted(today);
+        log.info("room night inventory backfilled: rooms={}, nights={}", rooms, nights);
+    }
+}
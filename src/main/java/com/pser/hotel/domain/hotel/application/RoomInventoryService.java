@@ -0,0 +1,123 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryBackfillStatus;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryDao;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomInventoryService {
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private final RoomNightInventoryDao roomNightInventoryDao;
+    private final RoomNightInventoryCreator roomNightInventoryCreator;
+    private final ReservationDao reservationDao;
+    private final RoomNightInventoryBackfillStatus backfillStatus;
+
+    /**
+     * 재고 행이 기존 예약으로 채워지기 전에는 예약 테이블에서 겹치는 예약 수를 세어 객실 수와 비교한다.
+     * 채워진 뒤에는 book 의 재고 행 검사만으로 충분하므로 아무것도 하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void checkOverlappingReservations(Room room, LocalDate startAt, LocalDate endAt) {
+        if (backfillStatus.isCompleted()) {
+            return;
+        }
+        List<LocalDate> nights = RoomNightInventory.nightsOf(startAt, endAt);
+        long overlapping = reservationDao.countOverlapping(room.getId(), nights.get(0), nights.get(nights.size() - 1),
+                ReservationStatusEnum.inventoryHoldingStatuses());
+        if (overlapping >= room.getTotalRooms()) {
+            throw new IllegalArgumentException("해당 객실은 요청 일자에 비어 있지 않습니다");
+        }
+    }
+
+    @Transactional
+    public void book(Room room, LocalDate startAt, LocalDate endAt) {
+        List<LocalDate> nights = RoomNightInventory.nightsOf(startAt, endAt);
+        List<RoomNightInventory> inventories = lockNights(room, nights);
+
+        if (inventories.size() != nights.size() || !inventories.stream().allMatch(RoomNightInventory::isAvailable)) {
+            throw new IllegalArgumentException("해당 객실은 요청 일자에 비어 있지 않습니다");
+        }
+        inventories.forEach(RoomNightInventory::book);
+    }
+
+    @Transactional
+    public void release(Room room, LocalDate startAt, LocalDate endAt) {
+        roomNightInventoryDao.findWithLockByRoomIdAndStayDateInOrderByStayDateAsc(room.getId(),
+                        RoomNightInventory.nightsOf(startAt, endAt))
+                .forEach(RoomNightInventory::release);
+    }
+
+    @Transactional
+    public void updateTotal(Room room) {
+        roomNightInventoryDao.updateTotalFrom(room.getId(), room.getTotalRooms(), LocalDate.now());
+    }
+
+    /**
+     * from 이후 밤의 booked 를 재고를 차지하는 예약 수로 다시 맞춘다. 재고 행을 먼저 잠근 뒤 예약을 잠금 읽기로 다시 세므로
+     * 동시에 들어온 예약은 이미 세어졌거나, 이 트랜잭션이 끝난 뒤 다시 맞춘 값 위에 더해진다.
+     */
+    @Transactional
+    public int rebuild(Room room, LocalDate from) {
+        TreeSet<LocalDate> nights = new TreeSet<>();
+        for (Reservation stay : findStays(room, from)) {
+            nights.addAll(RoomNightInventory.nightsOf(stay.getStartAt(), stay.getEndAt()));
+        }
+        nights.headSet(from).clear();
+        if (nights.isEmpty()) {
+            return 0;
+        }
+        List<RoomNightInventory> inventories = lockNights(room, List.copyOf(nights));
+
+        Map<LocalDate, Integer> booked = new HashMap<>();
+        for (Reservation stay : findStays(room, from)) {
+            RoomNightInventory.nightsOf(stay.getStartAt(), stay.getEndAt())
+                    .forEach(night -> booked.merge(night, 1, Integer::sum));
+        }
+        inventories.forEach(inventory -> inventory.setBooked(booked.getOrDefault(inventory.getStayDate(), 0)));
+        return inventories.size();
+    }
+
+    private List<Reservation> findStays(Room room, LocalDate from) {
+        return reservationDao.findStaysWithLockFrom(room.getId(), ReservationStatusEnum.inventoryHoldingStatuses(),
+                from);
+    }
+
+    private List<RoomNightInventory> lockNights(Room room, List<LocalDate> nights) {
+        if (roomNightInventoryDao.countByRoomIdAndStayDateIn(room.getId(), nights) < nights.size()) {
+            createMissing(room, nights);
+        }
+        return roomNightInventoryDao.findWithLockByRoomIdAndStayDateInOrderByStayDateAsc(room.getId(), nights);
+    }
+
+    private void createMissing(Room room, List<LocalDate> nights) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                roomNightInventoryCreator.createMissing(room, nights);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("room night inventory created concurrently, retrying: roomId={}, attempt={}",
+                        room.getId(), attempt);
+            }
+        }
+    }
+}
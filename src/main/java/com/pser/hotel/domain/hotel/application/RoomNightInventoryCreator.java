@@ -0,0 +1,37 @@
+package com.pser.hotel.domain.hotel.application;
+
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryDao;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RoomNightInventoryCreator {
+    private final RoomNightInventoryDao roomNightInventoryDao;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createMissing(Room room, List<LocalDate> nights) {
+        Set<LocalDate> existing = roomNightInventoryDao.findByRoomIdAndStayDateInOrderByStayDateAsc(room.getId(), nights)
+                .stream()
+                .map(RoomNightInventory::getStayDate)
+                .collect(Collectors.toSet());
+
+        List<RoomNightInventory> missing = nights.stream()
+                .filter(night -> !existing.contains(night))
+                .map(night -> RoomNightInventory.builder()
+                        .room(room)
+                        .stayDate(night)
+                        .total(room.getTotalRooms())
+                        .build())
+                .toList();
+        roomNightInventoryDao.saveAllAndFlush(missing);
+    }
+}
@@ -10,11 +10,18 @@ import com.pser.hotel.domain.hotel.domain.RoomImage;
 import com.pser.hotel.domain.hotel.dto.request.RoomRequest;
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.domain.hotel.kafka.producer.RoomStatusProducer;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import com.pser.hotel.global.config.cache.CacheNames;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +31,9 @@ public class RoomService {
     private final HotelDao hotelDao;
     private final RoomDao roomDao;
     private final RoomMapper roomMapper;
+    private final RoomInventoryService roomInventoryService;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final RoomStatusProducer roomStatusProducer;
 
     @Transactional(readOnly = true)
     public Page<RoomResponse> findRoomList(Pageable pageable) {
@@ -31,6 +41,11 @@ public class RoomService {
         return result;
     }
 
+    @Transactional(readOnly = true)
+    public CursorSlice<RoomResponse> findRoomList(Cursor cursor, int size) {
+        return roomDao.search(RoomSearchRequest.builder().build(), cursor, size);
+    }
+
     @Transactional(readOnly = true)
     public RoomResponse findRoom(Long roomId) {
         return roomDao.findById(roomId).orElseThrow(() -> new IllegalArgumentException()).toDto();
@@ -38,9 +53,33 @@ public class RoomService {
 
     @Transactional(readOnly = true)
     public Page<RoomResponse> search(RoomSearchRequest request, Pageable pageable) {
+        Optional<List<Long>> rankedIds = searchRankedIds(request, pageable);
+        if (rankedIds.isPresent()) {
+            return searchByRank(request, rankedIds.get(), pageable);
+        }
         return roomDao.search(request, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<RoomResponse> searchSlice(RoomSearchRequest request, Pageable pageable) {
+        Optional<List<Long>> rankedIds = searchRankedIds(request, pageable);
+        if (rankedIds.isPresent()) {
+            return searchByRank(request, rankedIds.get(), pageable);
+        }
+        return roomDao.searchSlice(request, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.SEARCH_COUNT, key = "'room:' + #request.toString()")
+    public Long countSearch(RoomSearchRequest request) {
+        return roomDao.searchForCount(request);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<RoomResponse> search(RoomSearchRequest request, Cursor cursor, int size) {
+        return roomDao.search(request, cursor, size);
+    }
+
     @Transactional
     public Long save(long userId, RoomRequest request) {
         Hotel hotel = findHotelById(request.getHotelId());
@@ -48,6 +87,8 @@ public class RoomService {
         Amenity amenity = createAmenity(room, request);
         List<RoomImage> roomImages = createRoomImages(room, request.getImgUrls());
         roomDao.save(room);
+        keywordSearchIndex.indexRoom(room);
+        roomStatusProducer.onSaved(room);
         return room.getId();
     }
 
@@ -55,8 +96,14 @@ public class RoomService {
     public void update(long userId, Long roomId, RoomRequest request) {
         Hotel hotel = findHotelById(request.getHotelId());
         Room room = findRoomByIdAndHoteId(roomId, hotel.getId());
+        int previousTotalRooms = room.getTotalRooms();
         roomMapper.updateRoomFromDto(request, room);
         roomDao.save(room);
+        keywordSearchIndex.indexRoom(room);
+        roomStatusProducer.onSaved(room);
+        if (previousTotalRooms != room.getTotalRooms()) {
+            roomInventoryService.updateTotal(room);
+        }
     }
 
     @Transactional
@@ -64,6 +111,19 @@ public class RoomService {
         Hotel hotel = findHotelById(hotelId);
         Room room = findRoomByIdAndHoteId(roomId, hotel.getId());
         roomDao.deleteById(room.getId());
+        keywordSearchIndex.removeRoom(room.getId());
+        roomStatusProducer.onDeleted(room.getId());
+    }
+
+    private Optional<List<Long>> searchRankedIds(RoomSearchRequest request, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+        return keywordSearchIndex.searchRooms(request.getKeyword());
+    }
+
+    private Page<RoomResponse> searchByRank(RoomSearchRequest request, List<Long> rankedIds, Pageable pageable) {
+        return RankedSearch.page(rankedIds, roomDao.searchIds(request, rankedIds), pageable, roomDao::findResponses);
     }
 
     private Hotel findHotelById(Long hotelId) {
@@ -1,8 +1,11 @@
 package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.domain.Facility;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +13,10 @@ public interface FacilityDao extends JpaRepository<Facility, Long> {
     Optional<Facility> findByHotelId(Long hotelId);
 
     void deleteByHotelId(Long hotelId);
+
+    @Query("select f.hotel.id, f.facilityMask from Facility f")
+    List<Object[]> findAllMasks();
+
+    @Query("select f.facilityMask from Facility f where f.hotel.id = :hotelId")
+    Optional<Long> findMaskByHotelId(@Param("hotelId") Long hotelId);
 }
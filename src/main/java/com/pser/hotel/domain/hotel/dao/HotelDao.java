@@ -1,9 +1,21 @@
 package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.domain.Hotel;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface HotelDao extends JpaRepository<Hotel, Long>, HotelDaoCustom {
     Optional<Hotel> findByIdAndUserId(Long hotelId, Long userId);
+
+    List<Hotel> findTop500ByGeohashIsNull();
+
+    @Query("select h.id, h.name, h.province, h.city, h.district, h.detailedAddress from Hotel h")
+    List<Object[]> findAllKeywordFields();
+
+    @Query("select h.id from Hotel h where h.id > :afterId order by h.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -3,15 +3,37 @@ package com.pser.hotel.domain.hotel.dao;
 import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
 import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface HotelDaoCustom {
     Slice<HotelSummaryResponse> search(HotelSearchRequest hotelSearchRequest, Pageable pageable);
 
+    List<Long> searchIds(HotelSearchRequest hotelSearchRequest, Collection<Long> candidateIds);
+
+    List<HotelSummaryResponse> findSummaries(Collection<Long> hotelIds);
+
+    Slice<HotelSummaryResponse> findNearby(double latitude, double longitude, double radiusKm, Pageable pageable);
+
+    Slice<HotelSummaryResponse> findWithin(double minLatitude, double minLongitude, double maxLatitude,
+                                           double maxLongitude, Pageable pageable);
+
     double getHotelGrade(Long hotelId);
 
+    Map<Long, Double> getHotelGrades(Collection<Long> hotelIds);
+
+    Map<Long, List<String>> getHotelImageUrls(Collection<Long> hotelIds);
+
+    void enrichSummaries(List<HotelSummaryResponse> summaries);
+
     Slice<HotelSummaryResponse> findAllWithGradeAndPrice(Pageable pageable);
 
+    CursorSlice<HotelSummaryResponse> findAllWithGradeAndPrice(Cursor cursor, int size);
+
     HotelResponse findHotel(Long hotelId);
 }
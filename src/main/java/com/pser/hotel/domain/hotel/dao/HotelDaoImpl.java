@@ -1,27 +1,49 @@
 package com.pser.hotel.domain.hotel.dao;
 
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
 import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.domain.HotelCategoryConverter;
 import com.pser.hotel.domain.hotel.domain.HotelCategoryEnum;
 import com.pser.hotel.domain.hotel.domain.QHotel;
 import com.pser.hotel.domain.hotel.domain.QHotelImage;
+import com.pser.hotel.domain.hotel.domain.QHotelRatingSummary;
 import com.pser.hotel.domain.hotel.domain.QReservation;
 import com.pser.hotel.domain.hotel.domain.QReview;
 import com.pser.hotel.domain.hotel.domain.QRoom;
+import com.pser.hotel.domain.hotel.domain.QRoomNightInventory;
 import com.pser.hotel.domain.hotel.domain.QTimeSale;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
 import com.pser.hotel.domain.hotel.dto.mapper.HotelMapper;
 import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
 import com.pser.hotel.domain.hotel.dto.response.QHotelSummaryResponse;
 import com.pser.hotel.domain.model.GradeEnum;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import com.pser.hotel.global.util.GeoHash;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -35,8 +57,12 @@ import org.springframework.web.server.ResponseStatusException;
 @Repository
 @RequiredArgsConstructor
 public class HotelDaoImpl implements HotelDaoCustom {
+    private static final int GEO_COVER_MAX_CELLS = 16;
+
     private final JPAQueryFactory queryFactory;
     private final HotelMapper hotelMapper;
+    private final SweepWatermarkDao sweepWatermarkDao;
+    private volatile boolean inventoryBackfilled;
 
     @Override
     public Slice<HotelSummaryResponse> search(HotelSearchRequest hotelSearchRequest, Pageable pageable) {
@@ -53,106 +79,267 @@ public class HotelDaoImpl implements HotelDaoCustom {
                 ))
                 .from(QHotel.hotel)
                 .leftJoin(QRoom.room).on(QRoom.room.hotel.id.eq(QHotel.hotel.id))
-                .where(
-                        getNamePredicate(hotelSearchRequest.getName()),
-                        getProvincePredicate(hotelSearchRequest.getProvince()),
-                        getCityPredicate(hotelSearchRequest.getCity()),
-                        getDistrictPredicate(hotelSearchRequest.getDistrict()),
-                        getDetailedAddressPredicate(hotelSearchRequest.getDetailedAddress()),
-                        getBarbecuePredicate(hotelSearchRequest.getBarbecue()),
-                        getWifiPredicate(hotelSearchRequest.getWifi()),
-                        getParkingLotPredicate(hotelSearchRequest.getParkingLot()),
-                        getCategoryPredicate(hotelSearchRequest.getCategory()),
-                        getSaunaPredicate(hotelSearchRequest.getSauna()),
-                        getSwimmingPoolPredicate(hotelSearchRequest.getSwimmingPool()),
-                        getRestaurantPredicate(hotelSearchRequest.getRestaurant()),
-                        getRoofTopPredicate(hotelSearchRequest.getRoofTop()),
-                        getFitnessPredicate(hotelSearchRequest.getFitness()),
-                        getDryerPredicate(hotelSearchRequest.getDryer()),
-                        getBreakfistPredicate(hotelSearchRequest.getBreakfast()),
-                        getSmokingAreaPredicate(hotelSearchRequest.getSmokingArea()),
-                        getAllTimeDeskPredicate(hotelSearchRequest.getAllTimeDesk()),
-                        getLuggageStoragePredicate(hotelSearchRequest.getLuggageStorage()),
-                        getSnackBarPredicate(hotelSearchRequest.getSnackBar()),
-                        getPetFriendlyPredicate(hotelSearchRequest.getPetFriendly()),
-                        getReservationBetweenPredicate(hotelSearchRequest.getSearchStartAt(),
-                                // 숙박 시작일 ~ 숙박 종료일 동안 예약이 가능한 객실을 보유한 호텔만 리스트에 담는다
-                                hotelSearchRequest.getSearchEndAt()),
-                        containsKeywordPredicate(hotelSearchRequest.getKeyword()),
-                        getPeoplePredicate(hotelSearchRequest.getPeople()) // 인원보다 많은 인원을 수용할 수 있는 객실을 보유한 호텔만 리스트에 담는다
-                ).groupBy(QHotel.hotel.id)
+                .where(searchPredicates(hotelSearchRequest))
+                .where(containsKeywordPredicate(hotelSearchRequest.getKeyword()))
+                .groupBy(QHotel.hotel.id)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        content = content.stream().map(hotelSummaryResponse -> {
-            List<String> images = queryFactory
-                    .select(QHotelImage.hotelImage.imageUrl)
-                    .from(QHotelImage.hotelImage)
-                    .where(QHotelImage.hotelImage.hotel.id.eq(hotelSummaryResponse.getId()))
-                    .fetch();
-            hotelSummaryResponse.setHotelImageUrls(images);
-            hotelSummaryResponse.setGradeAverage(getHotelGrade(hotelSummaryResponse.getId()));
-            int previousPrice = getPreviousPrice(hotelSummaryResponse.getId());
-            hotelSummaryResponse.setPreviousPrice(previousPrice);
-            hotelSummaryResponse.setSalePrice(getSalePrice(hotelSummaryResponse.getId(), previousPrice));
-            return hotelSummaryResponse;
-        }).collect(Collectors.toList());
-
         boolean hasNext = false;
         if (content.size() > pageable.getPageSize()) {
             content.remove(pageable.getPageSize());
             hasNext = true;
         }
 
+        enrichSummaries(content);
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
     @Override
-    public double getHotelGrade(Long hotelId) {
+    public List<Long> searchIds(HotelSearchRequest hotelSearchRequest, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(QHotel.hotel.id)
+                .from(QHotel.hotel)
+                .leftJoin(QRoom.room).on(QRoom.room.hotel.id.eq(QHotel.hotel.id))
+                .where(searchPredicates(hotelSearchRequest))
+                .where(QHotel.hotel.id.in(candidateIds))
+                .groupBy(QHotel.hotel.id)
+                .fetch();
+    }
 
-        List<GradeEnum> gradeEnumList = queryFactory.select(QReview.review.grade)
-                .from(QReview.review)
-                .join(QReview.review.reservation, QReservation.reservation)
-                .join(QReservation.reservation.room, QRoom.room)
-                .join(QRoom.room.hotel, QHotel.hotel)
-                .where(QHotel.hotel.id.eq(hotelId))
+    @Override
+    public List<HotelSummaryResponse> findSummaries(Collection<Long> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<HotelSummaryResponse> summaries = queryFactory
+                .select(hotelSummaryProjection())
+                .from(QHotel.hotel)
+                .where(QHotel.hotel.id.in(hotelIds))
                 .fetch();
+        enrichSummaries(summaries);
+        return summaries;
+    }
+
+    @Override
+    public Slice<HotelSummaryResponse> findNearby(double latitude, double longitude, double radiusKm,
+                                                  Pageable pageable) {
+        QHotel qHotel = QHotel.hotel;
+        QHotelSummaryResponse projection = hotelSummaryProjection();
+        double[] box = GeoHash.boundingBox(latitude, longitude, radiusKm);
+
+        List<HotelSummaryResponse> candidates = queryFactory
+                .select(projection, qHotel.latitude, qHotel.longitude)
+                .from(qHotel)
+                .where(getGeoPredicate(box))
+                .fetch()
+                .stream()
+                .map(tuple -> {
+                    HotelSummaryResponse summary = tuple.get(projection);
+                    summary.setDistance(GeoHash.distanceKm(latitude, longitude,
+                            tuple.get(qHotel.latitude), tuple.get(qHotel.longitude)));
+                    return summary;
+                })
+                .filter(summary -> summary.getDistance() <= radiusKm)
+                .sorted(Comparator.comparingDouble(HotelSummaryResponse::getDistance))
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), candidates.size());
+        int to = Math.min(from + pageable.getPageSize(), candidates.size());
+        List<HotelSummaryResponse> content = new ArrayList<>(candidates.subList(from, to));
+
+        enrichSummaries(content);
+        return new SliceImpl<>(content, pageable, to < candidates.size());
+    }
+
+    @Override
+    public Slice<HotelSummaryResponse> findWithin(double minLatitude, double minLongitude, double maxLatitude,
+                                                  double maxLongitude, Pageable pageable) {
+        List<HotelSummaryResponse> content = queryFactory
+                .select(hotelSummaryProjection())
+                .from(QHotel.hotel)
+                .where(getGeoPredicate(new double[]{minLatitude, minLongitude, maxLatitude, maxLongitude}))
+                .orderBy(QHotel.hotel.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(pageable.getPageSize());
+        }
+
+        enrichSummaries(content);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 
-        return calculateGradeEnum(gradeEnumList);
+    @Override
+    public double getHotelGrade(Long hotelId) {
+        return getHotelGrades(List.of(hotelId)).getOrDefault(hotelId, 0.0);
+    }
+
+    @Override
+    public Map<Long, Double> getHotelGrades(Collection<Long> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        QHotelRatingSummary qSummary = QHotelRatingSummary.hotelRatingSummary;
+
+        Map<Long, Double> grades = new HashMap<>();
+        Set<Long> unsummarized = new HashSet<>(hotelIds);
+        for (Tuple tuple : queryFactory.select(qSummary.hotel.id, qSummary.gradeSum, qSummary.reviewCount)
+                .from(qSummary)
+                .where(qSummary.hotel.id.in(hotelIds))
+                .fetch()) {
+            Long hotelId = tuple.get(qSummary.hotel.id);
+            long reviewCount = Objects.requireNonNull(tuple.get(qSummary.reviewCount));
+            unsummarized.remove(hotelId);
+            if (reviewCount > 0) {
+                grades.put(hotelId, (double) Objects.requireNonNull(tuple.get(qSummary.gradeSum)) / reviewCount);
+            }
+        }
+        if (!unsummarized.isEmpty()) {
+            grades.putAll(aggregateHotelGrades(unsummarized));
+        }
+        return grades;
+    }
+
+    /**
+     * 요약 행이 아직 없는 호텔은 리뷰를 직접 집계한다. 요약을 채우기 전이나 리뷰가 없는 새 호텔에만 쓰인다.
+     */
+    private Map<Long, Double> aggregateHotelGrades(Collection<Long> hotelIds) {
+        QReview qReview = QReview.review;
+        QReservation qReservation = QReservation.reservation;
+        QRoom qRoom = QRoom.room;
+
+        Map<Long, long[]> sumAndCount = new HashMap<>();
+        for (Tuple tuple : queryFactory.select(qRoom.hotel.id, qReview.grade, qReview.count())
+                .from(qReview)
+                .join(qReview.reservation, qReservation)
+                .join(qReservation.room, qRoom)
+                .where(qRoom.hotel.id.in(hotelIds))
+                .groupBy(qRoom.hotel.id, qReview.grade)
+                .fetch()) {
+            GradeEnum grade = Objects.requireNonNull(tuple.get(qReview.grade));
+            long count = Objects.requireNonNull(tuple.get(qReview.count()));
+            long[] acc = sumAndCount.computeIfAbsent(tuple.get(qRoom.hotel.id), id -> new long[2]);
+            acc[0] += (long) grade.getValue() * count;
+            acc[1] += count;
+        }
+
+        Map<Long, Double> grades = new HashMap<>();
+        sumAndCount.forEach((hotelId, acc) -> grades.put(hotelId, (double) acc[0] / acc[1]));
+        return grades;
+    }
+
+    @Override
+    public Map<Long, List<String>> getHotelImageUrls(Collection<Long> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        QHotelImage qHotelImage = QHotelImage.hotelImage;
+
+        return queryFactory.select(qHotelImage.hotel.id, qHotelImage.imageUrl)
+                .from(qHotelImage)
+                .where(qHotelImage.hotel.id.in(hotelIds))
+                .orderBy(qHotelImage.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(qHotelImage.hotel.id),
+                        Collectors.mapping(tuple -> tuple.get(qHotelImage.imageUrl), Collectors.toList())));
+    }
+
+    @Override
+    public void enrichSummaries(List<HotelSummaryResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        List<Long> hotelIds = summaries.stream().map(HotelSummaryResponse::getId).toList();
+        Map<Long, List<String>> images = getHotelImageUrls(hotelIds);
+        Map<Long, Double> grades = getHotelGrades(hotelIds);
+        Map<Long, Integer> previousPrices = getPreviousPrices(hotelIds);
+        Map<Long, Integer> salePrices = getSalePrices(hotelIds);
+
+        for (HotelSummaryResponse summary : summaries) {
+            Long hotelId = summary.getId();
+            int previousPrice = previousPrices.getOrDefault(hotelId, 0);
+            summary.setHotelImageUrls(images.getOrDefault(hotelId, new ArrayList<>()));
+            summary.setGradeAverage(grades.getOrDefault(hotelId, 0.0));
+            summary.setPreviousPrice(previousPrice);
+            summary.setSalePrice(toSalePrice(salePrices.get(hotelId), previousPrice));
+        }
     }
 
     @Override
     public Slice<HotelSummaryResponse> findAllWithGradeAndPrice(Pageable pageable) {
         QHotel qHotel = QHotel.hotel;
 
-        List<Hotel> hotels = queryFactory.selectFrom(qHotel)
+        List<HotelSummaryResponse> hotelResponses = queryFactory
+                .select(new QHotelSummaryResponse(
+                        qHotel.id,
+                        qHotel.name,
+                        qHotel.category,
+                        qHotel.description,
+                        qHotel.mainImage,
+                        qHotel.province,
+                        qHotel.city,
+                        qHotel.district
+                ))
+                .from(qHotel)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        List<HotelSummaryResponse> hotelResponses = hotels.stream()
-                .map(hotel -> {
-                    double hotelGrade = getHotelGrade(hotel.getId());
-                    int previousPrice = getPreviousPrice(hotel.getId());
-                    int salePrice = getSalePrice(hotel.getId(), previousPrice);
-                    return hotelMapper.changeToHotelSummaryResponse(hotel, hotelGrade, salePrice, previousPrice);
-                })
-                .collect(Collectors.toList());
-
         boolean hasNext = hotelResponses.size() > pageable.getPageSize();
         if (hasNext) {
             hotelResponses.remove(hotelResponses.size() - 1);
         }
 
+        enrichSummaries(hotelResponses);
         return new SliceImpl<>(hotelResponses, pageable, hasNext);
     }
 
+    @Override
+    public CursorSlice<HotelSummaryResponse> findAllWithGradeAndPrice(Cursor cursor, int size) {
+        QHotel qHotel = QHotel.hotel;
+        QHotelSummaryResponse projection = new QHotelSummaryResponse(
+                qHotel.id,
+                qHotel.name,
+                qHotel.category,
+                qHotel.description,
+                qHotel.mainImage,
+                qHotel.province,
+                qHotel.city,
+                qHotel.district
+        );
+
+        List<Tuple> rows = queryFactory.select(projection, qHotel.createdAt)
+                .from(qHotel)
+                .where(cursor != null ? cursor.after(qHotel.createdAt, qHotel.id) : null)
+                .orderBy(qHotel.createdAt.asc(), qHotel.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        CursorSlice<HotelSummaryResponse> result = CursorSlice.of(rows, size,
+                tuple -> tuple.get(projection),
+                tuple -> new Cursor(tuple.get(qHotel.createdAt), tuple.get(projection).getId()));
+        enrichSummaries(result.getContent());
+        return result;
+    }
+
     @Override
     public HotelResponse findHotel(Long hotelId) {
         QHotel qHotel = QHotel.hotel;
 
         Hotel hotel = queryFactory.selectFrom(qHotel)
+                .leftJoin(qHotel.facility).fetchJoin()
                 .where(qHotel.id.eq(hotelId))
                 .fetchOne();
 
@@ -160,52 +347,96 @@ public class HotelDaoImpl implements HotelDaoCustom {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Hotel not found");
         }
 
-        double hotelGrade = getHotelGrade(hotelId);
-        int previousPrice = getPreviousPrice(hotelId);
-        int salePrice = getSalePrice(hotelId, previousPrice);
-
-        return hotelMapper.changeToHotelResponse(hotel, hotelGrade, salePrice, previousPrice);
+        List<Long> hotelIds = List.of(hotelId);
+        int previousPrice = getPreviousPrices(hotelIds).getOrDefault(hotelId, 0);
+        int salePrice = toSalePrice(getSalePrices(hotelIds).get(hotelId), previousPrice);
 
+        HotelResponse hotelResponse = hotelMapper.changeToHotelResponseExcludeImage(hotel);
+        hotelResponse.setHotelImageUrls(getHotelImageUrls(hotelIds).getOrDefault(hotelId, new ArrayList<>()));
+        hotelResponse.setGradeAverage(getHotelGrade(hotelId));
+        hotelResponse.setSalePrice(salePrice);
+        hotelResponse.setPreviousPrice(previousPrice);
+        return hotelResponse;
     }
 
-    private int getSalePrice(Long hotelId, int previousPrice) {
+    private Map<Long, Integer> getSalePrices(Collection<Long> hotelIds) {
         QTimeSale qTimeSale = QTimeSale.timeSale;
         QRoom qRoom = QRoom.room;
         LocalDateTime now = LocalDateTime.now();
 
-        Integer salePrice = queryFactory.select(qTimeSale.price.min())
+        return queryFactory.select(qRoom.hotel.id, qTimeSale.price.min())
                 .from(qTimeSale)
                 .join(qTimeSale.room, qRoom)
-                .where(qRoom.hotel.id.eq(hotelId))
+                .where(qRoom.hotel.id.in(hotelIds))
                 .where(qTimeSale.startAt.before(now).and(qTimeSale.endAt.after(now)))
-                .fetchOne();
+                .groupBy(qRoom.hotel.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(qRoom.hotel.id),
+                        tuple -> tuple.get(qTimeSale.price.min())));
+    }
+
+    private Map<Long, Integer> getPreviousPrices(Collection<Long> hotelIds) {
+        QRoom qRoom = QRoom.room;
 
+        return queryFactory.select(qRoom.hotel.id, qRoom.price.min())
+                .from(qRoom)
+                .where(qRoom.hotel.id.in(hotelIds))
+                .groupBy(qRoom.hotel.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(qRoom.hotel.id),
+                        tuple -> tuple.get(qRoom.price.min())));
+    }
+
+    private int toSalePrice(Integer salePrice, int previousPrice) {
         if (salePrice == null || previousPrice < salePrice) {
-            salePrice = previousPrice;
+            return previousPrice;
         }
-
         return salePrice;
     }
 
-    private int getPreviousPrice(Long hotelId) {
-        QRoom qRoom = QRoom.room;
-
-        Integer previousPrice = queryFactory.select(qRoom.price.min())
-                .from(qRoom)
-                .where(qRoom.hotel.id.eq(hotelId))
-                .fetchOne();
+    private Predicate[] searchPredicates(HotelSearchRequest hotelSearchRequest) {
+        return new Predicate[]{
+                getNamePredicate(hotelSearchRequest.getName()),
+                getProvincePredicate(hotelSearchRequest.getProvince()),
+                getCityPredicate(hotelSearchRequest.getCity()),
+                getDistrictPredicate(hotelSearchRequest.getDistrict()),
+                getDetailedAddressPredicate(hotelSearchRequest.getDetailedAddress()),
+                getCategoryPredicate(hotelSearchRequest.getCategory()),
+                getFacilityPredicate(hotelSearchRequest),
+                getReservationBetweenPredicate(hotelSearchRequest.getSearchStartAt(),
+                        // 숙박 시작일 ~ 숙박 종료일 동안 예약이 가능한 객실을 보유한 호텔만 리스트에 담는다
+                        hotelSearchRequest.getSearchEndAt()),
+                getPeoplePredicate(hotelSearchRequest.getPeople()) // 인원보다 많은 인원을 수용할 수 있는 객실을 보유한 호텔만 리스트에 담는다
+        };
+    }
 
-        return previousPrice != null ? previousPrice : 0;
+    private QHotelSummaryResponse hotelSummaryProjection() {
+        return new QHotelSummaryResponse(
+                QHotel.hotel.id,
+                QHotel.hotel.name,
+                QHotel.hotel.category,
+                QHotel.hotel.description,
+                QHotel.hotel.mainImage,
+                QHotel.hotel.province,
+                QHotel.hotel.city,
+                QHotel.hotel.district
+        );
     }
 
-    private double calculateGradeEnum(List<GradeEnum> gradeEnumList) {
-        if (gradeEnumList.isEmpty()) {
-            return 0.0;
+    /**
+     * geohash 접두사로 후보를 인덱스 범위 스캔으로 좁힌 뒤 위경도 범위로 셀 가장자리를 걸러낸다.
+     */
+    private Predicate getGeoPredicate(double[] box) {
+        BooleanBuilder cells = new BooleanBuilder();
+        for (String cell : GeoHash.cover(box[0], box[1], box[2], box[3], GEO_COVER_MAX_CELLS)) {
+            cells.or(QHotel.hotel.geohash.startsWith(cell));
         }
-        return gradeEnumList.stream()
-                .mapToInt(GradeEnum::getValue)
-                .average()
-                .orElse(0.0);
+        return new BooleanBuilder()
+                .and(cells)
+                .and(QHotel.hotel.latitude.between(box[0], box[2]))
+                .and(QHotel.hotel.longitude.between(box[1], box[3]));
     }
 
     private Predicate getNamePredicate(String name) {
@@ -228,64 +459,23 @@ public class HotelDaoImpl implements HotelDaoCustom {
         return StringUtils.hasText(detailedAddress) ? QHotel.hotel.detailedAddress.contains(detailedAddress) : null;
     }
 
-    private Predicate getBarbecuePredicate(Boolean barbecue) {
-        return barbecue != null ? QHotel.hotel.facility.barbecue.eq(barbecue) : null;
-    }
-
-    private Predicate getWifiPredicate(Boolean wifi) {
-        return wifi != null ? QHotel.hotel.facility.wifi.eq(wifi) : null;
-    }
-
-    private Predicate getParkingLotPredicate(Boolean parkingLot) {
-        return parkingLot != null ? QHotel.hotel.facility.parkingLot.eq(parkingLot) : null;
-    }
-
-    private Predicate getSaunaPredicate(Boolean sauna) {
-        return sauna != null ? QHotel.hotel.facility.sauna.eq(sauna) : null;
-    }
-
-    private Predicate getSwimmingPoolPredicate(Boolean swimmingPool) {
-        return swimmingPool != null ? QHotel.hotel.facility.swimmingPool.eq(swimmingPool) : null;
-    }
-
-    private Predicate getRestaurantPredicate(Boolean restaurant) {
-        return restaurant != null ? QHotel.hotel.facility.restaurant.eq(restaurant) : null;
-    }
-
-    private Predicate getRoofTopPredicate(Boolean roofTop) {
-        return roofTop != null ? QHotel.hotel.facility.roofTop.eq(roofTop) : null;
-    }
-
-    private Predicate getFitnessPredicate(Boolean fitness) {
-        return fitness != null ? QHotel.hotel.facility.fitness.eq(fitness) : null;
-    }
-
-    private Predicate getDryerPredicate(Boolean dryer) {
-        return dryer != null ? QHotel.hotel.facility.dryer.eq(dryer) : null;
-    }
-
-    private Predicate getBreakfistPredicate(Boolean breakfast) {
-        return breakfast != null ? QHotel.hotel.facility.breakfast.eq(breakfast) : null;
-    }
-
-    private Predicate getSmokingAreaPredicate(Boolean smokingArea) {
-        return smokingArea != null ? QHotel.hotel.facility.smokingArea.eq(smokingArea) : null;
-    }
+    private Predicate getFacilityPredicate(HotelSearchRequest hotelSearchRequest) {
+        long required = FacilityFlag.maskOf(hotelSearchRequest, true);
+        long excluded = FacilityFlag.maskOf(hotelSearchRequest, false);
+        NumberPath<Long> facilityMask = QHotel.hotel.facility.facilityMask;
 
-    private Predicate getAllTimeDeskPredicate(Boolean allTimeDesk) {
-        return allTimeDesk != null ? QHotel.hotel.facility.allTimeDesk.eq(allTimeDesk) : null;
-    }
-
-    private Predicate getLuggageStoragePredicate(Boolean luggageStorage) {
-        return luggageStorage != null ? QHotel.hotel.facility.luggageStorage.eq(luggageStorage) : null;
-    }
-
-    private Predicate getSnackBarPredicate(Boolean snackBar) {
-        return snackBar != null ? QHotel.hotel.facility.snackBar.eq(snackBar) : null;
+        BooleanBuilder builder = new BooleanBuilder();
+        if (required != 0L) {
+            builder.and(bitand(facilityMask, required).eq(required));
+        }
+        if (excluded != 0L) {
+            builder.and(bitand(facilityMask, excluded).eq(0L));
+        }
+        return builder;
     }
 
-    private Predicate getPetFriendlyPredicate(Boolean petFriendly) {
-        return petFriendly != null ? QHotel.hotel.facility.petFriendly.eq(petFriendly) : null;
+    private NumberExpression<Long> bitand(NumberPath<Long> mask, long bits) {
+        return Expressions.numberTemplate(Long.class, "function('bitand', {0}, {1})", mask, bits);
     }
 
     private Predicate getCategoryPredicate(HotelCategoryEnum categoryEnum) {
@@ -304,14 +494,45 @@ public class HotelDaoImpl implements HotelDaoCustom {
         }
 
         QRoom qRoom = QRoom.room;
-        QReservation qReservation = QReservation.reservation;
+        QRoomNightInventory qInventory = QRoomNightInventory.roomNightInventory;
+        List<LocalDate> nights = RoomNightInventory.nightsOf(searchStartAt, searchEndAt);
+
+        BooleanBuilder builder = new BooleanBuilder(qRoom.id.notIn(
+                JPAExpressions.select(qInventory.room.id)
+                        .from(qInventory)
+                        .where(qInventory.stayDate.in(nights),
+                                qInventory.booked.goe(qInventory.total))
+        ));
+        if (!isInventoryBackfilled()) {
+            builder.and(qRoom.id.notIn(fullyBookedByReservations(nights)));
+        }
+        return builder;
+    }
 
-        return qRoom.id.notIn(
-                JPAExpressions.select(qReservation.room.id)
-                        .from(qReservation)
-                        .where(qReservation.startAt.loe(searchEndAt)
-                                .and(qReservation.endAt.goe(searchStartAt)))
-        );
+    private boolean isInventoryBackfilled() {
+        if (!inventoryBackfilled) {
+            inventoryBackfilled = sweepWatermarkDao.findByName(RoomNightInventoryBackfillStatus.NAME).isPresent();
+        }
+        return inventoryBackfilled;
+    }
+
+    /**
+     * 재고 행이 기존 예약으로 채워지기 전에 쓰는 예약 테이블 기준 검사. 기간 중 하룻밤이라도 겹치는 예약 수가 객실 수에 닿은 객실을 고른다.
+     */
+    private JPQLQuery<Long> fullyBookedByReservations(List<LocalDate> nights) {
+        QReservation qReservation = QReservation.reservation;
+        QRoom bookedRoom = new QRoom("bookedRoom");
+        LocalDate firstNight = nights.get(0);
+        LocalDate lastNight = nights.get(nights.size() - 1);
+
+        return JPAExpressions.select(bookedRoom.id)
+                .from(qReservation)
+                .join(qReservation.room, bookedRoom)
+                .where(qReservation.status.in(ReservationStatusEnum.inventoryHoldingStatuses()),
+                        qReservation.startAt.loe(lastNight),
+                        qReservation.endAt.gt(firstNight).or(qReservation.startAt.goe(firstNight)))
+                .groupBy(bookedRoom.id, bookedRoom.totalRooms)
+                .having(qReservation.count().goe(bookedRoom.totalRooms.longValue()));
     }
 
     private Predicate containsKeywordPredicate(String keyword) {
@@ -0,0 +1,28 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.HotelRatingSummary;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HotelRatingSummaryDao extends JpaRepository<HotelRatingSummary, Long> {
+    Optional<HotelRatingSummary> findByHotelId(Long hotelId);
+
+    long countByHotelIdIn(Collection<Long> hotelIds);
+
+    @Query("select s.hotel.id from HotelRatingSummary s where s.hotel.id in :hotelIds")
+    List<Long> findHotelIdsByHotelIdIn(@Param("hotelIds") Collection<Long> hotelIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<HotelRatingSummary> findWithLockByHotelIdInOrderByHotelIdAsc(Collection<Long> hotelIds);
+
+    @Query("select r.reservation.room.hotel.id, r.grade, count(r) from Review r "
+            + "where r.reservation.room.hotel.id in :hotelIds "
+            + "group by r.reservation.room.hotel.id, r.grade")
+    List<Object[]> countGradesGroupByHotel(@Param("hotelIds") Collection<Long> hotelIds);
+}
@@ -0,0 +1,32 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventDao extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * 아무도 맡지 않았거나 맡은 지 staleBefore 보다 오래된 이벤트를 오래된 순서로 잠가 읽는다.
+     * 같은 키의 앞선 이벤트를 다른 relay 가 발행 중이면 그 키의 뒤 이벤트는 가져오지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from OutboxEvent e where (e.claimedAt is null or e.claimedAt < :staleBefore)"
+            + " and not exists (select o from OutboxEvent o where o.aggregateKey = e.aggregateKey and o.id < e.id"
+            + " and o.claimedAt >= :staleBefore)"
+            + " order by e.id")
+    List<OutboxEvent> findWithLockClaimable(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedAt = null where e in :events")
+    int releaseClaims(@Param("events") List<OutboxEvent> events);
+
+    @Query("select min(e.createdAt) from OutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
@@ -0,0 +1,21 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.ProcessedEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProcessedEventDao extends JpaRepository<ProcessedEvent, Long> {
+    boolean existsByTopicAndEventId(String topic, String eventId);
+
+    @Query("select e.eventId from ProcessedEvent e where e.topic = :topic and e.eventId in :eventIds")
+    List<String> findEventIds(@Param("topic") String topic, @Param("eventIds") Collection<String> eventIds);
+
+    @Modifying
+    @Query("delete from ProcessedEvent e where e.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
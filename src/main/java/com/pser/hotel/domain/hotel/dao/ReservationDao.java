@@ -1,16 +1,23 @@
 package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.domain.Reservation;
-import com.pser.hotel.domain.hotel.dto.request.ReservationCreateRequest;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ReservationDao extends JpaRepository<Reservation, Long>, ReservationDaoCustom {
+public interface ReservationDao extends JpaRepository<Reservation, Long> {
     @Query("select r from Reservation r left join User u left join Room rm where u.email=:email")
     Page<Reservation> findByUserEmail(Pageable pageable, @Param("email") String email);
 
@@ -21,8 +28,52 @@ public interface ReservationDao extends JpaRepository<Reservation, Long>, Reserv
     Optional<Reservation> findValidReservation(@Param("roomName") String roomName, @Param("startAt") LocalDate startAt,
                                                @Param("endAt") LocalDate endAt);
 
-    @Override
-    int countOverlappingReservations(ReservationCreateRequest request);
-
     Optional<Reservation> findByMerchantUid(String merchantUid);
+
+    List<Reservation> findAllByMerchantUidIn(Collection<String> merchantUids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.id in :ids")
+    List<Reservation> findAllWithLockByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select min(r.endAt) from Reservation r where r.status in :statuses")
+    LocalDate findMinEndAtByStatusIn(@Param("statuses") Collection<ReservationStatusEnum> statuses);
+
+    @Query("select r.id from Reservation r join r.room rm "
+            + "where r.status in :statuses and r.endAt = :endAt and r.id > :afterId "
+            + "and (rm.checkIn is null or rm.checkIn <= :checkInBefore) "
+            + "order by r.id")
+    List<Long> findIdsToClose(@Param("statuses") Collection<ReservationStatusEnum> statuses,
+                              @Param("endAt") LocalDate endAt, @Param("checkInBefore") LocalTime checkInBefore,
+                              @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * firstNight ~ lastNight 중 하룻밤이라도 차지하는 예약 수. 시작일과 종료일이 같은 예약은 시작일 하룻밤을 차지한다.
+     */
+    @Query("select count(r) from Reservation r where r.room.id = :roomId and r.status in :statuses "
+            + "and r.startAt <= :lastNight and (r.endAt > :firstNight or r.startAt >= :firstNight)")
+    long countOverlapping(@Param("roomId") Long roomId, @Param("firstNight") LocalDate firstNight,
+                          @Param("lastNight") LocalDate lastNight,
+                          @Param("statuses") Collection<ReservationStatusEnum> statuses);
+
+    @Query("select distinct r.room.id from Reservation r "
+            + "where r.status in :statuses and r.endAt >= :from and r.room.id > :afterRoomId "
+            + "order by r.room.id")
+    List<Long> findRoomIdsWithStaysFrom(@Param("statuses") Collection<ReservationStatusEnum> statuses,
+                                        @Param("from") LocalDate from, @Param("afterRoomId") long afterRoomId,
+                                        Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select r from Reservation r where r.room.id = :roomId and r.status in :statuses and r.endAt >= :from")
+    List<Reservation> findStaysWithLockFrom(@Param("roomId") Long roomId,
+                                            @Param("statuses") Collection<ReservationStatusEnum> statuses,
+                                            @Param("from") LocalDate from);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :targetStatus, r.updatedAt = :now "
+            + "where r.id in :ids and r.status in :fromStatuses")
+    int updateStatusWhereStatusIn(@Param("ids") Collection<Long> ids,
+                                  @Param("fromStatuses") Collection<ReservationStatusEnum> fromStatuses,
+                                  @Param("targetStatus") ReservationStatusEnum targetStatus,
+                                  @Param("now") LocalDateTime now);
 }
@@ -2,10 +2,12 @@ package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.domain.Review;
 import com.pser.hotel.domain.hotel.dto.request.ReviewSearchRequest;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 
 public interface ReviewDao extends JpaRepository<Review, Long>, ReviewDaoCustom {
@@ -15,6 +17,9 @@ public interface ReviewDao extends JpaRepository<Review, Long>, ReviewDaoCustom
 
     Page<Review> search(ReviewSearchRequest dto, @NonNull Pageable pageable);
 
+    @Query("select r.id, r.detail from Review r")
+    List<Object[]> findAllKeywordFields();
+
     @Override
     @NonNull
     Optional<Review> findById(@NonNull Long id);
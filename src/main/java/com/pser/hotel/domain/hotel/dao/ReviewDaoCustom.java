@@ -2,9 +2,22 @@ package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.domain.Review;
 import com.pser.hotel.domain.hotel.dto.request.ReviewSearchRequest;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ReviewDaoCustom {
     Page<Review> search(ReviewSearchRequest request, Pageable pageable);
+
+    Slice<Review> searchSlice(ReviewSearchRequest request, Pageable pageable);
+
+    CursorSlice<Review> search(ReviewSearchRequest request, Cursor cursor, int size);
+
+    Long searchForCount(ReviewSearchRequest request);
+
+    List<Long> searchIds(ReviewSearchRequest request, Collection<Long> candidateIds);
 }
@@ -4,18 +4,24 @@ import com.pser.hotel.domain.hotel.domain.QReview;
 import com.pser.hotel.domain.hotel.domain.Review;
 import com.pser.hotel.domain.hotel.dto.request.ReviewSearchRequest;
 import com.pser.hotel.domain.model.GradeEnum;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Repository
@@ -35,18 +41,79 @@ public class ReviewDaoImpl implements ReviewDaoCustom {
                 .offset(pageable.getOffset())
                 .fetch();
 
+        return PageableExecutionUtils.getPage(reviews, pageable, () -> count(review, searchCondition));
+    }
+
+    @Override
+    public Slice<Review> searchSlice(ReviewSearchRequest request, Pageable pageable) {
+        QReview review = QReview.review;
+
+        List<Review> reviews = queryFactory
+                .selectFrom(review)
+                .where(buildSearchCondition(review, request))
+                .limit(pageable.getPageSize() + 1)
+                .offset(pageable.getOffset())
+                .fetch();
+
+        boolean hasNext = reviews.size() > pageable.getPageSize();
+        if (hasNext) {
+            reviews.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(reviews, pageable, hasNext);
+    }
+
+    @Override
+    public Long searchForCount(ReviewSearchRequest request) {
+        QReview review = QReview.review;
+        return count(review, buildSearchCondition(review, request));
+    }
+
+    @Override
+    public CursorSlice<Review> search(ReviewSearchRequest request, Cursor cursor, int size) {
+        QReview review = QReview.review;
+
+        List<Review> reviews = queryFactory
+                .selectFrom(review)
+                .where(buildSearchCondition(review, request))
+                .where(cursor != null ? cursor.after(review.createdAt, review.id) : null)
+                .orderBy(review.createdAt.asc(), review.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(reviews, size, Function.identity(),
+                last -> new Cursor(last.getCreatedAt(), last.getId()));
+    }
+
+    @Override
+    public List<Long> searchIds(ReviewSearchRequest request, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        QReview review = QReview.review;
+        return queryFactory
+                .select(review.id)
+                .from(review)
+                .where(buildFilterCondition(review, request))
+                .where(review.id.in(candidateIds))
+                .fetch();
+    }
+
+    private Long count(QReview review, BooleanBuilder searchCondition) {
         Long count = queryFactory
                 .select(review.count())
                 .from(review)
                 .where(searchCondition)
                 .fetchOne();
-
-        return new PageImpl<>(reviews, pageable, count != null ? count : 0L);
+        return count != null ? count : 0L;
     }
 
     private BooleanBuilder buildSearchCondition(QReview review, ReviewSearchRequest request) {
+        return buildFilterCondition(review, request)
+                .and(matchKeyword(review, request.getKeyword()));
+    }
+
+    private BooleanBuilder buildFilterCondition(QReview review, ReviewSearchRequest request) {
         return new BooleanBuilder()
-                .and(matchKeyword(review, request.getKeyword()))
                 .and(matchCreatedAfter(review, request.getCreatedAfter()))
                 .and(matchCreatedBefore(review, request.getCreatedBefore()))
                 .and(matchUpdatedAfter(review, request.getUpdatedAfter()))
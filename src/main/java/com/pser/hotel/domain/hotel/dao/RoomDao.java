@@ -6,8 +6,10 @@ import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RoomDao extends JpaRepository<Room, Long>, RoomDaoCustom {
@@ -17,4 +19,7 @@ public interface RoomDao extends JpaRepository<Room, Long>, RoomDaoCustom {
     Optional<Room> findByName(@Param("name") String name);
 
     Optional<Room> findByIdAndHotelId(Long roomId, Long hotelId);
+
+    @Query("select r.id, r.name, r.description, r.precaution from Room r")
+    List<Object[]> findAllKeywordFields();
 }
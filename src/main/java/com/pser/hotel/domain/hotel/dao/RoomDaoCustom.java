@@ -2,9 +2,25 @@ package com.pser.hotel.domain.hotel.dao;
 
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface RoomDaoCustom {
     Page<RoomResponse> search(RoomSearchRequest request, Pageable pageable);
+
+    Slice<RoomResponse> searchSlice(RoomSearchRequest request, Pageable pageable);
+
+    CursorSlice<RoomResponse> search(RoomSearchRequest request, Cursor cursor, int size);
+
+    Long searchForCount(RoomSearchRequest request);
+
+    List<Long> searchIds(RoomSearchRequest request, Collection<Long> candidateIds);
+
+    Map<Long, RoomResponse> findResponses(Collection<Long> roomIds);
 }
@@ -2,17 +2,28 @@ package com.pser.hotel.domain.hotel.dao;
 
 import static com.pser.hotel.domain.hotel.domain.QRoom.room;
 
+import com.pser.hotel.domain.hotel.domain.AmenityFlag;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
 import com.pser.hotel.domain.hotel.dto.response.QRoomResponse;
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,46 +33,80 @@ public class RoomDaoImpl implements RoomDaoCustom {
 
     @Override
     public Page<RoomResponse> search(RoomSearchRequest request, Pageable pageable) {
-        List<RoomResponse> fetch = queryFactory.select(
-                        new QRoomResponse(
-                                room.name,
-                                room.description,
-                                room.precaution,
-                                room.price,
-                                room.checkIn,
-                                room.checkOut,
-                                room.standardCapacity,
-                                room.maxCapacity,
-                                room.totalRooms,
-                                room.amenity
-                        )
-                )
+        List<RoomResponse> fetch = queryFactory.select(roomResponse())
                 .from(room)
-                .where(
-                        searchCondition(request),
-                        amenityCondition(request),
-                        priceCondition(request),
-                        standardCapacityCondition(request),
-                        maxCapacityCondition(request)
-                )
+                .where(searchPredicates(request))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        long count = searchForCount(request);
-        return new PageImpl<RoomResponse>(fetch, pageable, count);
+        return PageableExecutionUtils.getPage(fetch, pageable, () -> searchForCount(request));
     }
 
+    @Override
+    public Slice<RoomResponse> searchSlice(RoomSearchRequest request, Pageable pageable) {
+        List<RoomResponse> fetch = queryFactory.select(roomResponse())
+                .from(room)
+                .where(searchPredicates(request))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = fetch.size() > pageable.getPageSize();
+        if (hasNext) {
+            fetch.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(fetch, pageable, hasNext);
+    }
+
+    @Override
+    public CursorSlice<RoomResponse> search(RoomSearchRequest request, Cursor cursor, int size) {
+        QRoomResponse projection = roomResponse();
+
+        List<Tuple> rows = queryFactory.select(projection, room.createdAt, room.id)
+                .from(room)
+                .where(searchPredicates(request))
+                .where(cursor != null ? cursor.after(room.createdAt, room.id) : null)
+                .orderBy(room.createdAt.asc(), room.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(rows, size,
+                tuple -> tuple.get(projection),
+                tuple -> new Cursor(tuple.get(room.createdAt), tuple.get(room.id)));
+    }
+
+    @Override
+    public List<Long> searchIds(RoomSearchRequest request, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.select(room.id)
+                .from(room)
+                .where(filterPredicates(request))
+                .where(room.id.in(candidateIds))
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, RoomResponse> findResponses(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        QRoomResponse projection = roomResponse();
+        return queryFactory.select(room.id, projection)
+                .from(room)
+                .where(room.id.in(roomIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(room.id), tuple -> tuple.get(projection)));
+    }
+
+    @Override
     public Long searchForCount(RoomSearchRequest request) {
         Long count = queryFactory
                 .select(room.count())
                 .from(room)
-                .where(
-                        searchCondition(request),
-                        amenityCondition(request),
-                        priceCondition(request),
-                        standardCapacityCondition(request),
-                        maxCapacityCondition(request)
-                )
+                .where(searchPredicates(request))
                 .fetchOne();
         if (count == null) {
             count = 0L;
@@ -69,6 +114,40 @@ public class RoomDaoImpl implements RoomDaoCustom {
         return count;
     }
 
+    private QRoomResponse roomResponse() {
+        return new QRoomResponse(
+                room.name,
+                room.description,
+                room.precaution,
+                room.price,
+                room.checkIn,
+                room.checkOut,
+                room.standardCapacity,
+                room.maxCapacity,
+                room.totalRooms,
+                room.amenity
+        );
+    }
+
+    private Predicate[] searchPredicates(RoomSearchRequest request) {
+        return new Predicate[]{
+                searchCondition(request),
+                amenityCondition(request),
+                priceCondition(request),
+                standardCapacityCondition(request),
+                maxCapacityCondition(request)
+        };
+    }
+
+    private Predicate[] filterPredicates(RoomSearchRequest request) {
+        return new Predicate[]{
+                amenityCondition(request),
+                priceCondition(request),
+                standardCapacityCondition(request),
+                maxCapacityCondition(request)
+        };
+    }
+
     private BooleanBuilder maxCapacityCondition(RoomSearchRequest request) {
         return new BooleanBuilder()
                 .and(maxCapacityEq(request.getMaxCapacity()))
@@ -95,22 +174,13 @@ public class RoomDaoImpl implements RoomDaoCustom {
                 .and(keywordContains(request.getKeyword()));
     }
 
-    private BooleanBuilder amenityCondition(RoomSearchRequest request) {
-        return new BooleanBuilder()
-                .and(heatingIsTrue(request.getHeatingSystem()))
-                .and(tvIsTrue(request.getTv()))
-                .and(refrigeratorIsTrue(request.getRefrigerator()))
-                .and(airConditionerIsTrue(request.getAirConditioner()))
-                .and(washerIsTrue(request.getWasher()))
-                .and(terraceIsTrue(request.getTerrace()))
-                .and(coffeeMachineIsTrue(request.getCoffeeMachine()))
-                .and(internetIsTrue(request.getInternet()))
-                .and(kitchenIsTrue(request.getKitchen()))
-                .and(bathtubIsTrue(request.getBathtub()))
-                .and(ironIsTrue(request.getIron()))
-                .and(poolIsTrue(request.getPool()))
-                .and(petIsTrue(request.getPet()))
-                .and(innAnnexIsTrue(request.getInAnnex()));
+    private BooleanExpression amenityCondition(RoomSearchRequest request) {
+        long required = AmenityFlag.requiredOf(request);
+        if (required == 0L) {
+            return null;
+        }
+        return Expressions.numberTemplate(Long.class, "function('bitand', {0}, {1})", room.amenity.amenityMask,
+                required).eq(required);
     }
 
     private BooleanExpression maxCapacityEq(Integer maxCapacity) {
@@ -149,62 +219,6 @@ public class RoomDaoImpl implements RoomDaoCustom {
         return priceLte != null ? room.price.loe(priceLte) : null;
     }
 
-    private BooleanExpression heatingIsTrue(Boolean heatingSystem) {
-        return heatingSystem != null ? room.amenity.heatingSystem.isTrue() : null;
-    }
-
-    private BooleanExpression tvIsTrue(Boolean tv) {
-        return tv != null ? room.amenity.tv.isTrue() : null;
-    }
-
-    private BooleanExpression refrigeratorIsTrue(Boolean refrigerator) {
-        return refrigerator != null ? room.amenity.refrigerator.isTrue() : null;
-    }
-
-    private BooleanExpression airConditionerIsTrue(Boolean airConditioner) {
-        return airConditioner != null ? room.amenity.airConditioner.isTrue() : null;
-    }
-
-    private BooleanExpression washerIsTrue(Boolean washer) {
-        return washer != null ? room.amenity.washer.isTrue() : null;
-    }
-
-    private BooleanExpression terraceIsTrue(Boolean terrace) {
-        return terrace != null ? room.amenity.terrace.isTrue() : null;
-    }
-
-    private BooleanExpression coffeeMachineIsTrue(Boolean coffeeMachine) {
-        return coffeeMachine != null ? room.amenity.coffeeMachine.isTrue() : null;
-    }
-
-    private BooleanExpression internetIsTrue(Boolean internet) {
-        return internet != null ? room.amenity.internet.isTrue() : null;
-    }
-
-    private BooleanExpression kitchenIsTrue(Boolean kitchen) {
-        return kitchen != null ? room.amenity.kitchen.isTrue() : null;
-    }
-
-    private BooleanExpression bathtubIsTrue(Boolean bathtub) {
-        return bathtub != null ? room.amenity.bathtub.isTrue() : null;
-    }
-
-    private BooleanExpression ironIsTrue(Boolean iron) {
-        return iron != null ? room.amenity.iron.isTrue() : null;
-    }
-
-    private BooleanExpression poolIsTrue(Boolean pool) {
-        return pool != null ? room.amenity.pool.isTrue() : null;
-    }
-
-    private BooleanExpression petIsTrue(Boolean pet) {
-        return pet != null ? room.amenity.pet.isTrue() : null;
-    }
-
-    private BooleanExpression innAnnexIsTrue(Boolean innAnnex) {
-        return innAnnex != null ? room.amenity.inAnnex.isTrue() : null;
-    }
-
     private BooleanBuilder keywordContains(String keyword) {
         return new BooleanBuilder()
                 .or(nameContains(keyword))
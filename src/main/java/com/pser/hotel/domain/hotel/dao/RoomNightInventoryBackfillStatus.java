@@ -0,0 +1,39 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.SweepWatermark;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * room_night_inventory 가 재고 테이블 도입 전 예약으로부터 채워졌는지 알려준다. 채워지기 전에는 재고 행이 비어 있을 수 있으므로
+ * 예약 테이블의 겹침 검사를 함께 해야 한다. 완료 표시는 sweep_watermark 의 한 행이며, 한 번 완료를 확인하면 다시 조회하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomNightInventoryBackfillStatus {
+    public static final String NAME = "room-night-inventory.backfill";
+
+    private final SweepWatermarkDao sweepWatermarkDao;
+    private volatile boolean completed;
+
+    public boolean isCompleted() {
+        if (!completed) {
+            completed = sweepWatermarkDao.findByName(NAME).isPresent();
+        }
+        return completed;
+    }
+
+    public void markCompleted(LocalDate backfilledFrom) {
+        try {
+            SweepWatermark marker = sweepWatermarkDao.findByName(NAME)
+                    .orElseGet(() -> SweepWatermark.builder().name(NAME).build());
+            marker.setWatermarkDate(backfilledFrom);
+            sweepWatermarkDao.saveAndFlush(marker);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 완료를 기록했다
+        }
+        completed = true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface RoomNightInventoryDao extends JpaRepository<RoomNightInventory, Long> {
+    List<RoomNightInventory> findByRoomIdAndStayDateInOrderByStayDateAsc(Long roomId, Collection<LocalDate> stayDates);
+
+    long countByRoomIdAndStayDateIn(Long roomId, Collection<LocalDate> stayDates);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    List<RoomNightInventory> findWithLockByRoomIdAndStayDateInOrderByStayDateAsc(Long roomId,
+                                                                                Collection<LocalDate> stayDates);
+
+    @Modifying
+    @Query("update RoomNightInventory i set i.total = :total where i.room.id = :roomId and i.stayDate >= :from")
+    int updateTotalFrom(@Param("roomId") Long roomId, @Param("total") int total, @Param("from") LocalDate from);
+}
@@ -0,0 +1,9 @@
+package com.pser.hotel.domain.hotel.dao;
+
+import com.pser.hotel.domain.hotel.domain.SweepWatermark;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SweepWatermarkDao extends JpaRepository<SweepWatermark, Long> {
+    Optional<SweepWatermark> findByName(String name);
+}
@@ -4,10 +4,8 @@ import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.domain.QHotel;
 import com.pser.hotel.domain.hotel.domain.QRoom;
 import com.pser.hotel.domain.hotel.domain.QTimeSale;
-import com.pser.hotel.domain.hotel.domain.Room;
-import com.pser.hotel.domain.hotel.domain.TimeSale;
-import com.pser.hotel.domain.hotel.dto.mapper.HotelMapper;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
+import com.pser.hotel.domain.hotel.dto.response.QHotelSummaryResponse;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
@@ -16,6 +14,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -28,7 +28,6 @@ import org.springframework.stereotype.Repository;
 public class TimesaleDaoImpl implements TimesaleCustom {
     private final JPAQueryFactory queryFactory;
     private final HotelDao hotelDao;
-    private final HotelMapper hotelMapper;
 
     @Override
     public Optional<Hotel> findHotelByRoomId(Long roomId) {
@@ -68,47 +67,65 @@ public class TimesaleDaoImpl implements TimesaleCustom {
         LocalDateTime now = LocalDateTime.now();
 
         List<Tuple> timesaleData = queryFactory
-                .select(qTimeSale, qRoom, qHotel)
+                .select(qRoom.hotel.id, qTimeSale.price, qRoom.price)
                 .from(qTimeSale)
                 .join(qTimeSale.room, qRoom)
-                .join(qRoom.hotel, qHotel)
                 .where(qTimeSale.startAt.before(now).and(qTimeSale.endAt.after(now)))
                 .fetch();
 
-        List<HotelSummaryResponse> timesaleHotelResponses = timesaleData.stream()
-                .map(tuple -> {
-                    TimeSale timeSale = tuple.get(qTimeSale);
-                    Room room = tuple.get(qRoom);
-                    Hotel hotel = tuple.get(qHotel);
-
-                    int salePrice = Objects.requireNonNull(timeSale).getPrice();
-                    int previousPrice = Objects.requireNonNull(room).getPrice();
-                    double hotelGrade = hotelDao.getHotelGrade(Objects.requireNonNull(hotel).getId());
-
-                    HotelSummaryResponse summaryResponse = hotelMapper.changeToHotelSummaryResponse(hotel, hotelGrade,
-                            salePrice, previousPrice);
-
-                    return summaryResponse;
-
-                })
-                .toList();
-
-        Map<String, HotelSummaryResponse> hotelResponseMap = timesaleHotelResponses.stream()
+        Map<Long, Tuple> cheapestByHotel = timesaleData.stream()
                 .collect(Collectors.toMap(
-                        HotelSummaryResponse::getName,
-                        response -> response,
-                        (existing, replacement) -> existing.getSalePrice() < replacement.getSalePrice() ? existing
-                                : replacement
+                        tuple -> tuple.get(qRoom.hotel.id),
+                        tuple -> tuple,
+                        (existing, replacement) -> getPrice(existing, qTimeSale) <= getPrice(replacement, qTimeSale)
+                                ? existing : replacement,
+                        TreeMap::new
                 ));
 
-        List<HotelSummaryResponse> filteredHotelResponses = new ArrayList<>(hotelResponseMap.values());
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredHotelResponses.size());
-        List<HotelSummaryResponse> subList = filteredHotelResponses.subList(start, end);
-
-        boolean hasNext = end < filteredHotelResponses.size();
+        List<Long> hotelIds = new ArrayList<>(cheapestByHotel.keySet());
+        int start = (int) Math.min(pageable.getOffset(), hotelIds.size());
+        int end = Math.min(start + pageable.getPageSize(), hotelIds.size());
+        List<Long> pageHotelIds = hotelIds.subList(start, end);
+        boolean hasNext = end < hotelIds.size();
+
+        if (pageHotelIds.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, hasNext);
+        }
+
+        Map<Long, HotelSummaryResponse> summaries = queryFactory
+                .select(new QHotelSummaryResponse(
+                        qHotel.id,
+                        qHotel.name,
+                        qHotel.category,
+                        qHotel.description,
+                        qHotel.mainImage,
+                        qHotel.province,
+                        qHotel.city,
+                        qHotel.district
+                ))
+                .from(qHotel)
+                .where(qHotel.id.in(pageHotelIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(HotelSummaryResponse::getId, Function.identity()));
+        Map<Long, List<String>> images = hotelDao.getHotelImageUrls(pageHotelIds);
+        Map<Long, Double> grades = hotelDao.getHotelGrades(pageHotelIds);
+
+        List<HotelSummaryResponse> content = new ArrayList<>();
+        for (Long hotelId : pageHotelIds) {
+            HotelSummaryResponse summary = summaries.get(hotelId);
+            Tuple cheapest = cheapestByHotel.get(hotelId);
+            summary.setHotelImageUrls(images.getOrDefault(hotelId, new ArrayList<>()));
+            summary.setGradeAverage(grades.getOrDefault(hotelId, 0.0));
+            summary.setSalePrice(getPrice(cheapest, qTimeSale));
+            summary.setPreviousPrice(Objects.requireNonNull(cheapest.get(qRoom.price)));
+            content.add(summary);
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 
-        return new SliceImpl<>(subList, pageable, hasNext);
+    private int getPrice(Tuple tuple, QTimeSale qTimeSale) {
+        return Objects.requireNonNull(tuple.get(qTimeSale.price));
     }
 }
@@ -1,13 +1,19 @@
 package com.pser.hotel.domain.hotel.domain;
 
 import com.pser.hotel.domain.model.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +24,7 @@ import lombok.ToString;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_amenity_mask", columnList = "amenity_mask"))
 @ToString(of = {"heatingSystem", "tv", "refrigerator", "airConditioner", "washer", "terrace", "coffeeMachine",
         "internet", "kitchen", "bathtub", "iron", "pool", "pet",
         "inAnnex",})
@@ -54,6 +61,10 @@ public class Amenity extends BaseEntity {
 
     private Boolean inAnnex = false;
 
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private long amenityMask;
+
     @Builder
     public Amenity(Room room, Boolean heatingSystem, Boolean tv, Boolean refrigerator, Boolean airConditioner,
                    Boolean washer, Boolean terrace, Boolean coffeeMachine, Boolean internet, Boolean kitchen,
@@ -73,6 +84,13 @@ public class Amenity extends BaseEntity {
         this.pool = Optional.ofNullable(pool).orElse(this.pool);
         this.pet = Optional.ofNullable(pet).orElse(this.pet);
         this.inAnnex = Optional.ofNullable(inAnnex).orElse(this.inAnnex);
+        syncAmenityMask();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void syncAmenityMask() {
+        this.amenityMask = AmenityFlag.maskOf(this);
     }
 
     public void setRoom(Room room) {
@@ -0,0 +1,59 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 객실 편의시설 비트 정의. 비트 위치는 선언 순서(ordinal)를 따르므로 새 항목은 반드시 끝에 추가한다.
+ */
+@RequiredArgsConstructor
+public enum AmenityFlag {
+    HEATING_SYSTEM("heatingSystem", Amenity::getHeatingSystem, RoomSearchRequest::getHeatingSystem),
+    TV("tv", Amenity::getTv, RoomSearchRequest::getTv),
+    REFRIGERATOR("refrigerator", Amenity::getRefrigerator, RoomSearchRequest::getRefrigerator),
+    AIR_CONDITIONER("airConditioner", Amenity::getAirConditioner, RoomSearchRequest::getAirConditioner),
+    WASHER("washer", Amenity::getWasher, RoomSearchRequest::getWasher),
+    TERRACE("terrace", Amenity::getTerrace, RoomSearchRequest::getTerrace),
+    COFFEE_MACHINE("coffeeMachine", Amenity::getCoffeeMachine, RoomSearchRequest::getCoffeeMachine),
+    INTERNET("internet", Amenity::getInternet, RoomSearchRequest::getInternet),
+    KITCHEN("kitchen", Amenity::getKitchen, RoomSearchRequest::getKitchen),
+    BATHTUB("bathtub", Amenity::getBathtub, RoomSearchRequest::getBathtub),
+    IRON("iron", Amenity::getIron, RoomSearchRequest::getIron),
+    POOL("pool", Amenity::getPool, RoomSearchRequest::getPool),
+    PET("pet", Amenity::getPet, RoomSearchRequest::getPet),
+    IN_ANNEX("inAnnex", Amenity::getInAnnex, RoomSearchRequest::getInAnnex);
+
+    @Getter
+    private final String property;
+    private final Function<Amenity, Boolean> getter;
+    private final Function<RoomSearchRequest, Boolean> requested;
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Amenity amenity) {
+        long mask = 0L;
+        for (AmenityFlag flag : values()) {
+            if (Boolean.TRUE.equals(flag.getter.apply(amenity))) {
+                mask |= flag.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 기존 검색과 동일하게 값이 지정된 편의시설은 모두 보유해야 하는 조건으로 본다.
+     */
+    public static long requiredOf(RoomSearchRequest request) {
+        long mask = 0L;
+        for (AmenityFlag flag : values()) {
+            if (flag.requested.apply(request) != null) {
+                mask |= flag.bit();
+            }
+        }
+        return mask;
+    }
+}
@@ -1,12 +1,18 @@
 package com.pser.hotel.domain.hotel.domain;
 
 import com.pser.hotel.domain.model.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +23,7 @@ import lombok.ToString;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_facility_mask", columnList = "facility_mask"))
 @ToString(of = {"parkingLot", "barbecue", "wifi", "sauna", "swimmingPool", "restaurant", "roofTop", "fitness", "dryer",
         "breakfast", "smokingArea", "allTimeDesk", "luggageStorage", "snackBar", "petFriendly"})
 public class Facility extends BaseEntity {
@@ -35,6 +42,9 @@ public class Facility extends BaseEntity {
     private Boolean luggageStorage;
     private Boolean snackBar;
     private Boolean petFriendly;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private long facilityMask;
     @OneToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Hotel hotel;
@@ -60,9 +70,16 @@ public class Facility extends BaseEntity {
         this.luggageStorage = luggageStorage;
         this.snackBar = snackBar;
         this.petFriendly = petFriendly;
+        syncFacilityMask();
         setHotel(hotel);
     }
 
+    @PrePersist
+    @PreUpdate
+    public void syncFacilityMask() {
+        this.facilityMask = FacilityFlag.maskOf(this);
+    }
+
     public void setHotel(Hotel hotel) {
         if (this.hotel != null) {
             this.hotel.setFacility(null);
@@ -0,0 +1,94 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.hotel.dto.FacilityDto;
+import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 숙소 편의시설 비트 정의. 비트 위치는 선언 순서(ordinal)를 따르므로 새 항목은 반드시 끝에 추가한다.
+ */
+@RequiredArgsConstructor
+public enum FacilityFlag {
+    PARKING_LOT("parkingLot", Facility::getParkingLot, FacilityDto::getParkingLot,
+            HotelSearchRequest::getParkingLot),
+    BARBECUE("barbecue", Facility::getBarbecue, FacilityDto::getBarbecue,
+            HotelSearchRequest::getBarbecue),
+    WIFI("wifi", Facility::getWifi, FacilityDto::getWifi,
+            HotelSearchRequest::getWifi),
+    SAUNA("sauna", Facility::getSauna, FacilityDto::getSauna,
+            HotelSearchRequest::getSauna),
+    SWIMMING_POOL("swimmingPool", Facility::getSwimmingPool, FacilityDto::getSwimmingPool,
+            HotelSearchRequest::getSwimmingPool),
+    RESTAURANT("restaurant", Facility::getRestaurant, FacilityDto::getRestaurant,
+            HotelSearchRequest::getRestaurant),
+    ROOF_TOP("roofTop", Facility::getRoofTop, FacilityDto::getRoofTop,
+            HotelSearchRequest::getRoofTop),
+    FITNESS("fitness", Facility::getFitness, FacilityDto::getFitness,
+            HotelSearchRequest::getFitness),
+    DRYER("dryer", Facility::getDryer, FacilityDto::getDryer,
+            HotelSearchRequest::getDryer),
+    BREAKFAST("breakfast", Facility::getBreakfast, FacilityDto::getBreakfast,
+            HotelSearchRequest::getBreakfast),
+    SMOKING_AREA("smokingArea", Facility::getSmokingArea, FacilityDto::getSmokingArea,
+            HotelSearchRequest::getSmokingArea),
+    ALL_TIME_DESK("allTimeDesk", Facility::getAllTimeDesk, FacilityDto::getAllTimeDesk,
+            HotelSearchRequest::getAllTimeDesk),
+    LUGGAGE_STORAGE("luggageStorage", Facility::getLuggageStorage, FacilityDto::getLuggageStorage,
+            HotelSearchRequest::getLuggageStorage),
+    SNACK_BAR("snackBar", Facility::getSnackBar, FacilityDto::getSnackBar,
+            HotelSearchRequest::getSnackBar),
+    PET_FRIENDLY("petFriendly", Facility::getPetFriendly, FacilityDto::getPetFriendly,
+            HotelSearchRequest::getPetFriendly);
+
+    @Getter
+    private final String property;
+    private final Function<Facility, Boolean> getter;
+    private final Function<FacilityDto, Boolean> dtoGetter;
+    private final Function<HotelSearchRequest, Boolean> requested;
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Facility facility) {
+        long mask = 0L;
+        for (FacilityFlag flag : values()) {
+            if (Boolean.TRUE.equals(flag.getter.apply(facility))) {
+                mask |= flag.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static long maskOf(FacilityDto facilityDto) {
+        long mask = 0L;
+        for (FacilityFlag flag : values()) {
+            if (Boolean.TRUE.equals(flag.dtoGetter.apply(facilityDto))) {
+                mask |= flag.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static long maskOf(HotelSearchRequest request, boolean expected) {
+        long mask = 0L;
+        for (FacilityFlag flag : values()) {
+            Boolean value = flag.requested.apply(request);
+            if (value != null && value == expected) {
+                mask |= flag.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static long maskOf(Collection<FacilityFlag> flags) {
+        long mask = 0L;
+        for (FacilityFlag flag : flags) {
+            mask |= flag.bit();
+        }
+        return mask;
+    }
+}
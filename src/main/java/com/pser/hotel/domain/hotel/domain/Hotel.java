@@ -2,6 +2,7 @@ package com.pser.hotel.domain.hotel.domain;
 
 import com.pser.hotel.domain.member.domain.User;
 import com.pser.hotel.domain.model.BaseEntity;
+import com.pser.hotel.global.util.GeoHash;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.ConstraintMode;
@@ -9,12 +10,17 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +34,10 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_hotel_geohash", columnList = "geohash"),
+        @Index(name = "idx_hotel_created_at_id", columnList = "created_at, id")
+})
 @ToString(of = {"name", "category", "description", "notice", "province", "city", "district", "detailedAddress",
         "latitude", "longitude", "businessNumber"})
 public class Hotel extends BaseEntity {
@@ -52,6 +62,9 @@ public class Hotel extends BaseEntity {
     private double latitude;
     @Column(nullable = false)
     private double longitude;
+    @Setter(AccessLevel.NONE)
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
     @Column(nullable = false)
     private String mainImage;
     @Column(nullable = false)
@@ -78,6 +91,12 @@ public class Hotel extends BaseEntity {
     @Builder.Default
     private List<Room> rooms = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    public void syncGeohash() {
+        this.geohash = GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+    }
+
     public void addImage(HotelImage image) {
         this.images.add(image);
     }
@@ -0,0 +1,108 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.model.BaseEntity;
+import com.pser.hotel.domain.model.GradeEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+public class HotelRatingSummary extends BaseEntity {
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "hotel_id", nullable = false, unique = true, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Hotel hotel;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long gradeSum;
+
+    @Column(nullable = false)
+    private long oneStarCount;
+
+    @Column(nullable = false)
+    private long twoStarsCount;
+
+    @Column(nullable = false)
+    private long threeStarsCount;
+
+    @Column(nullable = false)
+    private long fourStarsCount;
+
+    @Column(nullable = false)
+    private long fiveStarsCount;
+
+    @Builder
+    public HotelRatingSummary(Hotel hotel) {
+        this.hotel = hotel;
+    }
+
+    public double getGradeAverage() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return (double) gradeSum / reviewCount;
+    }
+
+    public long getCount(GradeEnum grade) {
+        return switch (grade) {
+            case ONE_STAR -> oneStarCount;
+            case TWO_STARS -> twoStarsCount;
+            case THREE_STARS -> threeStarsCount;
+            case FOUR_STARS -> fourStarsCount;
+            case FIVE_STARS -> fiveStarsCount;
+        };
+    }
+
+    public void add(GradeEnum grade) {
+        adjust(grade, 1);
+    }
+
+    public void remove(GradeEnum grade) {
+        if (getCount(grade) == 0) {
+            throw new IllegalStateException("집계된 평점이 없습니다");
+        }
+        adjust(grade, -1);
+    }
+
+    public void change(GradeEnum from, GradeEnum to) {
+        remove(from);
+        add(to);
+    }
+
+    public void reset(Map<GradeEnum, Long> gradeCounts) {
+        reviewCount = 0;
+        gradeSum = 0;
+        oneStarCount = 0;
+        twoStarsCount = 0;
+        threeStarsCount = 0;
+        fourStarsCount = 0;
+        fiveStarsCount = 0;
+        gradeCounts.forEach((grade, count) -> adjust(grade, count));
+    }
+
+    private void adjust(GradeEnum grade, long delta) {
+        switch (grade) {
+            case ONE_STAR -> oneStarCount += delta;
+            case TWO_STARS -> twoStarsCount += delta;
+            case THREE_STARS -> threeStarsCount += delta;
+            case FOUR_STARS -> fourStarsCount += delta;
+            case FIVE_STARS -> fiveStarsCount += delta;
+        }
+        reviewCount += delta;
+        gradeSum += grade.getValue() * delta;
+    }
+}
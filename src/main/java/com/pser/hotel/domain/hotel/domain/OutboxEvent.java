@@ -0,0 +1,66 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * relay 가 id 순서로 발행하므로 id 는 커밋 순서에 가깝게 DB 가 매기는 IDENTITY 를 쓴다. BaseEntity 의 pooled 시퀀스는 인스턴스마다
+ * 미리 받아 둔 구간에서 id 를 내주므로 나중에 쓴 이벤트가 더 작은 id 를 받을 수 있다.
+ */
+@Getter
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor
+@ToString(of = {"topic", "aggregateKey"})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private String aggregateKey;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    /**
+     * relay 가 발행하려고 가져간 시각. 발행을 마치면 행이 지워지고, 실패하면 비워서 다음 relay 가 다시 가져간다.
+     */
+    private LocalDateTime claimedAt;
+
+    @Builder
+    public OutboxEvent(String topic, String aggregateKey, byte[] payload) {
+        this.topic = topic;
+        this.aggregateKey = aggregateKey;
+        this.payload = payload;
+    }
+
+    public void claim(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+}
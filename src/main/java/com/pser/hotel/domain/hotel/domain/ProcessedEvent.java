@@ -0,0 +1,30 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@ToString(of = {"topic", "eventId"})
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"topic", "event_id"}))
+public class ProcessedEvent extends BaseEntity {
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Builder
+    public ProcessedEvent(String topic, String eventId) {
+        this.topic = topic;
+        this.eventId = eventId;
+    }
+}
@@ -9,9 +9,11 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Min;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -24,6 +26,7 @@ import lombok.ToString;
 @Getter
 @Setter
 @Entity
+@Table(indexes = @Index(name = "idx_reservation_status_end_at_id", columnList = "status, end_at, id"))
 @NoArgsConstructor
 @ToString(of = {"price", "startAt", "endAt", "visitorCount", "adultCount", "childCount", "status"})
 public class Reservation extends StatusHolderEntity<ReservationStatusEnum> {
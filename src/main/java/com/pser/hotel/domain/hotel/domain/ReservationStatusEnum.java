@@ -2,8 +2,11 @@ package com.pser.hotel.domain.hotel.domain;
 
 import com.pser.hotel.domain.model.StatusEnum;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,7 +23,7 @@ public enum ReservationStatusEnum implements StatusEnum {
     PAYMENT_VALIDATION_REQUIRED(1) {
         @Override
         public List<StatusEnum> getNext() {
-            return List.of(BEFORE_CHECKIN);
+            return List.of(BEFORE_CHECKIN, REFUND_REQUIRED);
         }
     }, // 결제 검증 대기
     BEFORE_CHECKIN(2) {
@@ -81,6 +84,29 @@ public enum ReservationStatusEnum implements StatusEnum {
     private static final Map<Integer, ReservationStatusEnum> valueToName =
             Collections.unmodifiableMap(Stream.of(values())
                     .collect(Collectors.toMap(ReservationStatusEnum::getValue, Function.identity())));
+    private static final Map<ReservationStatusEnum, Set<ReservationStatusEnum>> nextStatuses =
+            new EnumMap<>(ReservationStatusEnum.class);
+    private static final Map<ReservationStatusEnum, Set<ReservationStatusEnum>> previousStatuses =
+            new EnumMap<>(ReservationStatusEnum.class);
+    private static final Set<ReservationStatusEnum> inventoryHoldingStatuses = Collections.unmodifiableSet(
+            Stream.of(values())
+                    .filter(ReservationStatusEnum::holdsInventory)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(ReservationStatusEnum.class))));
+
+    static {
+        for (ReservationStatusEnum status : values()) {
+            nextStatuses.put(status, EnumSet.noneOf(ReservationStatusEnum.class));
+            previousStatuses.put(status, EnumSet.noneOf(ReservationStatusEnum.class));
+        }
+        for (ReservationStatusEnum status : values()) {
+            for (StatusEnum next : status.getNext()) {
+                nextStatuses.get(status).add((ReservationStatusEnum) next);
+                previousStatuses.get((ReservationStatusEnum) next).add(status);
+            }
+        }
+        nextStatuses.replaceAll((status, next) -> Collections.unmodifiableSet(next));
+        previousStatuses.replaceAll((status, previous) -> Collections.unmodifiableSet(previous));
+    }
 
     private final Integer value;
 
@@ -91,4 +117,27 @@ public enum ReservationStatusEnum implements StatusEnum {
     public static ReservationStatusEnum getByValue(Integer value) {
         return valueToName.get(value);
     }
+
+    /**
+     * 이 상태로 전이할 수 있는 직전 상태 집합. 조건부 일괄 UPDATE 의 status IN 조건으로 쓴다.
+     */
+    public static Set<ReservationStatusEnum> predecessorsOf(ReservationStatusEnum status) {
+        return previousStatuses.get(status);
+    }
+
+    /**
+     * 객실 재고를 차지하는 상태 집합. 예약 테이블에서 재고를 다시 셀 때 조건으로 쓴다.
+     */
+    public static Set<ReservationStatusEnum> inventoryHoldingStatuses() {
+        return inventoryHoldingStatuses;
+    }
+
+    @Override
+    public boolean canTransitionTo(StatusEnum status) {
+        return status instanceof ReservationStatusEnum next && nextStatuses.get(this).contains(next);
+    }
+
+    public boolean holdsInventory() {
+        return this != REFUNDED && this != AUCTION_SUCCESS;
+    }
 }
@@ -17,6 +17,7 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_review_created_at_id", columnList = "created_at, id"))
 public class Review extends BaseEntity {
 
     @Column(nullable = false)
@@ -0,0 +1,71 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@ToString(of = {"stayDate", "booked", "total"})
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"room_id", "stay_date"}))
+public class RoomNightInventory extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Room room;
+
+    @Column(name = "stay_date", nullable = false)
+    private LocalDate stayDate;
+
+    @Column(nullable = false)
+    private int booked;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Builder
+    public RoomNightInventory(Room room, LocalDate stayDate, int total) {
+        this.room = room;
+        this.stayDate = stayDate;
+        this.total = total;
+    }
+
+    public static List<LocalDate> nightsOf(LocalDate startAt, LocalDate endAt) {
+        if (!endAt.isAfter(startAt)) {
+            return List.of(startAt);
+        }
+        return startAt.datesUntil(endAt).toList();
+    }
+
+    public boolean isAvailable() {
+        return booked < total;
+    }
+
+    public void book() {
+        if (!isAvailable()) {
+            throw new IllegalArgumentException("해당 객실은 요청 일자에 비어 있지 않습니다");
+        }
+        booked++;
+    }
+
+    public void release() {
+        if (booked > 0) {
+            booked--;
+        }
+    }
+}
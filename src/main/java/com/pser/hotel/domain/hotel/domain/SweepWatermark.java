@@ -0,0 +1,33 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 주기 작업이 어느 날짜 구간까지 처리를 마쳤는지 기록한다. 재시작한 작업은 이 날짜부터 이어서 처리한다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@ToString(of = {"name", "watermarkDate"})
+public class SweepWatermark extends BaseEntity {
+    @Column(unique = true, nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDate watermarkDate;
+
+    @Builder
+    public SweepWatermark(String name, LocalDate watermarkDate) {
+        this.name = name;
+        this.watermarkDate = watermarkDate;
+    }
+}
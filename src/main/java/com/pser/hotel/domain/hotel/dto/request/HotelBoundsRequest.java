@@ -0,0 +1,22 @@
+package com.pser.hotel.domain.hotel.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelBoundsRequest {
+    private Double minLatitude;
+
+    private Double minLongitude;
+
+    private Double maxLatitude;
+
+    private Double maxLongitude;
+}
@@ -0,0 +1,21 @@
+package com.pser.hotel.domain.hotel.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelNearbyRequest {
+    private Double latitude;
+
+    private Double longitude;
+
+    // 검색 반경(km)
+    private Double radius;
+}
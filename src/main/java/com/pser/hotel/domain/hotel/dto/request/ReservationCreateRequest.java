@@ -5,7 +5,7 @@ import com.pser.hotel.domain.hotel.domain.Room;
 import com.pser.hotel.domain.member.domain.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
@@ -27,7 +27,7 @@ public class ReservationCreateRequest {
     @Schema(hidden = true)
     private User user;
 
-    @NotBlank
+    @NotNull
     @Min(0)
     private Long roomId;
 
@@ -35,30 +35,30 @@ public class ReservationCreateRequest {
     @Schema(hidden = true)
     private Room room;
 
-    @NotBlank
+    @NotNull
     @Min(0)
     private Integer price;
 
-    @NotBlank
+    @NotNull
     @Min(0)
     private Integer visitorCount;
 
-    @NotBlank
+    @NotNull
     @Min(0)
     private Integer adultCount;
 
-    @NotBlank
+    @NotNull
     @Min(0)
     private Integer childCount;
 
-    @NotBlank
+    @NotNull
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate startAt;
 
-    @NotBlank
+    @NotNull
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate endAt;
 
-    @NotBlank
+    @NotNull
     private ReservationStatusEnum status;
 }
@@ -0,0 +1,16 @@
+package com.pser.hotel.domain.hotel.dto.request;
+
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ReservationStatusBulkUpdateRequest {
+    @NotEmpty(message = "상태를 변경할 예약 id 를 입력해주세요.")
+    private List<Long> ids;
+
+    @NotNull(message = "목표 상태를 입력해주세요.")
+    private ReservationStatusEnum targetStatus;
+}
@@ -5,10 +5,12 @@ import com.pser.hotel.global.common.request.SearchQuery;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@ToString(callSuper = true)
 public class ReviewSearchRequest extends SearchQuery {
 
     private GradeEnum grade;
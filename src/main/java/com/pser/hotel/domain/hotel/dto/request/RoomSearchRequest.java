@@ -6,9 +6,11 @@ import java.time.LocalTime;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 @Getter
 @Setter
+@ToString(callSuper = true)
 public class RoomSearchRequest extends SearchQuery {
     private Integer priceGte;
 
@@ -1,5 +1,6 @@
 package com.pser.hotel.domain.hotel.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pser.hotel.domain.hotel.domain.HotelCategoryEnum;
 import com.querydsl.core.annotations.QueryProjection;
 import java.util.List;
@@ -37,6 +38,9 @@ public class HotelSummaryResponse {
 
     private int previousPrice;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distance;
+
     @QueryProjection
     public HotelSummaryResponse(Long id, String name, HotelCategoryEnum category, String description,
                                 String mainImage, String province, String city, String district) {
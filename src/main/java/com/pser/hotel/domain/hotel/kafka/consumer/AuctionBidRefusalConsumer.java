@@ -1,5 +1,6 @@
 package com.pser.hotel.domain.hotel.kafka.consumer;
 
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
 import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -22,23 +24,26 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AuctionBidRefusalConsumer {
     private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
     private final ReservationStatusProducer reservationStatusProducer;
 
-    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "5")
+    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
     @KafkaListener(topics = KafkaTopics.AUCTION_BID_REFUSAL, groupId = "${kafka.consumer-group-id}", containerFactory = "auctionDtoValueListenerContainerFactory")
     public void onAuctionBidRefusal(AuctionDto auctionDto) {
-        long reservationId = auctionDto.getReservationId();
-        Try.run(() -> {
-                    StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = StatusUpdateDto.<ReservationStatusEnum>builder()
-                            .id(reservationId)
-                            .targetStatus(ReservationStatusEnum.DEPOSIT_PAYBACK_REQUIRED)
-                            .build();
-                    reservationService.updateStatus(statusUpdateDto);
-                })
-                .onSuccess(unused -> refundEqualToDeposit(auctionDto))
-                .recover(SameStatusException.class, (e) -> null)
-                .recover(StatusUpdateException.class, (e) -> null)
-                .get();
+        StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = StatusUpdateDto.<ReservationStatusEnum>builder()
+                .id(auctionDto.getReservationId())
+                .targetStatus(ReservationStatusEnum.DEPOSIT_PAYBACK_REQUIRED)
+                .build();
+        String eventId = ReservationStatusBatchProcessor.eventIdOf(statusUpdateDto);
+        processedEventStore.runOnce(KafkaTopics.AUCTION_BID_REFUSAL, eventId, () ->
+                Try.run(() -> reservationService.updateStatus(statusUpdateDto))
+                        .onSuccess(unused -> refundEqualToDeposit(auctionDto))
+                        .recover(SameStatusException.class, (e) -> null)
+                        .recover(StatusUpdateException.class, (e) -> null)
+                        .get());
     }
 
     private void refundEqualToDeposit(AuctionDto auctionDto) {
@@ -1,5 +1,6 @@
 package com.pser.hotel.domain.hotel.kafka.consumer;
 
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
 import com.pser.hotel.global.common.AuctionDto;
@@ -8,10 +9,13 @@ import com.pser.hotel.global.config.kafka.KafkaTopics;
 import com.pser.hotel.global.error.SameStatusException;
 import com.pser.hotel.global.error.StatusUpdateException;
 import io.vavr.control.Try;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -19,20 +23,40 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AuctionNoBidConsumer {
     private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
+    private final ReservationStatusBatchProcessor reservationStatusBatchProcessor;
+    private final KafkaTemplate<String, AuctionDto> auctionDtoValueKafkaTemplate;
 
-    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "5")
-    @KafkaListener(topics = KafkaTopics.AUCTION_NO_BID, groupId = "${kafka.consumer-group-id}", containerFactory = "auctionDtoValueListenerContainerFactory")
-    public void onAuctionNoBid(AuctionDto auctionDto) {
-        long reservationId = auctionDto.getReservationId();
-        Try.run(() -> {
-                    StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = StatusUpdateDto.<ReservationStatusEnum>builder()
-                            .id(reservationId)
-                            .targetStatus(ReservationStatusEnum.AUCTION_FAILURE)
-                            .build();
-                    reservationService.updateStatus(statusUpdateDto);
-                })
-                .recover(SameStatusException.class, (e) -> null)
-                .recover(StatusUpdateException.class, (e) -> null)
-                .get();
+    @KafkaListener(topics = KafkaTopics.AUCTION_NO_BID, groupId = "${kafka.consumer-group-id}", containerFactory = "auctionDtoValueBatchListenerContainerFactory")
+    public void onAuctionNoBid(List<AuctionDto> auctionDtos) {
+        reservationStatusBatchProcessor.process(KafkaTopics.AUCTION_NO_BID, auctionDtos, this::toStatusUpdateDto,
+                this::onAuctionNoBidRetry, this::forwardToRetry);
+    }
+
+    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
+    @KafkaListener(topics = KafkaTopics.AUCTION_NO_BID_RETRY, groupId = "${kafka.consumer-group-id}", containerFactory = "auctionDtoValueListenerContainerFactory")
+    public void onAuctionNoBidRetry(AuctionDto auctionDto) {
+        StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = toStatusUpdateDto(auctionDto);
+        String eventId = ReservationStatusBatchProcessor.eventIdOf(statusUpdateDto);
+        processedEventStore.runOnce(KafkaTopics.AUCTION_NO_BID, eventId, () ->
+                Try.run(() -> reservationService.updateStatus(statusUpdateDto))
+                        .recover(SameStatusException.class, (e) -> null)
+                        .recover(StatusUpdateException.class, (e) -> null)
+                        .get());
+    }
+
+    private StatusUpdateDto<ReservationStatusEnum> toStatusUpdateDto(AuctionDto auctionDto) {
+        return StatusUpdateDto.<ReservationStatusEnum>builder()
+                .id(auctionDto.getReservationId())
+                .targetStatus(ReservationStatusEnum.AUCTION_FAILURE)
+                .build();
+    }
+
+    private void forwardToRetry(AuctionDto auctionDto) {
+        String key = String.valueOf(auctionDto.getReservationId());
+        auctionDtoValueKafkaTemplate.send(KafkaTopics.AUCTION_NO_BID_RETRY, key, auctionDto).join();
     }
 }
@@ -1,16 +1,17 @@
 package com.pser.hotel.domain.hotel.kafka.consumer;
 
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
 import com.pser.hotel.domain.hotel.kafka.producer.ReservationStatusProducer;
 import com.pser.hotel.global.common.AuctionDto;
 import com.pser.hotel.global.common.RefundDto;
 import com.pser.hotel.global.config.kafka.KafkaTopics;
-import io.vavr.control.Try;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -19,12 +20,16 @@ import org.springframework.stereotype.Component;
 public class AuctionPaidConsumer {
     private final ReservationStatusProducer reservationStatusProducer;
     private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
 
-    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "5")
+    @RetryableTopic(kafkaTemplate = "auctionDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
     @KafkaListener(topics = KafkaTopics.AUCTION_PAID, groupId = "${kafka.consumer-group-id}", containerFactory = "auctionDtoValueListenerContainerFactory")
     public void onAuctionPaid(AuctionDto auctionDto) {
-        Try.run(() -> refundEqualToBid(auctionDto))
-                .get();
+        String eventId = String.valueOf(auctionDto.getReservationId());
+        processedEventStore.runOnce(KafkaTopics.AUCTION_PAID, eventId, () -> refundEqualToBid(auctionDto));
     }
 
     private void refundEqualToBid(AuctionDto auctionDto) {
@@ -0,0 +1,26 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.global.config.cache.CacheNames;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotelCacheInvalidationConsumer {
+    private final CacheManager cacheManager;
+
+    @KafkaListener(topics = {KafkaTopics.HOTEL_CREATED, KafkaTopics.HOTEL_UPDATED, KafkaTopics.HOTEL_DELETED},
+            groupId = "${kafka.consumer-group-id}.hotel-cache.${HOSTNAME:${random.uuid}}",
+            containerFactory = "hotelDtoValueListenerContainerFactory")
+    public void onHotelChanged(HotelDto hotelDto) {
+        Objects.requireNonNull(cacheManager.getCache(CacheNames.HOTEL)).evict(hotelDto.getId());
+        log.debug("hotel cache evicted: hotelId={}", hotelDto.getId());
+    }
+}
@@ -0,0 +1,38 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.application.FacilityIndex;
+import com.pser.hotel.domain.hotel.application.KeywordSearchIndex;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class HotelSearchIndexConsumer {
+    private final FacilityIndex facilityIndex;
+    private final KeywordSearchIndex keywordSearchIndex;
+
+    @KafkaListener(topics = {KafkaTopics.HOTEL_CREATED, KafkaTopics.HOTEL_UPDATED},
+            groupId = "${kafka.consumer-group-id}.hotel-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "hotelDtoValueListenerContainerFactory")
+    public void onHotelSaved(HotelDto hotelDto) {
+        keywordSearchIndex.indexHotel(hotelDto.getId(), hotelDto.getName(), hotelDto.getProvince(),
+                hotelDto.getCity(), hotelDto.getDistrict(), hotelDto.getDetailedAddress());
+        if (hotelDto.getFacility() == null) {
+            facilityIndex.refresh(hotelDto.getId());
+            return;
+        }
+        facilityIndex.put(hotelDto.getId(), FacilityFlag.maskOf(hotelDto.getFacility()));
+    }
+
+    @KafkaListener(topics = KafkaTopics.HOTEL_DELETED,
+            groupId = "${kafka.consumer-group-id}.hotel-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "hotelDtoValueListenerContainerFactory")
+    public void onHotelDeleted(HotelDto hotelDto) {
+        facilityIndex.remove(hotelDto.getId());
+        keywordSearchIndex.removeHotel(hotelDto.getId());
+    }
+}
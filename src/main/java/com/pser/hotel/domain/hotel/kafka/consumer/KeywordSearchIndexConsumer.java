@@ -0,0 +1,44 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.application.KeywordSearchIndex;
+import com.pser.hotel.domain.hotel.dto.ReviewDto;
+import com.pser.hotel.domain.hotel.dto.RoomDto;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class KeywordSearchIndexConsumer {
+    private final KeywordSearchIndex keywordSearchIndex;
+
+    @KafkaListener(topics = KafkaTopics.ROOM_SAVED,
+            groupId = "${kafka.consumer-group-id}.keyword-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "roomDtoValueListenerContainerFactory")
+    public void onRoomSaved(RoomDto roomDto) {
+        keywordSearchIndex.indexRoom(roomDto.getId(), roomDto.getName(), roomDto.getDescription(),
+                roomDto.getPrecaution());
+    }
+
+    @KafkaListener(topics = KafkaTopics.ROOM_DELETED,
+            groupId = "${kafka.consumer-group-id}.keyword-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "roomDtoValueListenerContainerFactory")
+    public void onRoomDeleted(RoomDto roomDto) {
+        keywordSearchIndex.removeRoom(roomDto.getId());
+    }
+
+    @KafkaListener(topics = KafkaTopics.REVIEW_SAVED,
+            groupId = "${kafka.consumer-group-id}.keyword-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "reviewDtoValueListenerContainerFactory")
+    public void onReviewSaved(ReviewDto reviewDto) {
+        keywordSearchIndex.indexReview(reviewDto.getId(), reviewDto.getDetail());
+    }
+
+    @KafkaListener(topics = KafkaTopics.REVIEW_DELETED,
+            groupId = "${kafka.consumer-group-id}.keyword-search-index.${HOSTNAME:${random.uuid}}",
+            containerFactory = "reviewDtoValueListenerContainerFactory")
+    public void onReviewDeleted(ReviewDto reviewDto) {
+        keywordSearchIndex.removeReview(reviewDto.getId());
+    }
+}
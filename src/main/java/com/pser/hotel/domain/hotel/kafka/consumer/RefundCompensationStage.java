@@ -0,0 +1,128 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.application.ReservationService;
+import com.pser.hotel.global.common.BulkStatusUpdateResult;
+import com.pser.hotel.global.common.PaymentDto;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Try;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 검증 DLT 를 배치로 읽어 한 트랜잭션에서 환불 대기로 옮기고 환불 이벤트를 한 번에 기록한다. 처리가 끝나야 listener 가 반환하므로
+ * 오프셋은 환불이 기록된 뒤에만 커밋되고, 도중에 죽으면 같은 배치를 다시 읽는다. 배치 트랜잭션이 실패하면 결제를 하나씩 다시 처리하고,
+ * 그래도 실패한 결제는 재시도 토픽으로 보낸다. 재시도를 모두 실패한 결제는 재시도 토픽의 DLT 에 남는다.
+ * 밀린 보상 작업은 DLT listener 의 파티션별 consumer lag 합으로 refund.compensation.queue.depth 에 노출한다.
+ */
+@Slf4j
+@Component
+public class RefundCompensationStage {
+    static final String LISTENER_ID = "refundCompensation";
+
+    private final ReservationService reservationService;
+    private final KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate;
+    private final Counter refundedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    public RefundCompensationStage(ReservationService reservationService,
+                                   KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate,
+                                   MeterRegistry meterRegistry,
+                                   KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry) {
+        this.reservationService = reservationService;
+        this.paymentDtoValueKafkaTemplate = paymentDtoValueKafkaTemplate;
+        this.refundedCounter = meterRegistry.counter("refund.compensation.refunded");
+        this.skippedCounter = meterRegistry.counter("refund.compensation.skipped");
+        this.failedCounter = meterRegistry.counter("refund.compensation.failed");
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        Gauge.builder("refund.compensation.queue.depth", this, RefundCompensationStage::queueDepth)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = LISTENER_ID, topics = KafkaTopics.RESERVATION_PAYMENT_VALIDATION_CHECKED_DLT, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueBatchListenerContainerFactory")
+    public void compensate(List<PaymentDto> paymentDtos) {
+        List<PaymentDto> payments = paymentDtos.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (payments.size() < paymentDtos.size()) {
+            log.error("{} dead letters without payment skipped", paymentDtos.size() - payments.size());
+        }
+        if (payments.isEmpty()) {
+            return;
+        }
+        Try.of(() -> reservationService.requireRefunds(payments))
+                .onSuccess(result -> record(payments.size(), result))
+                .onFailure(e -> {
+                    log.warn("refund compensation batch failed, processing {} payments one by one",
+                            payments.size(), e);
+                    payments.forEach(this::compensateOne);
+                });
+    }
+
+    @RetryableTopic(kafkaTemplate = "paymentDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
+    @KafkaListener(topics = KafkaTopics.RESERVATION_REFUND_COMPENSATION_RETRY, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueListenerContainerFactory")
+    public void compensateRetry(PaymentDto paymentDto) {
+        record(1, reservationService.requireRefunds(List.of(paymentDto)));
+    }
+
+    private void compensateOne(PaymentDto paymentDto) {
+        Try.of(() -> reservationService.requireRefunds(List.of(paymentDto)))
+                .onSuccess(result -> record(1, result))
+                .onFailure(e -> {
+                    failedCounter.increment();
+                    log.warn("refund compensation failed, forwarding to retry: {}", paymentDto, e);
+                    forwardToRetry(paymentDto);
+                });
+    }
+
+    private void forwardToRetry(PaymentDto paymentDto) {
+        String key = paymentDto.getMerchantUid();
+        paymentDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_REFUND_COMPENSATION_RETRY, key, paymentDto).join();
+    }
+
+    double queueDepth() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+        if (container == null || !container.isRunning()) {
+            return 0;
+        }
+        return container.metrics().values().stream()
+                .flatMap(metrics -> metrics.entrySet().stream())
+                .filter(metric -> isPartitionLag(metric.getKey()))
+                .map(Map.Entry::getValue)
+                .map(Metric::metricValue)
+                .filter(value -> value instanceof Number number && !Double.isNaN(number.doubleValue()))
+                .mapToDouble(value -> ((Number) value).doubleValue())
+                .sum();
+    }
+
+    private boolean isPartitionLag(MetricName name) {
+        return "records-lag".equals(name.name()) && name.tags().containsKey("partition");
+    }
+
+    private void record(int requested, BulkStatusUpdateResult result) {
+        int refunded = result.getUpdatedIds().size();
+        refundedCounter.increment(refunded);
+        skippedCounter.increment(requested - refunded);
+        if (!result.getRejectedIds().isEmpty()) {
+            log.warn("refund compensation rejected for reservations {}", result.getRejectedIds());
+        }
+    }
+}
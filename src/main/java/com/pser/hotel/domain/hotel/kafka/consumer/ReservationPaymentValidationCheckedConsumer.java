@@ -1,5 +1,6 @@
 package com.pser.hotel.domain.hotel.kafka.consumer;
 
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
 import com.pser.hotel.domain.hotel.kafka.producer.ReservationStatusProducer;
@@ -12,10 +13,9 @@ import com.pser.hotel.global.error.ValidationFailedException;
 import io.vavr.control.Try;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -23,21 +23,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReservationPaymentValidationCheckedConsumer {
     private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
     private final ReservationStatusProducer reservationStatusProducer;
 
-    @RetryableTopic(kafkaTemplate = "paymentDtoValueKafkaTemplate", attempts = "5")
+    /**
+     * 재시도를 모두 실패한 결제는 DLT 로 보내고, DLT 는 RefundCompensationStage 가 배치로 읽으므로 기본 DLT listener 는 띄우지 않는다.
+     */
+    @RetryableTopic(kafkaTemplate = "paymentDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            autoStartDltHandler = "false",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
     @KafkaListener(topics = KafkaTopics.RESERVATION_PAYMENT_VALIDATION_CHECKED, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueListenerContainerFactory")
     public void updateToPaymentValidationChecked(PaymentDto paymentDto) {
-        Try.run(() -> check(paymentDto))
-                .recover(SameStatusException.class, (e) -> null)
-                .recover(ValidationFailedException.class, (e) -> refund(paymentDto))
-                .get();
-    }
-
-    @DltHandler
-    public void dltHandler(ConsumerRecord<String, PaymentDto> record) {
-        PaymentDto paymentDto = record.value();
-        refund(paymentDto);
+        String eventId = paymentDto.getMerchantUid();
+        processedEventStore.runOnce(KafkaTopics.RESERVATION_PAYMENT_VALIDATION_CHECKED, eventId, () ->
+                Try.run(() -> check(paymentDto))
+                        .recover(SameStatusException.class, (e) -> null)
+                        .recover(ValidationFailedException.class, (e) -> refund(paymentDto))
+                        .get());
     }
 
     private void check(PaymentDto paymentDto) {
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,7 +17,10 @@ import org.springframework.stereotype.Component;
 public class ReservationPaymentValidationRequiredRollbackConsumer {
     private final ReservationService reservationService;
 
-    @RetryableTopic(kafkaTemplate = "stringValueKafkaTemplate", attempts = "5")
+    @RetryableTopic(kafkaTemplate = "stringValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
     @KafkaListener(topics = KafkaTopics.RESERVATION_PAYMENT_VALIDATION_REQUIRED_ROLLBACK, groupId = "${kafka.consumer-group-id}", containerFactory = "stringValueListenerContainerFactory")
     public void rollbackPaymentValidationRequired(String merchantUid) {
         StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = StatusUpdateDto.<ReservationStatusEnum>builder()
@@ -1,5 +1,6 @@
 package com.pser.hotel.domain.hotel.kafka.consumer;
 
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
 import com.pser.hotel.domain.hotel.application.ReservationService;
 import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
 import com.pser.hotel.domain.hotel.dto.response.ReservationResponse;
@@ -9,10 +10,16 @@ import com.pser.hotel.global.config.kafka.KafkaTopics;
 import com.pser.hotel.global.error.SameStatusException;
 import com.pser.hotel.global.error.ValidationFailedException;
 import io.vavr.control.Try;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -20,26 +27,50 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReservationRefundCheckedConsumer {
     private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
+    private final ReservationStatusBatchProcessor reservationStatusBatchProcessor;
+    private final KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate;
 
-    @RetryableTopic(kafkaTemplate = "paymentDtoValueKafkaTemplate", attempts = "5")
-    @KafkaListener(topics = KafkaTopics.RESERVATION_REFUND_CHECKED, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueListenerContainerFactory")
-    public void onRefundChecked(PaymentDto paymentDto) {
-        Try.run(() -> updateStatus(paymentDto))
-                .recover(SameStatusException.class, (e) -> null)
-                .recover(ValidationFailedException.class, (e) -> null)
-                .get();
+    @KafkaListener(topics = KafkaTopics.RESERVATION_REFUND_CHECKED, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueBatchListenerContainerFactory")
+    public void onRefundChecked(List<PaymentDto> paymentDtos) {
+        List<String> merchantUids = paymentDtos.stream()
+                .filter(Objects::nonNull)
+                .map(PaymentDto::getMerchantUid)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, ReservationStatusEnum> statuses = reservationService.getAllByMerchantUids(merchantUids).stream()
+                .collect(Collectors.toMap(ReservationResponse::getMerchantUid, ReservationResponse::getStatus));
+
+        reservationStatusBatchProcessor.process(KafkaTopics.RESERVATION_REFUND_CHECKED, paymentDtos,
+                paymentDto -> toStatusUpdateDto(paymentDto, statuses.get(paymentDto.getMerchantUid())),
+                this::forwardToRetry, this::onRefundCheckedRetry, this::forwardToRetry);
+    }
+
+    @RetryableTopic(kafkaTemplate = "paymentDtoValueKafkaTemplate", attempts = "${kafka.retry.attempts:5}",
+            backoff = @Backoff(delayExpression = "${kafka.retry.backoff.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.backoff.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.backoff.max-delay-ms:60000}"))
+    @KafkaListener(topics = KafkaTopics.RESERVATION_REFUND_CHECKED_RETRY, groupId = "${kafka.consumer-group-id}", containerFactory = "paymentDtoValueListenerContainerFactory")
+    public void onRefundCheckedRetry(PaymentDto paymentDto) {
+        String eventId = paymentDto.getMerchantUid();
+        processedEventStore.runOnce(KafkaTopics.RESERVATION_REFUND_CHECKED, eventId, () ->
+                Try.run(() -> updateStatus(paymentDto))
+                        .recover(SameStatusException.class, (e) -> null)
+                        .recover(ValidationFailedException.class, (e) -> null)
+                        .get());
     }
 
     private void updateStatus(PaymentDto paymentDto) {
         ReservationResponse reservationResponse = reservationService.getByMerchantUid(paymentDto.getMerchantUid());
-        ReservationStatusEnum status = reservationResponse.getStatus();
-        ReservationStatusEnum targetStatus = getNextStatus(status);
+        reservationService.updateStatus(toStatusUpdateDto(paymentDto, reservationResponse.getStatus()));
+    }
 
-        StatusUpdateDto<ReservationStatusEnum> statusUpdateDto = StatusUpdateDto.<ReservationStatusEnum>builder()
+    private StatusUpdateDto<ReservationStatusEnum> toStatusUpdateDto(PaymentDto paymentDto,
+                                                                   ReservationStatusEnum status) {
+        return StatusUpdateDto.<ReservationStatusEnum>builder()
                 .merchantUid(paymentDto.getMerchantUid())
-                .targetStatus(targetStatus)
+                .targetStatus(status != null ? getNextStatus(status) : null)
                 .build();
-        reservationService.updateStatus(statusUpdateDto);
     }
 
     private ReservationStatusEnum getNextStatus(ReservationStatusEnum status) {
@@ -50,4 +81,9 @@ public class ReservationRefundCheckedConsumer {
         }
         return ReservationStatusEnum.REFUNDED;
     }
+
+    private void forwardToRetry(PaymentDto paymentDto) {
+        String key = paymentDto.getMerchantUid();
+        paymentDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_REFUND_CHECKED_RETRY, key, paymentDto).join();
+    }
 }
@@ -0,0 +1,100 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
+import com.pser.hotel.domain.hotel.application.ReservationService;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.global.common.StatusUpdateDto;
+import com.pser.hotel.global.common.StatusUpdateResult;
+import com.pser.hotel.global.util.KeyAffinityExecutor;
+import io.vavr.control.Try;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태 전이 이벤트 배치를 예약별 lane 으로 나누어 병렬로 처리한다. 같은 예약의 이벤트는 같은 lane 에서 순서대로,
+ * lane 하나는 한 트랜잭션에서 처리한다. 이미 처리한 이벤트는 배치에서 먼저 걸러내고, 대상 예약이 없는 레코드는 retry 토픽으로 보내며,
+ * 배치 트랜잭션이 실패하면 레코드를 하나씩 다시 처리해 실패한 레코드만 retry 토픽으로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusBatchProcessor {
+    private final ReservationService reservationService;
+    private final ProcessedEventStore processedEventStore;
+    private final KeyAffinityExecutor consumerKeyAffinityExecutor;
+
+    public <T> void process(String topic, List<T> events,
+                            Function<T, StatusUpdateDto<ReservationStatusEnum>> toStatusUpdateDto,
+                            Consumer<T> processOne, Consumer<T> forwardToRetry) {
+        process(topic, events, toStatusUpdateDto, record -> {
+        }, processOne, forwardToRetry);
+    }
+
+    public <T> void process(String topic, List<T> events,
+                            Function<T, StatusUpdateDto<ReservationStatusEnum>> toStatusUpdateDto,
+                            Consumer<T> onRejected, Consumer<T> processOne, Consumer<T> forwardToRetry) {
+        List<T> records = events.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (records.isEmpty()) {
+            return;
+        }
+        Set<String> processed = processedEventStore.findProcessed(topic, records.stream()
+                .map(record -> eventIdOf(toStatusUpdateDto.apply(record)))
+                .toList());
+        List<T> pending = records.stream()
+                .filter(record -> !processed.contains(eventIdOf(toStatusUpdateDto.apply(record))))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+        consumerKeyAffinityExecutor.executeAll(pending, record -> keyOf(toStatusUpdateDto.apply(record)),
+                lane -> processLane(topic, lane, toStatusUpdateDto, onRejected, processOne, forwardToRetry));
+    }
+
+    private <T> void processLane(String topic, List<T> records,
+                                 Function<T, StatusUpdateDto<ReservationStatusEnum>> toStatusUpdateDto,
+                                 Consumer<T> onRejected, Consumer<T> processOne, Consumer<T> forwardToRetry) {
+        List<StatusUpdateDto<ReservationStatusEnum>> statusUpdateDtos = records.stream()
+                .map(toStatusUpdateDto)
+                .toList();
+
+        Try.of(() -> reservationService.updateStatuses(statusUpdateDtos))
+                .onSuccess(results -> {
+                    List<String> completed = new ArrayList<>();
+                    for (int i = 0; i < records.size(); i++) {
+                        if (results.get(i) == StatusUpdateResult.NOT_FOUND) {
+                            forwardToRetry.accept(records.get(i));
+                        } else if (results.get(i) == StatusUpdateResult.REJECTED) {
+                            onRejected.accept(records.get(i));
+                        } else {
+                            completed.add(eventIdOf(statusUpdateDtos.get(i)));
+                        }
+                    }
+                    processedEventStore.markAllProcessed(topic, completed);
+                })
+                .onFailure(e -> {
+                    log.warn("status batch failed, processing {} records one by one", records.size(), e);
+                    records.forEach(record -> Try.run(() -> processOne.accept(record))
+                            .onFailure(recordFailure -> forwardToRetry.accept(record)));
+                });
+    }
+
+    /**
+     * 한 토픽에서 예약 하나의 전이는 한 번만 일어나므로 예약 id 또는 merchantUid 를 이벤트 id 로 쓴다.
+     */
+    public static String eventIdOf(StatusUpdateDto<ReservationStatusEnum> statusUpdateDto) {
+        return String.valueOf(keyOf(statusUpdateDto));
+    }
+
+    private static Object keyOf(StatusUpdateDto<ReservationStatusEnum> statusUpdateDto) {
+        return statusUpdateDto.getId() != null ? statusUpdateDto.getId() : statusUpdateDto.getMerchantUid();
+    }
+}
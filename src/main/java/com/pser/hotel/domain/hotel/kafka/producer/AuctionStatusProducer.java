@@ -12,6 +12,7 @@ public class AuctionStatusProducer {
     private final KafkaTemplate<String, AuctionDto> auctionDtoValueKafkaTemplate;
 
     public void rollbackCreated(AuctionDto auctionDto) {
-        auctionDtoValueKafkaTemplate.send(KafkaTopics.AUCTION_CREATED_ROLLBACK, auctionDto);
+        auctionDtoValueKafkaTemplate.send(KafkaTopics.AUCTION_CREATED_ROLLBACK,
+                String.valueOf(auctionDto.getReservationId()), auctionDto);
     }
 }
@@ -1,25 +1,25 @@
 package com.pser.hotel.domain.hotel.kafka.producer;
 
+import com.pser.hotel.domain.hotel.application.OutboxService;
 import com.pser.hotel.domain.hotel.dto.HotelDto;
 import com.pser.hotel.global.config.kafka.KafkaTopics;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class HotelStatusProducer {
-    private final KafkaTemplate<String, HotelDto> hotelDtoValueKafkaTemplate;
+    private final OutboxService outboxService;
 
     public void onCreated(HotelDto hotelDto) {
-        hotelDtoValueKafkaTemplate.send(KafkaTopics.HOTEL_CREATED, hotelDto);
+        outboxService.enqueue(KafkaTopics.HOTEL_CREATED, hotelDto.getId(), hotelDto);
     }
 
     public void onUpdated(HotelDto hotelDto) {
-        hotelDtoValueKafkaTemplate.send(KafkaTopics.HOTEL_UPDATED, hotelDto);
+        outboxService.enqueue(KafkaTopics.HOTEL_UPDATED, hotelDto.getId(), hotelDto);
     }
 
     public void onDeleted(HotelDto hotelDto) {
-        hotelDtoValueKafkaTemplate.send(KafkaTopics.HOTEL_DELETED, hotelDto);
+        outboxService.enqueue(KafkaTopics.HOTEL_DELETED, hotelDto.getId(), hotelDto);
     }
 }
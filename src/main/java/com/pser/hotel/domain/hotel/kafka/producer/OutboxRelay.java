@@ -0,0 +1,194 @@
+package com.pser.hotel.domain.hotel.kafka.producer;
+
+import com.pser.hotel.domain.hotel.dao.OutboxEventDao;
+import com.pser.hotel.domain.hotel.domain.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 테이블에 커밋된 이벤트를 id 순서대로 모아 발행하고, 발행이 확인된 이벤트만 지운다.
+ * 이벤트는 짧은 트랜잭션에서 claimedAt 을 찍어 가져간 뒤 트랜잭션 밖에서 보내므로, 브로커가 느려도 outbox 에 쓰는 트랜잭션을 막지 않는다.
+ * 같은 aggregate 의 이벤트는 같은 키로 앞 이벤트의 발행이 확인된 뒤에 보내며, 실패하면 그 키의 뒤 이벤트는 보내지 않고 함께 돌려놓는다.
+ * 발행 도중 죽은 relay 가 가져간 이벤트는 claim-timeout-ms 가 지나면 다시 가져가므로 소비자는 중복을 견뎌야 한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final OutboxEventDao outboxEventDao;
+    private final KafkaTemplate<String, byte[]> byteArrayValueKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment env;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxEventDao outboxEventDao, KafkaTemplate<String, byte[]> byteArrayValueKafkaTemplate,
+                       TransactionTemplate transactionTemplate, Environment env, MeterRegistry meterRegistry) {
+        this.outboxEventDao = outboxEventDao;
+        this.byteArrayValueKafkaTemplate = byteArrayValueKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.env = env;
+        this.sentCounter = meterRegistry.counter("outbox.relay.sent");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+        Gauge.builder("outbox.pending", outboxEventDao, OutboxEventDao::count)
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", this, OutboxRelay::getLagSeconds)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!env.getProperty("outbox.relay.enabled", Boolean.class, true)) {
+            return;
+        }
+        long lingerMs = env.getProperty("outbox.relay.linger-ms", Long.class, 100L);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, lingerMs, lingerMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public void drain() {
+        int batchSize = getBatchSize();
+        try {
+            while (relay(batchSize) == batchSize) {
+                log.debug("outbox backlog remains, relaying next batch");
+            }
+        } catch (Exception e) {
+            log.error("outbox relay failed", e);
+        }
+    }
+
+    /**
+     * 가장 오래된 이벤트부터 batchSize 개를 발행하고, 발행이 확인되어 지운 이벤트 수를 돌려준다.
+     */
+    public int relay(int batchSize) {
+        List<OutboxEvent> events = claim(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> delivered = new ArrayList<>();
+        List<OutboxEvent> undelivered = new ArrayList<>();
+        send(events, delivered, undelivered);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventDao.deleteAllInBatch(delivered);
+            }
+            if (!undelivered.isEmpty()) {
+                outboxEventDao.releaseClaims(undelivered);
+            }
+        });
+        sentCounter.increment(delivered.size());
+        failedCounter.increment(undelivered.size());
+        return undelivered.isEmpty() ? events.size() : 0;
+    }
+
+    private List<OutboxEvent> claim(int batchSize) {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventDao.findWithLockClaimable(
+                    now.minus(Duration.ofMillis(getClaimTimeoutMs())), PageRequest.of(0, batchSize));
+            events.forEach(event -> event.claim(now));
+            return events;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * 키마다 남은 이벤트 중 맨 앞 하나씩만 함께 보내고, 모두 확인한 뒤 다음 이벤트로 넘어간다.
+     */
+    private void send(List<OutboxEvent> events, List<OutboxEvent> delivered, List<OutboxEvent> undelivered) {
+        Map<String, Deque<OutboxEvent>> pending = new LinkedHashMap<>();
+        events.forEach(event -> pending.computeIfAbsent(event.getAggregateKey(), key -> new ArrayDeque<>())
+                .add(event));
+        long timeoutMs = getSendTimeoutMs();
+        while (!pending.isEmpty()) {
+            List<OutboxEvent> heads = pending.values().stream()
+                    .map(Deque::pollFirst)
+                    .toList();
+            List<CompletableFuture<SendResult<String, byte[]>>> futures = heads.stream()
+                    .map(event -> byteArrayValueKafkaTemplate.send(event.getTopic(), event.getAggregateKey(),
+                            event.getPayload()))
+                    .toList();
+            byteArrayValueKafkaTemplate.flush();
+
+            for (int i = 0; i < heads.size(); i++) {
+                OutboxEvent event = heads.get(i);
+                if (isDelivered(futures.get(i), event, timeoutMs)) {
+                    delivered.add(event);
+                } else {
+                    undelivered.add(event);
+                    undelivered.addAll(pending.remove(event.getAggregateKey()));
+                }
+            }
+            pending.values().removeIf(Deque::isEmpty);
+        }
+    }
+
+    private boolean isDelivered(CompletableFuture<SendResult<String, byte[]>> future, OutboxEvent event,
+                                long timeoutMs) {
+        try {
+            future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("outbox event not delivered: {}", event, e);
+            return false;
+        }
+    }
+
+    private double getLagSeconds() {
+        LocalDateTime oldest = outboxEventDao.findOldestCreatedAt();
+        if (oldest == null) {
+            return 0;
+        }
+        return Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private int getBatchSize() {
+        return env.getProperty("outbox.relay.batch-size", Integer.class, 500);
+    }
+
+    private long getSendTimeoutMs() {
+        return env.getProperty("outbox.relay.send-timeout-ms", Long.class, 10_000L);
+    }
+
+    private long getClaimTimeoutMs() {
+        return env.getProperty("outbox.relay.claim-timeout-ms", Long.class, 300_000L);
+    }
+}
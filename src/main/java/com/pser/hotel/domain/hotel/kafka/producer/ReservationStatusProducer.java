@@ -1,29 +1,33 @@
 package com.pser.hotel.domain.hotel.kafka.producer;
 
+import com.pser.hotel.domain.hotel.application.OutboxService;
 import com.pser.hotel.domain.hotel.dto.ReservationDto;
 import com.pser.hotel.global.common.PaymentDto;
 import com.pser.hotel.global.common.RefundDto;
 import com.pser.hotel.global.config.kafka.KafkaTopics;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class ReservationStatusProducer {
-    private final KafkaTemplate<String, ReservationDto> reservationDtoValueKafkaTemplate;
-    private final KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate;
-    private final KafkaTemplate<String, RefundDto> refundDtoValueKafkaTemplate;
+    private final OutboxService outboxService;
 
     public void produceCreated(ReservationDto reservationDto) {
-        reservationDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_CREATED, reservationDto);
+        outboxService.enqueue(KafkaTopics.RESERVATION_CREATED, reservationDto.getId(), reservationDto);
     }
 
     public void producePaymentValidationRequired(PaymentDto paymentDto) {
-        paymentDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_PAYMENT_VALIDATION_REQUIRED, paymentDto);
+        outboxService.enqueue(KafkaTopics.RESERVATION_PAYMENT_VALIDATION_REQUIRED, paymentDto.getMerchantUid(),
+                paymentDto);
     }
 
     public void produceRefundRequired(RefundDto refundDto) {
-        refundDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_REFUND_REQUIRED, refundDto);
+        outboxService.enqueue(KafkaTopics.RESERVATION_REFUND_REQUIRED, refundDto.getMerchantUid(), refundDto);
+    }
+
+    public void produceRefundsRequired(List<RefundDto> refundDtos) {
+        outboxService.enqueueAll(KafkaTopics.RESERVATION_REFUND_REQUIRED, refundDtos, RefundDto::getMerchantUid);
     }
 }
@@ -0,0 +1,26 @@
+package com.pser.hotel.domain.hotel.kafka.producer;
+
+import com.pser.hotel.domain.hotel.application.OutboxService;
+import com.pser.hotel.domain.hotel.domain.Review;
+import com.pser.hotel.domain.hotel.dto.ReviewDto;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewStatusProducer {
+    private final OutboxService outboxService;
+
+    public void onSaved(Review review) {
+        ReviewDto reviewDto = ReviewDto.builder()
+                .id(review.getId())
+                .detail(review.getDetail())
+                .build();
+        outboxService.enqueue(KafkaTopics.REVIEW_SAVED, review.getId(), reviewDto);
+    }
+
+    public void onDeleted(Long reviewId) {
+        outboxService.enqueue(KafkaTopics.REVIEW_DELETED, reviewId, ReviewDto.builder().id(reviewId).build());
+    }
+}
@@ -0,0 +1,28 @@
+package com.pser.hotel.domain.hotel.kafka.producer;
+
+import com.pser.hotel.domain.hotel.application.OutboxService;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.dto.RoomDto;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RoomStatusProducer {
+    private final OutboxService outboxService;
+
+    public void onSaved(Room room) {
+        RoomDto roomDto = RoomDto.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .description(room.getDescription())
+                .precaution(room.getPrecaution())
+                .build();
+        outboxService.enqueue(KafkaTopics.ROOM_SAVED, room.getId(), roomDto);
+    }
+
+    public void onDeleted(Long roomId) {
+        outboxService.enqueue(KafkaTopics.ROOM_DELETED, roomId, RoomDto.builder().id(roomId).build());
+    }
+}
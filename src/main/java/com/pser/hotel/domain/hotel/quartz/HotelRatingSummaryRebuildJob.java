@@ -0,0 +1,20 @@
+package com.pser.hotel.domain.hotel.quartz;
+
+import com.pser.hotel.domain.hotel.application.HotelRatingSummaryBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class HotelRatingSummaryRebuildJob extends QuartzJobBean {
+    private final HotelRatingSummaryBackfillService hotelRatingSummaryBackfillService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        hotelRatingSummaryBackfillService.rebuildAll();
+    }
+}
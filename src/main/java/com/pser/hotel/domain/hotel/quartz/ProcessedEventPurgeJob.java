@@ -0,0 +1,23 @@
+package com.pser.hotel.domain.hotel.quartz;
+
+import com.pser.hotel.domain.hotel.application.ProcessedEventStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ProcessedEventPurgeJob extends QuartzJobBean {
+    private final ProcessedEventStore processedEventStore;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int purged = processedEventStore.purgeExpired();
+        log.info("processed events purged: {}", purged);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pser.hotel.domain.hotel.quartz;
+
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuartzJobConfig {
+    @Bean
+    public JobDetail hotelRatingSummaryRebuildJobDetail() {
+        return JobBuilder.newJob(HotelRatingSummaryRebuildJob.class)
+                .withIdentity("hotel.rating-summary.rebuild")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger hotelRatingSummaryRebuildTrigger(JobDetail hotelRatingSummaryRebuildJobDetail,
+                                                    @Value("${quartz.rating-summary-rebuild-cron:0 0 4 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(hotelRatingSummaryRebuildJobDetail)
+                .withIdentity("hotel.rating-summary.rebuild")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+                .build();
+    }
+
+    @Bean
+    public JobDetail keywordIndexRebuildJobDetail() {
+        return JobBuilder.newJob(KeywordIndexRebuildJob.class)
+                .withIdentity("hotel.keyword-index.rebuild")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger keywordIndexRebuildTrigger(JobDetail keywordIndexRebuildJobDetail,
+                                              @Value("${quartz.keyword-index-rebuild-cron:0 30 3 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(keywordIndexRebuildJobDetail)
+                .withIdentity("hotel.keyword-index.rebuild")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+                .build();
+    }
+
+    @Bean
+    public JobDetail processedEventPurgeJobDetail() {
+        return JobBuilder.newJob(ProcessedEventPurgeJob.class)
+                .withIdentity("kafka.processed-event.purge")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger processedEventPurgeTrigger(JobDetail processedEventPurgeJobDetail,
+                                              @Value("${quartz.processed-event-purge-cron:0 30 4 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(processedEventPurgeJobDetail)
+                .withIdentity("kafka.processed-event.purge")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+                .build();
+    }
+
+    @Bean
+    public JobDetail reservationClosingJobDetail() {
+        return JobBuilder.newJob(ReservationClosingJob.class)
+                .withIdentity("reservation.closing")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger reservationClosingTrigger(JobDetail reservationClosingJobDetail,
+                                             @Value("${quartz.reservation-closing-cron:0 */5 * * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reservationClosingJobDetail)
+                .withIdentity("reservation.closing")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+                .build();
+    }
+}
@@ -26,8 +26,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BaseEntity {
+    /**
+     * Hibernate 가 엔티티마다 만드는 {테이블}_seq 시퀀스에서 pooled optimizer 로 50 개씩 받아 둔다.
+     * IDENTITY 와 달리 insert 전에 id 를 알 수 있어 같은 테이블의 insert 를 JDBC batch 로 묶을 수 있다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
@@ -4,4 +4,9 @@ import java.util.List;
 
 public interface StatusEnum {
     List<StatusEnum> getNext();
+
+    default boolean canTransitionTo(StatusEnum status) {
+        List<StatusEnum> candidates = getNext();
+        return candidates != null && candidates.contains(status);
+    }
 }
@@ -22,8 +22,7 @@ public class StatusHolderEntity<T extends StatusEnum> extends BaseEntity impleme
         if (status.equals(this.status)) {
             throw new SameStatusException();
         }
-        List<StatusEnum> candidates = getStatus().getNext();
-        if (candidates == null || !candidates.contains(status)) {
+        if (!getStatus().canTransitionTo(status)) {
             throw new StatusUpdateException();
         }
         setStatus(status);
@@ -46,9 +45,7 @@ public class StatusHolderEntity<T extends StatusEnum> extends BaseEntity impleme
         if (status.equals(this.status)) {
             throw new SameStatusException();
         }
-        T currentStatus = getStatus();
-        List<StatusEnum> candidates = status.getNext();
-        if (candidates == null || !candidates.contains(currentStatus)) {
+        if (!status.canTransitionTo(getStatus())) {
             throw new StatusUpdateException();
         }
         setStatus(status);
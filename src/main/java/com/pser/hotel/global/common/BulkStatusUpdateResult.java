@@ -0,0 +1,42 @@
+package com.pser.hotel.global.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.ToString;
+
+/**
+ * 일괄 상태 변경의 id 별 처리 결과. 요청한 id 순서를 유지한다.
+ */
+@ToString
+public class BulkStatusUpdateResult {
+    private final Map<Long, StatusUpdateResult> results = new LinkedHashMap<>();
+
+    public void put(Long id, StatusUpdateResult result) {
+        results.put(id, result);
+    }
+
+    public StatusUpdateResult get(Long id) {
+        return results.getOrDefault(id, StatusUpdateResult.NOT_FOUND);
+    }
+
+    public Map<Long, StatusUpdateResult> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    public List<Long> getIds(StatusUpdateResult result) {
+        return results.entrySet().stream()
+                .filter(entry -> entry.getValue() == result)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public List<Long> getUpdatedIds() {
+        return getIds(StatusUpdateResult.UPDATED);
+    }
+
+    public List<Long> getRejectedIds() {
+        return getIds(StatusUpdateResult.REJECTED);
+    }
+}
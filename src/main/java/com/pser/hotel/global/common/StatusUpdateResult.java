@@ -0,0 +1,8 @@
+package com.pser.hotel.global.common;
+
+public enum StatusUpdateResult {
+    UPDATED, // 상태 변경됨
+    SAME_STATUS, // 이미 목표 상태
+    REJECTED, // 허용되지 않는 상태 전이
+    NOT_FOUND // 대상이 존재하지 않음
+}
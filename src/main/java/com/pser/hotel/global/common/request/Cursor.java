@@ -0,0 +1,43 @@
+package com.pser.hotel.global.common.request;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+@Getter
+@AllArgsConstructor
+public class Cursor {
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime key;
+
+    private final Long id;
+
+    public static Cursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BooleanExpression after(DateTimePath<LocalDateTime> keyPath, NumberPath<Long> idPath) {
+        return keyPath.gt(key).or(keyPath.eq(key).and(idPath.gt(id)));
+    }
+}
@@ -4,10 +4,12 @@ import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import org.springframework.format.annotation.DateTimeFormat;
 
 @Setter
 @Getter
+@ToString
 @AllArgsConstructor
 public class SearchQuery {
     private String keyword;
@@ -1,5 +1,6 @@
 package com.pser.hotel.global.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -9,11 +10,18 @@ public class ApiResponse<T> {
     private String message = "";
     private T body = null;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor = null;
+
     public static ApiResponse<Void> error(String message) {
-        return new ApiResponse<>(message, null);
+        return new ApiResponse<>(message, null, null);
     }
 
     public static <T> ApiResponse<T> success(T body) {
-        return new ApiResponse<>("", body);
+        return new ApiResponse<>("", body, null);
+    }
+
+    public static <T> ApiResponse<T> success(T body, String nextCursor) {
+        return new ApiResponse<>("", body, nextCursor);
     }
 }
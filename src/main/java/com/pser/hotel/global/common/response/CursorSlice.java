@@ -0,0 +1,33 @@
+package com.pser.hotel.global.common.response;
+
+import com.pser.hotel.global.common.request.Cursor;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, int size, boolean hasNext, String nextCursor) {
+        super(content, PageRequest.ofSize(size), hasNext);
+        this.nextCursor = nextCursor;
+    }
+
+    public static <R, T> CursorSlice<T> of(List<R> rows, int size, Function<R, T> toContent,
+                                           Function<R, Cursor> toCursor) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? toCursor.apply(page.get(page.size() - 1)).encode() : null;
+        List<T> content = page.stream().map(toContent).collect(Collectors.toList());
+        return new CursorSlice<>(content, size, hasNext, nextCursor);
+    }
+
+    @Override
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getConvertedContent(converter), getSize(), hasNext(), nextCursor);
+    }
+}
@@ -3,9 +3,11 @@ package com.pser.hotel.global.config;
 import com.pser.hotel.domain.hotel.dao.HotelDao;
 import com.pser.hotel.domain.hotel.dao.RoomDao;
 import com.pser.hotel.domain.hotel.dao.TimesaleDao;
+import com.pser.hotel.domain.hotel.dao.UserDao;
 import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.dto.request.RoomRequest;
 import com.pser.hotel.domain.hotel.dto.request.TimesaleCreateRequest;
+import com.pser.hotel.domain.model.RoleEnum;
 import com.pser.hotel.global.error.UserNotAllowedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,7 @@ public class MethodAuthorizationManager {
     private final HotelDao hotelDao;
     private final TimesaleDao timesaleDao;
     private final RoomDao roomDao;
+    private final UserDao userDao;
 
     public boolean isHotelByIdAndRequest(Long userId, RoomRequest request) {
         hotelDao.findByIdAndUserId(request.getHotelId(), userId)
@@ -42,4 +45,11 @@ public class MethodAuthorizationManager {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "not found hotel"));
         return hotel.getUser().getId().equals(userId);
     }
+
+    public boolean isAdmin(Long userId) {
+        userDao.findById(userId)
+                .filter(user -> user.getRole() == RoleEnum.ROLE_ADMIN)
+                .orElseThrow(() -> new UserNotAllowedException());
+        return true;
+    }
 }
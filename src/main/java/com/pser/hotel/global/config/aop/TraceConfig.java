@@ -0,0 +1,24 @@
+package com.pser.hotel.global.config.aop;
+
+import com.pser.hotel.global.config.aop.latency.LatencyTraceAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@RequiredArgsConstructor
+public class TraceConfig {
+    private final Environment env;
+
+    @Bean
+    @ConditionalOnProperty(name = "trace.latency.enabled", havingValue = "true", matchIfMissing = true)
+    public LatencyTraceAspect latencyTraceAspect(MeterRegistry meterRegistry) {
+        double sampleRate = env.getProperty("trace.latency.sample-rate", Double.class, 1.0);
+        long slowThresholdMs = env.getProperty("trace.latency.slow-threshold-ms", Long.class, 500L);
+        boolean percentileHistogram = env.getProperty("trace.latency.percentile-histogram", Boolean.class, true);
+        return new LatencyTraceAspect(meterRegistry, sampleRate, slowThresholdMs, percentileHistogram);
+    }
+}
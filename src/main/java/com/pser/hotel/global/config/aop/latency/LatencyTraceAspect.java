@@ -0,0 +1,106 @@
+package com.pser.hotel.global.config.aop.latency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Api, Service, Dao 호출 시간을 nanoTime 으로 재어 메서드별 method.latency Timer 에 기록한다.
+ * Timer 기록은 sampleRate 비율의 호출만 하고, slowThresholdNanos 를 넘긴 호출은 sampling 과 관계없이 한 줄 로그로 남긴다.
+ * Timer 는 (빈 proxy 클래스, 메서드) 별로 한 번만 만들어 두므로 빠른 경로에서는 Map 조회 두 번과 nanoTime 두 번만 한다.
+ */
+@Slf4j
+@Aspect
+public class LatencyTraceAspect {
+    private static final String BASE_PACKAGE = "com.pser.hotel";
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final boolean percentileHistogram;
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    public LatencyTraceAspect(MeterRegistry meterRegistry, double sampleRate, long slowThresholdMs,
+                              boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Around("execution(* com.pser.hotel.domain..*Api.*(..)) || execution(* com.pser.hotel.domain..*Service.*(..)) || execution(* com.pser.hotel.domain..*Dao*.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startNanos = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                timerOf(joinPoint).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+            if (elapsedNanos >= slowThresholdNanos) {
+                logSlowCall(joinPoint, elapsedNanos, failure);
+            }
+        }
+    }
+
+    private Timer timerOf(ProceedingJoinPoint joinPoint) {
+        Class<?> type = joinPoint.getThis() != null ? joinPoint.getThis().getClass() : joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, Timer> methodTimers = timers.get(type);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        }
+        Timer timer = methodTimers.get(method);
+        if (timer == null) {
+            timer = methodTimers.computeIfAbsent(method, key -> Timer.builder("method.latency")
+                    .tag("class", classNameOf(type))
+                    .tag("method", key.getName())
+                    .publishPercentileHistogram(percentileHistogram)
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    private void logSlowCall(ProceedingJoinPoint joinPoint, long elapsedNanos, Throwable failure) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (failure == null) {
+            log.warn("slow call {} time={}ms", joinPoint.getSignature().toShortString(), elapsedMs);
+        } else {
+            log.warn("slow call {} time={}ms ex={}", joinPoint.getSignature().toShortString(), elapsedMs,
+                    failure.toString());
+        }
+    }
+
+    /**
+     * Spring Data repository 는 JDK proxy 이므로 프로젝트의 Dao 인터페이스 이름을, 나머지는 CGLIB 이전의 원래 클래스 이름을 쓴다.
+     */
+    static String classNameOf(Class<?> type) {
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> face : type.getInterfaces()) {
+                if (face.getName().startsWith(BASE_PACKAGE)) {
+                    return face.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+}
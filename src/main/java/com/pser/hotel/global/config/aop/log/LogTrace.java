@@ -1,9 +0,0 @@
-package com.pser.hotel.global.config.aop.log;
-
-public interface LogTrace {
-    TraceStatus begin(String message);
-
-    void end(TraceStatus status);
-
-    void exception(TraceStatus status, Exception e);
-}
@@ -1,32 +0,0 @@
-package com.pser.hotel.global.config.aop.log;
-
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-
-@Aspect
-@Slf4j
-public class LogTraceAspect {
-    private final LogTrace logTrace;
-
-    public LogTraceAspect(LogTrace logTrace) {
-        this.logTrace = logTrace;
-    }
-
-    @Around("execution(* com.gg.mafia.domain..*Api*.*(..)) || execution(* com.gg.mafia.domain..*Service*.*(..)) || execution(* com.gg.mafia.domain..*Dao*.*(..))")
-    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        TraceStatus status = null;
-        try {
-            String message = joinPoint.getSignature().toShortString();
-            status = logTrace.begin(message);
-            Object result = joinPoint.proceed();
-            logTrace.end(status);
-            return result;
-        } catch (Exception e) {
-            logTrace.exception(status, e);
-            throw e;
-        }
-
-    }
-}
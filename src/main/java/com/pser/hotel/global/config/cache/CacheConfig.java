@@ -0,0 +1,49 @@
+package com.pser.hotel.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+    private final Environment env;
+
+    @Bean
+    public CacheManager cacheManager() {
+        long maximumSize = env.getProperty("cache.hotel.maximum-size", Long.class, 10_000L);
+        Duration expireAfterWrite = env.getProperty("cache.hotel.expire-after-write", Duration.class,
+                Duration.ofMinutes(5));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setCacheNames(List.of(CacheNames.HOTEL));
+        cacheManager.registerCustomCache(CacheNames.SEARCH_COUNT, searchCountCache());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    private Cache<Object, Object> searchCountCache() {
+        long maximumSize = env.getProperty("cache.search-count.maximum-size", Long.class, 1_000L);
+        Duration expireAfterWrite = env.getProperty("cache.search-count.expire-after-write", Duration.class,
+                Duration.ofSeconds(30));
+
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.pser.hotel.global.config.cache;
+
+public interface CacheNames {
+    String HOTEL = "hotel";
+
+    String SEARCH_COUNT = "searchCount";
+}
@@ -0,0 +1,127 @@
+package com.pser.hotel.global.config.db;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시에 빌려줄 수 있는 커넥션 수를 semaphore 로 제한한다. HTTP 요청 스레드는 acquireTimeoutMs 안에 허가를 얻지 못하면
+ * 커넥션 풀 대기열에 쌓이지 않고 바로 실패해 503 으로 돌아간다. Kafka listener, 스케줄러, 백필처럼 요청 밖에서 도는 작업은
+ * 재시도할 곳이 없으므로 backgroundAcquireTimeoutMs 까지 기다린다. 요청 스레드 표시는 DbConcurrencyRequestFilter 가 한다.
+ * 허가는 커넥션을 닫을 때 한 번만 반납된다.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private static final ThreadLocal<Boolean> REQUEST_THREAD = new ThreadLocal<>();
+
+    private final long acquireTimeoutMs;
+    private final long backgroundAcquireTimeoutMs;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrency, long acquireTimeoutMs,
+                                        long backgroundAcquireTimeoutMs) {
+        super(targetDataSource);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("DB 동시 실행 수는 1 이상이어야 합니다");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.backgroundAcquireTimeoutMs = backgroundAcquireTimeoutMs;
+    }
+
+    public static void markRequestThread() {
+        REQUEST_THREAD.set(Boolean.TRUE);
+    }
+
+    public static void clearRequestThread() {
+        REQUEST_THREAD.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void acquire() throws SQLException {
+        long timeoutMs = REQUEST_THREAD.get() != null ? acquireTimeoutMs : backgroundAcquireTimeoutMs;
+        try {
+            if (permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCount.incrementAndGet();
+        throw new DbConcurrencyLimitExceededException(
+                "DB 동시 실행 한도(%d)를 %dms 안에 얻지 못했습니다".formatted(maxConcurrency, timeoutMs));
+    }
+
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,72 @@
+package com.pser.hotel.global.config.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * db.concurrency.enabled 가 켜져 있으면 DataSource 를 ConcurrencyLimitedDataSource 로 감싼다. 가상 스레드로 요청을 받으면
+ * 동시 요청 수가 Tomcat 스레드 수에 묶이지 않으므로 기본값은 spring.threads.virtual.enabled 를 따른다.
+ * 한도는 db.concurrency.permits 가 없으면 Hikari 의 maximumPoolSize 를 쓴다. 요청 밖의 작업은 빨리 실패하지 않고
+ * db.concurrency.background-acquire-timeout-ms 까지 기다리며, 기본값은 Hikari 의 connectionTimeout 이다.
+ * QueryMetricsConfig 도 DataSource 를 감싸므로 Hikari 와 ConcurrencyLimitedDataSource 는 감싼 순서와 관계없이 unwrap 으로 찾는다.
+ */
+@Slf4j
+@Configuration
+public class DbConcurrencyLimitConfig {
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimitPostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || !isEnabled(env)) {
+                    return bean;
+                }
+                HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                int defaultPermits = hikari != null ? hikari.getMaximumPoolSize() : 10;
+                int permits = env.getProperty("db.concurrency.permits", Integer.class, defaultPermits);
+                long acquireTimeoutMs = env.getProperty("db.concurrency.acquire-timeout-ms", Long.class, 200L);
+                long defaultBackgroundTimeoutMs = hikari != null ? hikari.getConnectionTimeout() : 30_000L;
+                long backgroundAcquireTimeoutMs = env.getProperty("db.concurrency.background-acquire-timeout-ms",
+                        Long.class, defaultBackgroundTimeoutMs);
+                log.info("limiting DB concurrency of {} to {} (acquire timeout {}ms, background {}ms)", beanName,
+                        permits, acquireTimeoutMs, backgroundAcquireTimeoutMs);
+                return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeoutMs,
+                        backgroundAcquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dbConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limited = DataSourceUnwrapper.unwrap(dataSource,
+                    ConcurrencyLimitedDataSource.class);
+            if (limited == null) {
+                return;
+            }
+            Gauge.builder("db.concurrency.max", limited, ConcurrencyLimitedDataSource::getMaxConcurrency)
+                    .register(registry);
+            Gauge.builder("db.concurrency.active", limited, ConcurrencyLimitedDataSource::getActiveCount)
+                    .register(registry);
+            Gauge.builder("db.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getWaitingCount)
+                    .register(registry);
+            FunctionCounter.builder("db.concurrency.rejected", limited, ConcurrencyLimitedDataSource::getRejectedCount)
+                    .register(registry);
+        };
+    }
+
+    private static boolean isEnabled(Environment env) {
+        boolean virtualThreads = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        return env.getProperty("db.concurrency.enabled", Boolean.class, virtualThreads);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pser.hotel.global.config.db;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * ConcurrencyLimitedDataSource 가 한도 안에서 허가를 얻지 못해 커넥션을 거절했다. DB 장애와 구분해 과부하 응답으로 돌려준다.
+ */
+public class DbConcurrencyLimitExceededException extends SQLTransientConnectionException {
+    public DbConcurrencyLimitExceededException(String reason) {
+        super(reason);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pser.hotel.global.config.db;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * HTTP 요청을 처리하는 동안 현재 스레드를 요청 스레드로 표시해 ConcurrencyLimitedDataSource 가 빨리 실패하게 한다.
+ * 인증 필터가 DB 를 읽을 수도 있으므로 가장 먼저 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DbConcurrencyRequestFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ConcurrencyLimitedDataSource.markRequestThread();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConcurrencyLimitedDataSource.clearRequestThread();
+        }
+    }
+}
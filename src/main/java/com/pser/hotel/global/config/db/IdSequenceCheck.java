@@ -0,0 +1,63 @@
+package com.pser.hotel.global.config.db;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동할 때 엔티티마다 id 시퀀스의 다음 값이 테이블의 max(id) 보다 큰지 확인하고, 뒤처진 시퀀스가 있으면 기동을 멈춘다.
+ * IDENTITY 로 쌓인 테이블에 시퀀스를 새로 만들면 1 부터 시작해 기존 id 와 겹치므로, 예외 메시지의 alter sequence 를 먼저 실행해야 한다.
+ * 확인하면서 시퀀스 값을 하나씩 쓰므로 기동할 때마다 테이블별로 increment 만큼 id 가 건너뛴다. db.id-sequence.check.enabled 로 끌 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdSequenceCheck implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final Environment env;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!env.getProperty("db.id-sequence.check.enabled", Boolean.class, true)) {
+            return;
+        }
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        SequenceSupport sequenceSupport = sessionFactory.getJdbcServices().getDialect().getSequenceSupport();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> restarts = new ArrayList<>();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entityPersister)
+                    || !persister.getEntityName().equals(persister.getRootEntityName())) {
+                return;
+            }
+            Long maxId = jdbcTemplate.queryForObject("select max(" + entityPersister.getIdentifierColumnNames()[0]
+                    + ") from " + entityPersister.getTableName(), Long.class);
+            if (maxId == null) {
+                return;
+            }
+            DatabaseStructure sequence = generator.getDatabaseStructure();
+            String sequenceName = sequence.getPhysicalName().render();
+            Long next = jdbcTemplate.queryForObject(sequenceSupport.getSequenceNextValString(sequenceName),
+                    Long.class);
+            if (next == null || next <= maxId) {
+                restarts.add("alter sequence " + sequenceName + " restart with "
+                        + (maxId + sequence.getIncrementSize()));
+            }
+        });
+        if (!restarts.isEmpty()) {
+            throw new IllegalStateException("id 시퀀스가 기존 id 보다 뒤처져 있습니다: " + String.join("; ", restarts));
+        }
+    }
+}
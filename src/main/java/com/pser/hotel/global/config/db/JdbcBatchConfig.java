@@ -0,0 +1,25 @@
+package com.pser.hotel.global.config.db;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Hibernate 가 flush 할 때 같은 테이블의 insert, update 를 db.jdbc.batch-size 개씩 JDBC batch 로 묶어 보내게 한다.
+ * 엔티티 그래프를 cascade 로 저장하면 테이블이 번갈아 나오므로 order_inserts, order_updates 로 테이블별로 모아야 batch 가 끊기지 않는다.
+ * MariaDB 는 URL 에 useBulkStmts=true 가 있어야 batch 가 실제로 한 번에 전송된다.
+ */
+@Configuration
+public class JdbcBatchConfig {
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(Environment env) {
+        int batchSize = env.getProperty("db.jdbc.batch-size", Integer.class, 50);
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
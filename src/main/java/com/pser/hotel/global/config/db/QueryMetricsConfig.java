@@ -0,0 +1,28 @@
+package com.pser.hotel.global.config.db;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * db.query-metrics.enabled 가 꺼져 있지 않으면 DataSource 를 QueryCountingDataSource 로 감싼다.
+ * 테스트에서는 이 설정만 Import 해 QueryStats 로 쿼리 수를 확인할 수 있다.
+ */
+@Configuration
+public class QueryMetricsConfig {
+    @Bean
+    public static BeanPostProcessor queryCountingPostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof QueryCountingDataSource
+                        || !env.getProperty("db.query-metrics.enabled", Boolean.class, true)) {
+                    return bean;
+                }
+                return new QueryCountingDataSource(dataSource);
+            }
+        };
+    }
+}
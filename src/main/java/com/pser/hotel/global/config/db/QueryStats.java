@@ -0,0 +1,97 @@
+package com.pser.hotel.global.config.db;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 HTTP 요청이나 Kafka 레코드를 처리하는 동안 실행한 JDBC statement 수, DB 시간, 읽은 행 수를 현재 스레드에 모은다.
+ * start 와 stop 사이에서만 기록하므로 범위 밖의 쿼리는 QueryCountingDataSource 가 통계 없이 그대로 실행한다.
+ * 처리 도중 다른 스레드로 넘긴 작업은 propagate 로 감싸면 같은 QueryStats 에 함께 기록되므로, 여러 스레드가 동시에 기록할 수 있다.
+ */
+public class QueryStats {
+    private static final ThreadLocal<QueryStats> current = new ThreadLocal<>();
+
+    private final Map<String, Integer> executionsBySql = new ConcurrentHashMap<>();
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        current.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return current.get();
+    }
+
+    public static QueryStats stop() {
+        QueryStats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 QueryStats 를 task 를 실행하는 스레드에서도 쓰게 감싼다. 열린 QueryStats 가 없으면 task 를 그대로 돌려준다.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = current.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = current.get();
+            current.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    current.remove();
+                } else {
+                    current.set(previous);
+                }
+            }
+        };
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statements.incrementAndGet();
+        this.elapsedNanos.addAndGet(elapsedNanos);
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRow() {
+        rows.incrementAndGet();
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행되었다면 행마다 쿼리를 보내는 N+1 패턴일 가능성이 높다.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, executions) -> {
+            if (executions >= threshold) {
+                repeated.put(sql, executions);
+            }
+        });
+        return repeated;
+    }
+}
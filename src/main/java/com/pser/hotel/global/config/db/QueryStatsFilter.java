@@ -0,0 +1,35 @@
+package com.pser.hotel.global.config.db;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청마다 QueryStats 를 열고, 요청이 끝나면 "메서드 URL 패턴" 이름으로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+    private final QueryStatsRecorder queryStatsRecorder;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryStats.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+            queryStatsRecorder.record("http", endpoint, stats);
+        }
+    }
+}
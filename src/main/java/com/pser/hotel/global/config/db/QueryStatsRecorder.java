@@ -0,0 +1,54 @@
+package com.pser.hotel.global.config.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청이나 레코드 하나의 QueryStats 를 source(http, kafka)와 name(endpoint, topic) 태그로 기록하고,
+ * 같은 SQL 이 db.query-metrics.repeat-threshold 번 이상 실행되면 N+1 의심 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class QueryStatsRecorder {
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+
+    public QueryStatsRecorder(MeterRegistry meterRegistry, Environment env) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = env.getProperty("db.query-metrics.repeat-threshold", Integer.class, 10);
+    }
+
+    public void record(String source, String name, QueryStats stats) {
+        if (stats == null) {
+            return;
+        }
+        DistributionSummary.builder("db.scope.statements")
+                .tag("source", source)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("db.scope.rows")
+                .tag("source", source)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("db.scope.time")
+                .tag("source", source)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeated = stats.getRepeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("db.scope.repeated", "source", source, "name", name).increment();
+            repeated.forEach((sql, executions) ->
+                    log.warn("possible N+1 in {} {}: {} executions of {}", source, name, executions, sql));
+        }
+    }
+}
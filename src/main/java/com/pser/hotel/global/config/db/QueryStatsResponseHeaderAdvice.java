@@ -0,0 +1,48 @@
+package com.pser.hotel.global.config.db;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전까지의 쿼리 수, DB 시간, 읽은 행 수를 X-Query-* 헤더로 붙인다.
+ * db.query-metrics.response-headers 를 따로 지정하지 않으면 prod 프로필이 아닐 때만 붙인다.
+ */
+@RestControllerAdvice
+public class QueryStatsResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+    private final boolean enabled;
+
+    public QueryStatsResponseHeaderAdvice(Environment env) {
+        this.enabled = env.getProperty("db.query-metrics.response-headers", Boolean.class,
+                !env.acceptsProfiles(Profiles.of("prod")));
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(stats.getStatements()));
+            response.getHeaders().set("X-Query-Time-Ms",
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos())));
+            response.getHeaders().set("X-Query-Rows", String.valueOf(stats.getRows()));
+        }
+        return body;
+    }
+}
@@ -4,6 +4,10 @@ public interface KafkaTopics {
     String HOTEL_CREATED = "hotel.created";
     String HOTEL_UPDATED = "hotel.updated";
     String HOTEL_DELETED = "hotel.deleted";
+    String ROOM_SAVED = "room.saved";
+    String ROOM_DELETED = "room.deleted";
+    String REVIEW_SAVED = "review.saved";
+    String REVIEW_DELETED = "review.deleted";
     String RESERVATION_CREATED = "reservation.created";
     String RESERVATION_PAYMENT_VALIDATION_REQUIRED = "reservation.payment-validation-required";
     String RESERVATION_PAYMENT_VALIDATION_REQUIRED_ROLLBACK = "reservation.payment-validation-required-rollback";
@@ -16,4 +20,10 @@ public interface KafkaTopics {
     String AUCTION_NO_BID = "auction.no-bid";
     String AUCTION_BID_REFUSAL = "auction.bid-refusal";
     String AUCTION_PAYMENT_REQUIRED = "auction.payment-required";
+    String AUCTION_CREATED_RETRY = AUCTION_CREATED + ".retry";
+    String AUCTION_NO_BID_RETRY = AUCTION_NO_BID + ".retry";
+    String AUCTION_PAYMENT_REQUIRED_RETRY = AUCTION_PAYMENT_REQUIRED + ".retry";
+    String RESERVATION_REFUND_CHECKED_RETRY = RESERVATION_REFUND_CHECKED + ".retry";
+    String RESERVATION_PAYMENT_VALIDATION_CHECKED_DLT = RESERVATION_PAYMENT_VALIDATION_CHECKED + "-dlt";
+    String RESERVATION_REFUND_COMPENSATION_RETRY = "reservation.refund-compensation.retry";
 }
@@ -0,0 +1,21 @@
+package com.pser.hotel.global.config.kafka.consumer;
+
+import com.pser.hotel.global.config.db.QueryStats;
+import com.pser.hotel.global.util.KeyAffinityExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@RequiredArgsConstructor
+public class ConsumerWorkerConfig {
+    private final Environment env;
+
+    @Bean(destroyMethod = "close")
+    public KeyAffinityExecutor consumerKeyAffinityExecutor() {
+        int lanes = env.getProperty("kafka.consumer.worker-lanes", Integer.class,
+                Runtime.getRuntime().availableProcessors());
+        return new KeyAffinityExecutor(lanes, "consumer-lane", QueryStats::propagate);
+    }
+}
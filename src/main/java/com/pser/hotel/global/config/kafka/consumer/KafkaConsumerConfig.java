@@ -0,0 +1,124 @@
+package com.pser.hotel.global.config.kafka.consumer;
+
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.domain.hotel.dto.ReservationDto;
+import com.pser.hotel.domain.hotel.dto.ReviewDto;
+import com.pser.hotel.domain.hotel.dto.RoomDto;
+import com.pser.hotel.global.common.AuctionDto;
+import com.pser.hotel.global.common.PaymentDto;
+import com.pser.hotel.global.common.RefundDto;
+import com.pser.hotel.global.config.db.QueryStatsRecorder;
+import com.pser.hotel.global.config.kafka.serde.KafkaSerde;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+/**
+ * 모든 listener container factory 가 같은 consumer 설정을 쓰고, 값 deserializer 만 타입에 맞게 고른다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+    private final Environment env;
+    private final KafkaSerde kafkaSerde;
+    private final QueryStatsRecorder queryStatsRecorder;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> stringValueListenerContainerFactory() {
+        return listenerContainerFactory(new StringDeserializer(), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Long> longValueListenerContainerFactory() {
+        return listenerContainerFactory(new LongDeserializer(), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AuctionDto> auctionDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(AuctionDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AuctionDto> auctionDtoValueBatchListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(AuctionDto.class), true);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, HotelDto> hotelDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(HotelDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentDto> paymentDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(PaymentDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentDto> paymentDtoValueBatchListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(PaymentDto.class), true);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, RefundDto> refundDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(RefundDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, RoomDto> roomDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(RoomDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReviewDto> reviewDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(ReviewDto.class), false);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReservationDto> reservationDtoValueListenerContainerFactory() {
+        return listenerContainerFactory(kafkaSerde.deserializer(ReservationDto.class), false);
+    }
+
+    private <V> ConcurrentKafkaListenerContainerFactory<String, V> listenerContainerFactory(
+            Deserializer<V> valueDeserializer, boolean batch) {
+        ConcurrentKafkaListenerContainerFactory<String, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(
+                new DefaultKafkaConsumerFactory<>(consumerConfig(), new StringDeserializer(), valueDeserializer));
+        factory.setConcurrency(env.getProperty("kafka.consumer.concurrency", Integer.class, 1));
+        factory.setBatchListener(batch);
+
+        QueryStatsInterceptor<V> queryStatsInterceptor = new QueryStatsInterceptor<>(queryStatsRecorder);
+        if (batch) {
+            Properties consumerProperties = new Properties();
+            consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                    env.getProperty("kafka.consumer.batch.max-poll-records", "500"));
+            factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+            factory.setBatchInterceptor(queryStatsInterceptor);
+        } else {
+            factory.setRecordInterceptor(queryStatsInterceptor);
+        }
+        return factory;
+    }
+
+    private Map<String, Object> consumerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, env.getProperty("kafka.bootstrap-servers"));
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, env.getProperty("kafka.consumer-group-id"));
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG,
+                env.getProperty("kafka.consumer.fetch-min-bytes", Integer.class, 1));
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+                env.getProperty("kafka.consumer.fetch-max-wait-ms", Integer.class, 500));
+        config.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG,
+                env.getProperty("kafka.consumer.max-partition-fetch-bytes", Integer.class, 1024 * 1024));
+        return config;
+    }
+}
@@ -0,0 +1,61 @@
+package com.pser.hotel.global.config.kafka.consumer;
+
+import com.pser.hotel.global.config.db.QueryStats;
+import com.pser.hotel.global.config.db.QueryStatsRecorder;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.lang.NonNull;
+
+/**
+ * listener 가 레코드나 배치 하나를 처리하는 동안 QueryStats 를 열고 토픽 이름으로 기록한다.
+ * 배치 listener 가 lane 스레드로 넘긴 작업의 쿼리는 consumerKeyAffinityExecutor 가 QueryStats 를 옮겨 주므로 함께 잡힌다.
+ */
+public class QueryStatsInterceptor<V> implements RecordInterceptor<String, V>, BatchInterceptor<String, V> {
+    private final QueryStatsRecorder queryStatsRecorder;
+
+    public QueryStatsInterceptor(QueryStatsRecorder queryStatsRecorder) {
+        this.queryStatsRecorder = queryStatsRecorder;
+    }
+
+    @Override
+    public ConsumerRecord<String, V> intercept(@NonNull ConsumerRecord<String, V> record,
+                                               @NonNull Consumer<String, V> consumer) {
+        QueryStats.start();
+        return record;
+    }
+
+    @Override
+    public void afterRecord(@NonNull ConsumerRecord<String, V> record, @NonNull Consumer<String, V> consumer) {
+        queryStatsRecorder.record("kafka", record.topic(), QueryStats.stop());
+    }
+
+    @Override
+    public ConsumerRecords<String, V> intercept(@NonNull ConsumerRecords<String, V> records,
+                                                @NonNull Consumer<String, V> consumer) {
+        QueryStats.start();
+        return records;
+    }
+
+    @Override
+    public void success(@NonNull ConsumerRecords<String, V> records, @NonNull Consumer<String, V> consumer) {
+        recordBatch(records);
+    }
+
+    @Override
+    public void failure(@NonNull ConsumerRecords<String, V> records, @NonNull Exception exception,
+                        @NonNull Consumer<String, V> consumer) {
+        recordBatch(records);
+    }
+
+    private void recordBatch(ConsumerRecords<String, V> records) {
+        QueryStats stats = QueryStats.stop();
+        if (records.isEmpty()) {
+            return;
+        }
+        String topic = records.iterator().next().topic();
+        queryStatsRecorder.record("kafka", topic, stats);
+    }
+}
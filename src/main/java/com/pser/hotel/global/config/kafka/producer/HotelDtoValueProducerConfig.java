@@ -1,35 +0,0 @@
-package com.pser.hotel.global.config.kafka.producer;
-
-import com.pser.hotel.domain.hotel.dto.HotelDto;
-import java.util.HashMap;
-import java.util.Map;
-import lombok.RequiredArgsConstructor;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringSerializer;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.core.env.Environment;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
-
-@Configuration
-@RequiredArgsConstructor
-public class HotelDtoValueProducerConfig {
-    private final Environment env;
-
-    @Bean
-    public ProducerFactory<String, HotelDto> hotelDtoValueProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, env.getProperty("kafka.bootstrap-servers"));
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, HotelDtoSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    @Bean
-    public KafkaTemplate<String, HotelDto> hotelDtoValueKafkaTemplate() {
-        return new KafkaTemplate<>(hotelDtoValueProducerFactory());
-    }
-}
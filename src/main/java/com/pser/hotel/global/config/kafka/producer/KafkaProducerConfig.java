@@ -0,0 +1,92 @@
+package com.pser.hotel.global.config.kafka.producer;
+
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.domain.hotel.dto.ReservationDto;
+import com.pser.hotel.global.common.AuctionDto;
+import com.pser.hotel.global.common.PaymentDto;
+import com.pser.hotel.global.common.RefundDto;
+import com.pser.hotel.global.config.kafka.serde.KafkaSerde;
+import com.pser.hotel.global.config.kafka.serde.TypedValueSerializer;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+/**
+ * 모든 KafkaTemplate 이 하나의 producer 를 공유한다. 값은 TypedValueSerializer 가 타입에 맞게 직렬화하므로 템플릿은
+ * 타입별로 나뉘어 있어도 버퍼, I/O 스레드, 메타데이터 조회는 한 벌만 쓴다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaProducerConfig {
+    private final Environment env;
+    private final KafkaSerde kafkaSerde;
+
+    @Bean
+    public ProducerFactory<String, Object> kafkaProducerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, env.getProperty("kafka.bootstrap-servers"));
+        config.put(ProducerConfig.ACKS_CONFIG, env.getProperty("kafka.producer.acks", "all"));
+        config.put(ProducerConfig.LINGER_MS_CONFIG, env.getProperty("kafka.producer.linger-ms", Integer.class, 5));
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG,
+                env.getProperty("kafka.producer.batch-size", Integer.class, 64 * 1024));
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, env.getProperty("kafka.producer.compression-type", "lz4"));
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG,
+                env.getProperty("kafka.producer.buffer-memory", Long.class, 32L * 1024 * 1024));
+
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new TypedValueSerializer(kafkaSerde));
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> stringValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, Long> longValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> byteArrayValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, AuctionDto> auctionDtoValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, HotelDto> hotelDtoValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, RefundDto> refundDtoValueKafkaTemplate() {
+        return template();
+    }
+
+    @Bean
+    public KafkaTemplate<String, ReservationDto> reservationDtoValueKafkaTemplate() {
+        return template();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> KafkaTemplate<String, V> template() {
+        ProducerFactory<String, ?> producerFactory = kafkaProducerFactory();
+        return new KafkaTemplate<>((ProducerFactory<String, V>) producerFactory);
+    }
+}
@@ -1,35 +0,0 @@
-package com.pser.hotel.global.config.kafka.producer;
-
-import com.pser.hotel.global.common.PaymentDto;
-import java.util.HashMap;
-import java.util.Map;
-import lombok.RequiredArgsConstructor;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringSerializer;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.core.env.Environment;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
-
-@Configuration
-@RequiredArgsConstructor
-public class PaymentDtoValueProducerConfig {
-    private final Environment env;
-
-    @Bean
-    public ProducerFactory<String, PaymentDto> paymentDtoValueProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, env.getProperty("kafka.bootstrap-servers"));
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, PaymentDtoSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    @Bean
-    public KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate() {
-        return new KafkaTemplate<>(paymentDtoValueProducerFactory());
-    }
-}
@@ -1,31 +0,0 @@
-package com.pser.hotel.global.config.kafka.producer;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.pser.hotel.domain.hotel.dto.ReservationDto;
-import java.util.Map;
-import org.apache.kafka.common.errors.SerializationException;
-import org.apache.kafka.common.serialization.Serializer;
-
-public class ReservationDtoSerializer implements Serializer<ReservationDto> {
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    @Override
-    public void configure(Map<String, ?> configs, boolean isKey) {
-    }
-
-    @Override
-    public byte[] serialize(String topic, ReservationDto data) {
-        try {
-            if (data == null) {
-                return null;
-            }
-            return objectMapper.writeValueAsBytes(data);
-        } catch (Exception e) {
-            throw new SerializationException("직렬화 오류");
-        }
-    }
-
-    @Override
-    public void close() {
-    }
-}
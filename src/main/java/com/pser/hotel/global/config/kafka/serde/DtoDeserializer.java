@@ -0,0 +1,18 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Deserializer;
+
+@RequiredArgsConstructor
+public class DtoDeserializer<T> implements Deserializer<T> {
+    private final KafkaSerde kafkaSerde;
+    private final Class<T> type;
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return kafkaSerde.decode(data, type);
+    }
+}
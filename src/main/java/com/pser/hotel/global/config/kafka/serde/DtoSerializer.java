@@ -0,0 +1,17 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serializer;
+
+@RequiredArgsConstructor
+public class DtoSerializer<T> implements Serializer<T> {
+    private final KafkaSerde kafkaSerde;
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        return kafkaSerde.encode(data);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import lombok.Getter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka DTO 를 직렬화하는 mapper 를 한 번만 만들어 모든 토픽이 공유한다. 쓰기는 설정한 형식을 따르고, 읽기는 Smile 헤더로
+ * 형식을 판별하므로 형식을 바꾸는 동안 JSON 과 Smile 메시지가 섞여 있어도 읽을 수 있다.
+ */
+public class KafkaSerde {
+    @Getter
+    private final SerdeFormat format;
+    private final ObjectMapper jsonMapper = configure(JsonMapper.builder());
+    private final ObjectMapper smileMapper = configure(SmileMapper.builder());
+
+    public KafkaSerde(SerdeFormat format) {
+        this.format = format;
+    }
+
+    public byte[] encode(Object value) {
+        try {
+            return (format == SerdeFormat.SMILE ? smileMapper : jsonMapper).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("직렬화 오류", e);
+        }
+    }
+
+    public <T> T decode(byte[] data, Class<T> type) {
+        try {
+            return (isSmile(data) ? smileMapper : jsonMapper).readValue(data, type);
+        } catch (IOException e) {
+            throw new SerializationException("역직렬화 오류: " + type.getSimpleName(), e);
+        }
+    }
+
+    public <T> Serializer<T> serializer() {
+        return new DtoSerializer<>(this);
+    }
+
+    public <T> Deserializer<T> deserializer(Class<T> type) {
+        return new DtoDeserializer<>(this, type);
+    }
+
+    static boolean isSmile(byte[] data) {
+        return data.length >= 3
+                && data[0] == SmileConstants.HEADER_BYTE_1
+                && data[1] == SmileConstants.HEADER_BYTE_2
+                && data[2] == SmileConstants.HEADER_BYTE_3;
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+        return builder.addModule(new JavaTimeModule())
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaSerdeConfig {
+    private final Environment env;
+
+    @Bean
+    public KafkaSerde kafkaSerde() {
+        String format = env.getProperty("kafka.serde.format", SerdeFormat.JSON.name());
+        return new KafkaSerde(SerdeFormat.valueOf(format.toUpperCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,6 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+public enum SerdeFormat {
+    JSON,
+    SMILE // Jackson 바이너리 JSON
+}
@@ -0,0 +1,34 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+/**
+ * 모든 KafkaTemplate 이 공유하는 producer 의 값 serializer. String, Long, byte[] 은 기존 형식 그대로 쓰고,
+ * 나머지 DTO 는 KafkaSerde 로 인코딩한다.
+ */
+@RequiredArgsConstructor
+public class TypedValueSerializer implements Serializer<Object> {
+    private final KafkaSerde kafkaSerde;
+    private final StringSerializer stringSerializer = new StringSerializer();
+    private final LongSerializer longSerializer = new LongSerializer();
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (data instanceof String string) {
+            return stringSerializer.serialize(topic, string);
+        }
+        if (data instanceof Long number) {
+            return longSerializer.serialize(topic, number);
+        }
+        return kafkaSerde.encode(data);
+    }
+}
@@ -2,9 +2,11 @@ package com.pser.hotel.global.error;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.pser.hotel.global.common.response.ApiResponse;
+import com.pser.hotel.global.config.db.DbConcurrencyLimitExceededException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -70,10 +73,32 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(ApiResponse.error(exception.getMessage()));
     }
 
+    /**
+     * DB 동시 실행 한도에 걸려 거절된 요청만 503 으로 돌려준다. DB 장애나 네트워크 오류는 과부하로 보이지 않도록 일반 오류로 처리한다.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(RuntimeException exception) {
+        if (!isDbConcurrencyLimitExceeded(exception)) {
+            return handleGlobalException(exception);
+        }
+        logger.warn("message", exception);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+    }
+
     @ExceptionHandler(Exception.class)
     ResponseEntity<ApiResponse<Void>> handleGlobalException(Exception exception) {
         logger.error("message", exception);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("서버 내부 에러"));
     }
+
+    private boolean isDbConcurrencyLimitExceeded(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DbConcurrencyLimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
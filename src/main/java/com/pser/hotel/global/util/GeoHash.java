@@ -0,0 +1,128 @@
+package com.pser.hotel.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위경도를 base32 geohash 로 변환하고, 영역을 덮는 geohash 셀과 haversine 거리를 계산한다.
+ */
+public final class GeoHash {
+    public static final int MAX_PRECISION = 12;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_LATITUDE_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90;
+        double maxLat = 90;
+        double minLon = -180;
+        double maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = index * 2 + 1;
+                    minLon = mid;
+                } else {
+                    index = index * 2;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = index * 2 + 1;
+                    minLat = mid;
+                } else {
+                    index = index * 2;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellHeight(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    public static double cellWidth(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    /**
+     * 영역을 덮는 셀이 maxCells 개 이하가 되는 가장 세밀한 정밀도로 셀 목록을 만든다.
+     */
+    public static List<String> cover(double minLatitude, double minLongitude, double maxLatitude,
+                                     double maxLongitude, int maxCells) {
+        int precision = MAX_PRECISION;
+        while (precision > 1 && cellCount(minLatitude, minLongitude, maxLatitude, maxLongitude, precision) > maxCells) {
+            precision--;
+        }
+
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLatitude; ; lat += height) {
+            double clampedLat = Math.min(lat, maxLatitude);
+            for (double lon = minLongitude; ; lon += width) {
+                double clampedLon = Math.min(lon, maxLongitude);
+                cells.add(encode(clampedLat, clampedLon, precision));
+                if (clampedLon >= maxLongitude) {
+                    break;
+                }
+            }
+            if (clampedLat >= maxLatitude) {
+                break;
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * 중심점에서 반경을 포함하는 영역을 {minLatitude, minLongitude, maxLatitude, maxLongitude} 로 반환한다.
+     */
+    public static double[] boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_LATITUDE_DEGREE;
+        double cos = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cos > 1e-9 ? Math.min(180, latDelta / cos) : 180;
+        return new double[]{
+                Math.max(-90, latitude - latDelta),
+                Math.max(-180, longitude - lonDelta),
+                Math.min(90, latitude + latDelta),
+                Math.min(180, longitude + lonDelta)
+        };
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long cellCount(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                  int precision) {
+        long rows = (long) Math.ceil((maxLatitude - minLatitude) / cellHeight(precision)) + 1;
+        long columns = (long) Math.ceil((maxLongitude - minLongitude) / cellWidth(precision)) + 1;
+        return rows * columns;
+    }
+}
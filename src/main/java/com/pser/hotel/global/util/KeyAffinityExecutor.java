@@ -0,0 +1,85 @@
+package com.pser.hotel.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 같은 키의 작업은 항상 같은 단일 스레드 lane 에서 순서대로, 다른 키의 작업은 여러 lane 에서 병렬로 실행한다.
+ * lane 으로 넘기는 작업은 제출한 스레드에서 taskDecorator 로 감싸므로 스레드에 묶인 문맥을 lane 으로 옮길 수 있다.
+ * lane 은 가상 스레드에서 돌므로 DB 나 Kafka 를 기다리는 동안 carrier 스레드를 붙잡지 않는다.
+ */
+public class KeyAffinityExecutor implements AutoCloseable {
+    private final ExecutorService[] lanes;
+    private final TaskDecorator taskDecorator;
+
+    public KeyAffinityExecutor(int laneCount, String threadNamePrefix) {
+        this(laneCount, threadNamePrefix, task -> task);
+    }
+
+    public KeyAffinityExecutor(int laneCount, String threadNamePrefix, TaskDecorator taskDecorator) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("lane 수는 1 이상이어야 합니다");
+        }
+        this.taskDecorator = taskDecorator;
+        lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name(threadNamePrefix + "-" + i).factory());
+        }
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public CompletableFuture<Void> submit(Object key, Runnable task) {
+        return CompletableFuture.runAsync(taskDecorator.decorate(task), lanes[laneOf(key)]);
+    }
+
+    /**
+     * 항목을 lane 별로 나누어 원래 순서를 유지한 채 laneTask 에 넘기고, 모든 lane 이 끝날 때까지 기다린다.
+     * 실패한 lane 이 있으면 첫 번째 예외를 다시 던진다.
+     */
+    public <T> void executeAll(List<T> items, Function<T, Object> keyOf, Consumer<List<T>> laneTask) {
+        Map<Integer, List<T>> itemsByLane = new LinkedHashMap<>();
+        for (T item : items) {
+            itemsByLane.computeIfAbsent(laneOf(keyOf.apply(item)), lane -> new ArrayList<>()).add(item);
+        }
+        if (itemsByLane.size() == 1) {
+            laneTask.accept(items);
+            return;
+        }
+
+        CompletableFuture<?>[] futures = itemsByLane.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(
+                        taskDecorator.decorate(() -> laneTask.accept(entry.getValue())), lanes[entry.getKey()]))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private int laneOf(Object key) {
+        return Math.floorMod(key == null ? 0 : key.hashCode(), lanes.length);
+    }
+}
@@ -0,0 +1,182 @@
+package com.pser.hotel.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문서 필드를 2-gram 으로 색인하는 역색인. 한국어처럼 띄어쓰기만으로 단어를 나누기 어려운 텍스트의 부분 일치 검색에 쓴다.
+ * 후보는 모든 2-gram 을 포함하는 문서로 좁힌 뒤 실제 부분 문자열 포함 여부로 확인하므로 LIKE '%keyword%' 와 같은 결과를
+ * BM25 점수 순으로 돌려준다.
+ */
+public class NgramIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 2-gram 을 만들 수 없는 한 글자 검색어는 색인으로 처리할 수 없다.
+     */
+    public static boolean isSearchable(String query) {
+        String normalized = normalize(query);
+        return !normalized.isEmpty() && Arrays.stream(normalized.split(" ")).allMatch(token -> token.length() >= 2);
+    }
+
+    public void put(Long id, String... fields) {
+        String[] normalizedFields = Arrays.stream(fields)
+                .filter(Objects::nonNull)
+                .map(NgramIndex::normalize)
+                .toArray(String[]::new);
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String field : normalizedFields) {
+            for (String gram : grams(field)) {
+                termFrequencies.merge(gram, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            termFrequencies.forEach((gram, frequency) ->
+                    postings.computeIfAbsent(gram, key -> new HashMap<>()).put(id, frequency));
+            documents.put(id, normalizedFields);
+            lengths.put(id, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<String> queryGrams = new HashSet<>(grams(normalizedQuery));
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> gramPostings = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                gramPostings.add(posting);
+            }
+            gramPostings.sort(Comparator.comparingInt(Map::size));
+
+            Set<Long> candidates = new HashSet<>(gramPostings.get(0).keySet());
+            for (int i = 1; i < gramPostings.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(gramPostings.get(i).keySet());
+            }
+
+            double averageLength = documents.isEmpty() ? 0 : (double) totalLength / documents.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                if (containsQuery(documents.get(id), normalizedQuery)) {
+                    scores.put(id, score(id, gramPostings, averageLength));
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double score(Long id, List<Map<Long, Integer>> gramPostings, double averageLength) {
+        int documentCount = documents.size();
+        double lengthRatio = averageLength == 0 ? 1 : lengths.get(id) / averageLength;
+        double score = 0;
+        for (Map<Long, Integer> posting : gramPostings) {
+            int frequency = posting.get(id);
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            score += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+        }
+        return score;
+    }
+
+    private boolean containsQuery(String[] fields, String normalizedQuery) {
+        for (String field : fields) {
+            if (field.contains(normalizedQuery)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeInternal(Long id) {
+        String[] fields = documents.remove(id);
+        if (fields == null) {
+            return;
+        }
+        for (String field : fields) {
+            for (String gram : grams(field)) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null && posting.remove(id) != null && posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        totalLength -= lengths.remove(id);
+    }
+
+    private static List<String> grams(String normalized) {
+        List<String> grams = new ArrayList<>();
+        for (String token : normalized.split(" ")) {
+            if (token.length() == 1) {
+                grams.add(token);
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,62 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.BDDMockito.given;
+
+import com.pser.hotel.domain.hotel.dao.FacilityDao;
+import com.pser.hotel.domain.hotel.domain.FacilityFlag;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("편의시설 비트셋 인덱스 테스트")
+class FacilityIndexTest {
+    @Mock
+    FacilityDao facilityDao;
+
+    @Mock
+    FlagMaskBackfillService flagMaskBackfillService;
+
+    @InjectMocks
+    FacilityIndex facilityIndex;
+
+    long wifiAndSauna = FacilityFlag.maskOf(EnumSet.of(FacilityFlag.WIFI, FacilityFlag.SAUNA));
+
+    @BeforeEach
+    public void setUp() {
+        given(facilityDao.findAllMasks()).willReturn(List.of(
+                new Object[]{1L, wifiAndSauna},
+                new Object[]{2L, FacilityFlag.WIFI.bit()},
+                new Object[]{3L, wifiAndSauna | FacilityFlag.PARKING_LOT.bit()}
+        ));
+        facilityIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("요청한 편의시설을 모두 갖춘 숙소만 조회한다")
+    public void findHotelIds() {
+        Assertions.assertThat(facilityIndex.isReady()).isTrue();
+        Assertions.assertThat(facilityIndex.findHotelIds(wifiAndSauna)).containsExactly(1L, 3L);
+        Assertions.assertThat(facilityIndex.findHotelIds(0L)).containsExactly(1L, 2L, 3L);
+        Assertions.assertThat(facilityIndex.countHotels(FacilityFlag.PET_FRIENDLY.bit())).isZero();
+    }
+
+    @Test
+    @DisplayName("숙소 변경과 삭제가 인덱스에 반영된다")
+    public void putAndRemove() {
+        facilityIndex.put(2L, wifiAndSauna);
+        facilityIndex.remove(3L);
+        given(facilityDao.findMaskByHotelId(1L)).willReturn(Optional.empty());
+        facilityIndex.refresh(1L);
+
+        Assertions.assertThat(facilityIndex.findHotelIds(wifiAndSauna)).containsExactly(2L);
+    }
+}
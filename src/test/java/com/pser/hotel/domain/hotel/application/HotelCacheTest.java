@@ -0,0 +1,63 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.pser.hotel.domain.hotel.dao.FacilityDao;
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.HotelImageDao;
+import com.pser.hotel.domain.hotel.dao.UserDao;
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.domain.hotel.dto.mapper.HotelMapper;
+import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
+import com.pser.hotel.domain.hotel.kafka.consumer.HotelCacheInvalidationConsumer;
+import com.pser.hotel.domain.hotel.kafka.producer.HotelStatusProducer;
+import com.pser.hotel.global.config.cache.CacheConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig({CacheConfig.class, HotelService.class, HotelCacheInvalidationConsumer.class})
+@DisplayName("숙소 상세 캐시 테스트")
+public class HotelCacheTest {
+    @Autowired
+    HotelService hotelService;
+    @Autowired
+    HotelCacheInvalidationConsumer hotelCacheInvalidationConsumer;
+    @MockBean
+    HotelDao hotelDao;
+    @MockBean
+    FacilityDao facilityDao;
+    @MockBean
+    UserDao userDao;
+    @MockBean
+    HotelImageDao hotelImageDao;
+    @MockBean
+    HotelMapper hotelMapper;
+    @MockBean
+    HotelStatusProducer hotelStatusProducer;
+    @MockBean
+    FacilityIndex facilityIndex;
+    @MockBean
+    KeywordSearchIndex keywordSearchIndex;
+
+    @Test
+    @DisplayName("숙소 상세는 캐시되고 숙소 변경 이벤트로 무효화된다")
+    public void cacheAndEvictTest() {
+        Long hotelId = 1L;
+        HotelResponse hotelResponse = HotelResponse.builder().id(hotelId).build();
+        given(hotelDao.findHotel(hotelId)).willReturn(hotelResponse);
+
+        hotelService.getHotelDataById(hotelId);
+        HotelResponse cached = hotelService.getHotelDataById(hotelId);
+        hotelCacheInvalidationConsumer.onHotelChanged(HotelDto.builder().id(hotelId).build());
+        hotelService.getHotelDataById(hotelId);
+
+        Assertions.assertThat(cached).isEqualTo(hotelResponse);
+        then(hotelDao).should(times(2)).findHotel(hotelId);
+    }
+}
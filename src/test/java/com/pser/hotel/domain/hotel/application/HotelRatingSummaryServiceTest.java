@@ -0,0 +1,98 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.pser.hotel.domain.hotel.dao.HotelRatingSummaryDao;
+import com.pser.hotel.domain.hotel.domain.Hotel;
+import com.pser.hotel.domain.hotel.domain.HotelRatingSummary;
+import com.pser.hotel.domain.hotel.util.Utils;
+import com.pser.hotel.domain.model.GradeEnum;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("호텔 평점 요약 Service 테스트")
+class HotelRatingSummaryServiceTest {
+    @InjectMocks
+    HotelRatingSummaryService hotelRatingSummaryService;
+    @Mock
+    HotelRatingSummaryDao hotelRatingSummaryDao;
+    @Mock
+    HotelRatingSummaryCreator hotelRatingSummaryCreator;
+
+    Hotel hotel;
+    HotelRatingSummary summary;
+
+    @BeforeEach
+    public void setUp() {
+        hotel = Utils.createHotel(Utils.createUser());
+        ReflectionTestUtils.setField(hotel, "id", 1L);
+        summary = HotelRatingSummary.builder().hotel(hotel).build();
+    }
+
+    @Test
+    @DisplayName("요약 행이 없으면 만든 뒤 락을 잡고 평점을 더한다")
+    public void addCreatesMissingSummary() {
+        given(hotelRatingSummaryDao.countByHotelIdIn(List.of(1L))).willReturn(0L);
+        given(hotelRatingSummaryDao.findWithLockByHotelIdInOrderByHotelIdAsc(List.of(1L))).willReturn(List.of(summary));
+
+        hotelRatingSummaryService.add(1L, GradeEnum.FIVE_STARS);
+
+        InOrder inOrder = inOrder(hotelRatingSummaryCreator, hotelRatingSummaryDao);
+        inOrder.verify(hotelRatingSummaryCreator).createMissing(List.of(1L));
+        inOrder.verify(hotelRatingSummaryDao).findWithLockByHotelIdInOrderByHotelIdAsc(List.of(1L));
+        Assertions.assertThat(summary.getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 요약 행을 먼저 만들면 다시 시도한 뒤 그 행을 잠근다")
+    public void addRetriesConcurrentCreate() {
+        given(hotelRatingSummaryDao.countByHotelIdIn(List.of(1L))).willReturn(0L);
+        willThrow(new DataIntegrityViolationException("duplicate"))
+                .willDoNothing()
+                .given(hotelRatingSummaryCreator).createMissing(List.of(1L));
+        given(hotelRatingSummaryDao.findWithLockByHotelIdInOrderByHotelIdAsc(List.of(1L))).willReturn(List.of(summary));
+
+        hotelRatingSummaryService.add(1L, GradeEnum.FIVE_STARS);
+
+        then(hotelRatingSummaryCreator).should(times(2)).createMissing(List.of(1L));
+        Assertions.assertThat(summary.getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재집계는 일반 조회 전에 요약 행을 잠근 뒤 리뷰를 세어 덮어쓴다")
+    public void rebuild() {
+        summary.add(GradeEnum.ONE_STAR);
+        given(hotelRatingSummaryDao.findWithLockByHotelIdInOrderByHotelIdAsc(List.of(1L))).willReturn(List.of(summary));
+        given(hotelRatingSummaryDao.countGradesGroupByHotel(anyCollection())).willReturn(List.<Object[]>of(
+                new Object[]{1L, GradeEnum.FIVE_STARS, 2L}, new Object[]{1L, GradeEnum.THREE_STARS, 1L}));
+
+        int rebuilt = hotelRatingSummaryService.rebuild(List.of(1L));
+
+        InOrder inOrder = inOrder(hotelRatingSummaryCreator, hotelRatingSummaryDao);
+        inOrder.verify(hotelRatingSummaryCreator).createMissing(List.of(1L));
+        inOrder.verify(hotelRatingSummaryDao).findWithLockByHotelIdInOrderByHotelIdAsc(List.of(1L));
+        inOrder.verify(hotelRatingSummaryDao).countGradesGroupByHotel(List.of(1L));
+        then(hotelRatingSummaryDao).should(never()).countByHotelIdIn(anyCollection());
+        Assertions.assertThat(rebuilt).isEqualTo(1);
+        Assertions.assertThat(summary.getReviewCount()).isEqualTo(3);
+        Assertions.assertThat(summary.getCount(GradeEnum.ONE_STAR)).isZero();
+        Assertions.assertThat(summary.getGradeAverage()).isEqualTo(13.0 / 3);
+    }
+}
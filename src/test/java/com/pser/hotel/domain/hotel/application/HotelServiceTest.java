@@ -59,6 +59,12 @@ public class HotelServiceTest {
     @Mock
     HotelImageDao hotelImageDao;
 
+    @Mock
+    FacilityIndex facilityIndex;
+
+    @Mock
+    KeywordSearchIndex keywordSearchIndex;
+
     @InjectMocks
     HotelService hotelService;
 
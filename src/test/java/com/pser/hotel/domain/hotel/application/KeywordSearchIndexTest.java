@@ -0,0 +1,74 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.BDDMockito.given;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.ReviewDao;
+import com.pser.hotel.domain.hotel.dao.RoomDao;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("키워드 색인 테스트")
+class KeywordSearchIndexTest {
+    @Mock
+    HotelDao hotelDao;
+
+    @Mock
+    RoomDao roomDao;
+
+    @Mock
+    ReviewDao reviewDao;
+
+    KeywordSearchIndex keywordSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("search.keyword.max-candidates", "2");
+        keywordSearchIndex = new KeywordSearchIndex(hotelDao, roomDao, reviewDao, env);
+        given(hotelDao.findAllKeywordFields()).willReturn(List.of(
+                new Object[]{1L, "그랜드 호텔", "서울"},
+                new Object[]{2L, "시티 호텔", "부산"},
+                new Object[]{3L, "오션 리조트", "제주"}
+        ));
+        given(roomDao.findAllKeywordFields()).willReturn(List.of());
+        given(reviewDao.findAllKeywordFields()).willReturn(List.of());
+        keywordSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("일치하는 문서가 max-candidates 이하면 관련도 순 id 를 돌려준다")
+    public void searchWithinCandidates() {
+        Assertions.assertThat(keywordSearchIndex.searchHotels("리조트")).contains(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("일치하는 문서가 max-candidates 를 넘으면 DB 검색에 맡긴다")
+    public void searchFallsBackWhenCandidatesOverflow() {
+        keywordSearchIndex.indexHotel(4L, "스테이 호텔", "대구");
+
+        Assertions.assertThat(keywordSearchIndex.searchHotels("호텔")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 들어온 변경은 새 색인에도 반영된다")
+    public void keepChangesDuringRebuild() {
+        given(reviewDao.findAllKeywordFields()).willAnswer(invocation -> {
+            keywordSearchIndex.indexHotel(4L, "오션 스테이", "강릉");
+            keywordSearchIndex.removeHotel(3L);
+            return List.of();
+        });
+
+        keywordSearchIndex.rebuild();
+
+        Assertions.assertThat(keywordSearchIndex.searchHotels("오션")).contains(List.of(4L));
+    }
+}
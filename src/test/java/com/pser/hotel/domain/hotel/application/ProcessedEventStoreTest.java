@@ -0,0 +1,72 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.pser.hotel.domain.hotel.dao.ProcessedEventDao;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("처리 이벤트 저장소 테스트")
+class ProcessedEventStoreTest {
+    @Mock
+    ProcessedEventDao processedEventDao;
+
+    ProcessedEventStore processedEventStore;
+
+    @BeforeEach
+    public void setUp() {
+        processedEventStore = new ProcessedEventStore(processedEventDao, new MockEnvironment());
+    }
+
+    @Test
+    @DisplayName("처리한 이벤트가 다시 오면 DB 조회 없이 건너뛴다")
+    public void runOnce() {
+        AtomicInteger count = new AtomicInteger();
+        given(processedEventDao.existsByTopicAndEventId("topic", "1")).willReturn(false);
+
+        processedEventStore.runOnce("topic", "1", count::incrementAndGet);
+        processedEventStore.runOnce("topic", "1", count::incrementAndGet);
+
+        Assertions.assertThat(count.get()).isEqualTo(1);
+        then(processedEventDao).should().existsByTopicAndEventId("topic", "1");
+        then(processedEventDao).should().saveAll(any());
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 처리 완료로 기록하지 않는다")
+    public void runOnceFailure() {
+        given(processedEventDao.existsByTopicAndEventId("topic", "1")).willReturn(false);
+
+        Assertions.assertThatThrownBy(() -> processedEventStore.runOnce("topic", "1", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        then(processedEventDao).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("배치의 처리 여부는 캐시에 없는 이벤트만 한 번에 조회한다")
+    public void findProcessed() {
+        processedEventStore.markProcessed("topic", "1");
+        given(processedEventDao.findEventIds(eq("topic"), any())).willReturn(List.of("2"));
+
+        Assertions.assertThat(processedEventStore.findProcessed("topic", List.of("1", "2", "3")))
+                .containsExactlyInAnyOrder("1", "2");
+        then(processedEventDao).should().findEventIds("topic", List.of("2", "3"));
+        then(processedEventDao).should(never()).existsByTopicAndEventId(anyString(), anyString());
+    }
+}
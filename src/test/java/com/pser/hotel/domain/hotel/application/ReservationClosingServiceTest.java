@@ -0,0 +1,104 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static com.pser.hotel.domain.hotel.util.Utils.createHotel;
+import static com.pser.hotel.domain.hotel.util.Utils.createReservation;
+import static com.pser.hotel.domain.hotel.util.Utils.createRoom;
+import static com.pser.hotel.domain.hotel.util.Utils.createUser;
+
+import com.pser.hotel.domain.hotel.config.MapperConfig;
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.SweepWatermarkDao;
+import com.pser.hotel.domain.hotel.domain.Hotel;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.SweepWatermark;
+import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, MapperConfig.class, ReservationClosingService.class})
+@DisplayName("예약 종료 Service 테스트")
+class ReservationClosingServiceTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 4, 20);
+
+    @Autowired
+    ReservationClosingService reservationClosingService;
+    @Autowired
+    ReservationDao reservationDao;
+    @Autowired
+    SweepWatermarkDao sweepWatermarkDao;
+    @Autowired
+    EntityManager em;
+    Room room;
+
+    @BeforeEach
+    public void setUp() {
+        User user = createUser();
+        Hotel hotel = createHotel(user);
+        room = createRoom(hotel);
+        em.persist(user);
+        em.persist(hotel);
+        em.persist(room);
+    }
+
+    @Test
+    @DisplayName("체크인 시각이 지난 종료 가능한 예약을 밀린 날짜부터 PAST 로 변경한다")
+    public void closePastReservations() {
+        Reservation yesterday = save(TODAY.minusDays(1), ReservationStatusEnum.BEFORE_CHECKIN);
+        Reservation today = save(TODAY, ReservationStatusEnum.BEFORE_CHECKIN);
+        Reservation tomorrow = save(TODAY.plusDays(1), ReservationStatusEnum.BEFORE_CHECKIN);
+        Reservation refunded = save(TODAY.minusDays(2), ReservationStatusEnum.REFUNDED);
+        Reservation auctionFailure = save(TODAY.minusDays(10), ReservationStatusEnum.AUCTION_FAILURE);
+
+        int closed = reservationClosingService.closePastReservations(TODAY.atTime(16, 0));
+
+        Assertions.assertThat(closed).isEqualTo(3);
+        Assertions.assertThat(statusOf(yesterday)).isEqualTo(ReservationStatusEnum.PAST);
+        Assertions.assertThat(statusOf(today)).isEqualTo(ReservationStatusEnum.PAST);
+        Assertions.assertThat(statusOf(auctionFailure)).isEqualTo(ReservationStatusEnum.PAST);
+        Assertions.assertThat(statusOf(tomorrow)).isEqualTo(ReservationStatusEnum.BEFORE_CHECKIN);
+        Assertions.assertThat(statusOf(refunded)).isEqualTo(ReservationStatusEnum.REFUNDED);
+        Assertions.assertThat(sweepWatermarkDao.findByName(ReservationClosingService.WATERMARK_NAME))
+                .map(SweepWatermark::getWatermarkDate)
+                .contains(TODAY);
+    }
+
+    @Test
+    @DisplayName("오늘 끝나는 예약은 체크인 시각 전에는 닫지 않는다")
+    public void closeBeforeCheckIn() {
+        Reservation today = save(TODAY, ReservationStatusEnum.BEFORE_CHECKIN);
+
+        int closed = reservationClosingService.closePastReservations(LocalDateTime.of(TODAY, room.getCheckIn())
+                .minusMinutes(1));
+
+        Assertions.assertThat(closed).isZero();
+        Assertions.assertThat(statusOf(today)).isEqualTo(ReservationStatusEnum.BEFORE_CHECKIN);
+    }
+
+    private Reservation save(LocalDate endAt, ReservationStatusEnum status) {
+        Reservation reservation = createReservation(room.getHotel().getUser(), room);
+        reservation.setStartAt(endAt.minusDays(1));
+        reservation.setEndAt(endAt);
+        reservation.setStatus(status);
+        em.persist(reservation);
+        em.flush();
+        return reservation;
+    }
+
+    private ReservationStatusEnum statusOf(Reservation reservation) {
+        return reservationDao.findById(reservation.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,140 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static com.pser.hotel.domain.hotel.util.Utils.createHotel;
+import static com.pser.hotel.domain.hotel.util.Utils.createRoom;
+import static com.pser.hotel.domain.hotel.util.Utils.createUser;
+
+import com.pser.hotel.domain.hotel.dao.HotelDao;
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.RoomDao;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryDao;
+import com.pser.hotel.domain.hotel.dao.UserDao;
+import com.pser.hotel.domain.hotel.domain.Hotel;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import com.pser.hotel.domain.hotel.dto.request.ReservationCreateRequest;
+import com.pser.hotel.domain.hotel.kafka.producer.ReservationStatusProducer;
+import com.pser.hotel.domain.member.domain.User;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest
+@DisplayName("예약 동시성 테스트")
+@Slf4j
+public class ReservationConcurrencyTest {
+    private static final int TOTAL_ROOMS = 5;
+    private static final int REQUEST_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    ReservationService reservationService;
+    @Autowired
+    ReservationDao reservationDao;
+    @Autowired
+    RoomNightInventoryDao roomNightInventoryDao;
+    @Autowired
+    UserDao userDao;
+    @Autowired
+    HotelDao hotelDao;
+    @Autowired
+    RoomDao roomDao;
+    @MockBean
+    ReservationStatusProducer reservationStatusProducer;
+    User user;
+    Hotel hotel;
+    Room room;
+    LocalDate startAt;
+    LocalDate endAt;
+
+    @BeforeEach
+    public void setUp() {
+        user = userDao.save(createUser());
+        hotel = hotelDao.save(createHotel(user));
+        room = createRoom(hotel);
+        room.setTotalRooms(TOTAL_ROOMS);
+        room = roomDao.save(room);
+        startAt = LocalDate.now().plusDays(10);
+        endAt = startAt.plusDays(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        List<Reservation> reservations = reservationDao.findAll().stream()
+                .filter(reservation -> reservation.getRoom().getId().equals(room.getId()))
+                .toList();
+        reservationDao.deleteAll(reservations);
+        roomNightInventoryDao.deleteAll(roomNightInventoryDao.findByRoomIdAndStayDateInOrderByStayDateAsc(
+                room.getId(), RoomNightInventory.nightsOf(startAt, endAt)));
+        roomDao.delete(room);
+        hotelDao.delete(hotel);
+        userDao.delete(user);
+    }
+
+    @Test
+    @DisplayName("같은 객실에 동시에 예약 요청이 몰려도 재고를 초과해 예약되지 않는다")
+    public void concurrentSaveTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    reservationService.save(createRequest());
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    log.warn("unexpected booking failure", e);
+                    failed.incrementAndGet();
+                }
+            });
+        }
+        ready.countDown();
+        executorService.shutdown();
+        Assertions.assertThat(executorService.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        List<RoomNightInventory> inventories = roomNightInventoryDao.findByRoomIdAndStayDateInOrderByStayDateAsc(
+                room.getId(), RoomNightInventory.nightsOf(startAt, endAt));
+        long reservationCount = reservationDao.findAll().stream()
+                .filter(reservation -> reservation.getRoom().getId().equals(room.getId()))
+                .count();
+
+        Assertions.assertThat(succeeded.get()).isEqualTo(TOTAL_ROOMS);
+        Assertions.assertThat(rejected.get() + failed.get()).isEqualTo(REQUEST_COUNT - TOTAL_ROOMS);
+        Assertions.assertThat(reservationCount).isEqualTo(TOTAL_ROOMS);
+        Assertions.assertThat(inventories).hasSize(2)
+                .allSatisfy(inventory -> Assertions.assertThat(inventory.getBooked()).isEqualTo(TOTAL_ROOMS));
+    }
+
+    private ReservationCreateRequest createRequest() {
+        return ReservationCreateRequest.builder()
+                .authId(user.getId())
+                .roomId(room.getId())
+                .price(1000)
+                .visitorCount(2)
+                .adultCount(1)
+                .childCount(1)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static com.pser.hotel.domain.hotel.util.Utils.createHotel;
+import static com.pser.hotel.domain.hotel.util.Utils.createReservation;
+import static com.pser.hotel.domain.hotel.util.Utils.createRoom;
+import static com.pser.hotel.domain.hotel.util.Utils.createUser;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.RoomDao;
+import com.pser.hotel.domain.hotel.dao.UserDao;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.ReservationStatusEnum;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.dto.mapper.ReservationMapper;
+import com.pser.hotel.domain.hotel.kafka.producer.ReservationStatusProducer;
+import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.global.common.BulkStatusUpdateResult;
+import com.pser.hotel.global.common.StatusUpdateDto;
+import com.pser.hotel.global.common.StatusUpdateResult;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 Service 테스트")
+class ReservationServiceTest {
+    @InjectMocks
+    ReservationService reservationService;
+    @Mock
+    ReservationDao reservationDao;
+    @Mock
+    RoomDao roomDao;
+    @Mock
+    UserDao userDao;
+    @Mock
+    ReservationMapper reservationMapper;
+    @Mock
+    RoomInventoryService roomInventoryService;
+    @Mock
+    ReservationStatusProducer reservationStatusProducer;
+
+    @Test
+    @DisplayName("여러 예약의 상태를 한 번의 조회로 변경하고 요청 순서대로 결과를 돌려준다")
+    public void updateStatuses() {
+        User user = createUser();
+        Room room = createRoom(createHotel(user));
+        Reservation beforeCheckin = createReservationWithStatus(user, room, ReservationStatusEnum.BEFORE_CHECKIN);
+        Reservation auctionOngoing = createReservationWithStatus(user, room, ReservationStatusEnum.AUCTION_ONGOING);
+        Reservation created = createReservationWithStatus(user, room, ReservationStatusEnum.CREATED);
+        given(reservationDao.findAllByMerchantUidIn(any()))
+                .willReturn(List.of(beforeCheckin, auctionOngoing, created));
+
+        List<StatusUpdateResult> results = reservationService.updateStatuses(List.of(
+                toAuctionOngoing(beforeCheckin.getMerchantUid()),
+                toAuctionOngoing(auctionOngoing.getMerchantUid()),
+                toAuctionOngoing(created.getMerchantUid()),
+                toAuctionOngoing("unknown")
+        ));
+
+        Assertions.assertThat(results).containsExactly(StatusUpdateResult.UPDATED, StatusUpdateResult.SAME_STATUS,
+                StatusUpdateResult.REJECTED, StatusUpdateResult.NOT_FOUND);
+        Assertions.assertThat(beforeCheckin.getStatus()).isEqualTo(ReservationStatusEnum.AUCTION_ONGOING);
+        Assertions.assertThat(created.getStatus()).isEqualTo(ReservationStatusEnum.CREATED);
+        then(reservationDao).should(never()).findByMerchantUid(anyString());
+    }
+
+    @Test
+    @DisplayName("여러 예약을 조건부 UPDATE 한 번으로 옮기고 옮겨진 id 와 거절된 id 를 돌려준다")
+    public void transitionAll() {
+        User user = createUser();
+        Room room = createRoom(createHotel(user));
+        Reservation beforeCheckin = createReservationWithStatus(user, room, ReservationStatusEnum.BEFORE_CHECKIN, 1L);
+        Reservation auctionFailure = createReservationWithStatus(user, room, ReservationStatusEnum.AUCTION_FAILURE, 2L);
+        Reservation refunded = createReservationWithStatus(user, room, ReservationStatusEnum.REFUNDED, 3L);
+        Reservation past = createReservationWithStatus(user, room, ReservationStatusEnum.PAST, 4L);
+        given(reservationDao.findAllWithLockByIdIn(any()))
+                .willReturn(List.of(beforeCheckin, auctionFailure, refunded, past));
+        given(reservationDao.updateStatusWhereStatusIn(eq(List.of(1L, 2L)), any(), eq(ReservationStatusEnum.PAST),
+                any())).willReturn(2);
+
+        BulkStatusUpdateResult result = reservationService.transitionAll(List.of(1L, 2L, 3L, 4L, 5L),
+                ReservationStatusEnum.PAST);
+
+        Assertions.assertThat(result.getUpdatedIds()).containsExactly(1L, 2L);
+        Assertions.assertThat(result.getRejectedIds()).containsExactly(3L);
+        Assertions.assertThat(result.get(4L)).isEqualTo(StatusUpdateResult.SAME_STATUS);
+        Assertions.assertThat(result.get(5L)).isEqualTo(StatusUpdateResult.NOT_FOUND);
+        then(reservationDao).should().updateStatusWhereStatusIn(eq(List.of(1L, 2L)),
+                eq(ReservationStatusEnum.predecessorsOf(ReservationStatusEnum.PAST)), eq(ReservationStatusEnum.PAST),
+                any());
+    }
+
+    @Test
+    @DisplayName("관리자 일괄 변경은 이벤트나 재고 변경이 따르는 상태로는 옮기지 않는다")
+    public void transitionAllManuallyRejectsSagaStatuses() {
+        Assertions.assertThatThrownBy(() -> reservationService.transitionAllManually(List.of(1L),
+                        ReservationStatusEnum.REFUND_REQUIRED))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(reservationDao).should(never()).findAllWithLockByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("전이 표는 getNext 와 같은 전이를 허용하고 직전 상태 집합을 돌려준다")
+    public void transitionTable() {
+        for (ReservationStatusEnum from : ReservationStatusEnum.values()) {
+            for (ReservationStatusEnum to : ReservationStatusEnum.values()) {
+                Assertions.assertThat(from.canTransitionTo(to)).isEqualTo(from.getNext().contains(to));
+            }
+        }
+        Assertions.assertThat(ReservationStatusEnum.predecessorsOf(ReservationStatusEnum.PAST))
+                .containsExactlyInAnyOrder(ReservationStatusEnum.BEFORE_CHECKIN, ReservationStatusEnum.AUCTION_FAILURE);
+        Assertions.assertThat(ReservationStatusEnum.predecessorsOf(ReservationStatusEnum.CREATED)).isEmpty();
+    }
+
+    private Reservation createReservationWithStatus(User user, Room room, ReservationStatusEnum status, long id) {
+        Reservation reservation = createReservationWithStatus(user, room, status);
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private Reservation createReservationWithStatus(User user, Room room, ReservationStatusEnum status) {
+        Reservation reservation = createReservation(user, room);
+        reservation.setStatus(status);
+        return reservation;
+    }
+
+    private StatusUpdateDto<ReservationStatusEnum> toAuctionOngoing(String merchantUid) {
+        return StatusUpdateDto.<ReservationStatusEnum>builder()
+                .merchantUid(merchantUid)
+                .targetStatus(ReservationStatusEnum.AUCTION_ONGOING)
+                .build();
+    }
+}
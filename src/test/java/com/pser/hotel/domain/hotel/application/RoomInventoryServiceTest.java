@@ -0,0 +1,114 @@
+package com.pser.hotel.domain.hotel.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryBackfillStatus;
+import com.pser.hotel.domain.hotel.dao.RoomNightInventoryDao;
+import com.pser.hotel.domain.hotel.domain.Reservation;
+import com.pser.hotel.domain.hotel.domain.Room;
+import com.pser.hotel.domain.hotel.domain.RoomNightInventory;
+import com.pser.hotel.domain.hotel.util.Utils;
+import com.pser.hotel.domain.member.domain.User;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("객실 재고 Service 테스트")
+class RoomInventoryServiceTest {
+    @InjectMocks
+    RoomInventoryService roomInventoryService;
+    @Mock
+    RoomNightInventoryDao roomNightInventoryDao;
+    @Mock
+    RoomNightInventoryCreator roomNightInventoryCreator;
+    @Mock
+    ReservationDao reservationDao;
+    @Mock
+    RoomNightInventoryBackfillStatus backfillStatus;
+
+    User user;
+    Room room;
+    LocalDate startAt;
+
+    @BeforeEach
+    public void setUp() {
+        user = Utils.createUser();
+        room = Utils.createRoom(Utils.createHotel(user));
+        ReflectionTestUtils.setField(room, "id", 1L);
+        ReflectionTestUtils.setField(room, "totalRooms", 2);
+        startAt = LocalDate.now().plusDays(10);
+    }
+
+    @Test
+    @DisplayName("재고 행을 채우기 전에는 겹치는 예약 수가 객실 수에 닿으면 예약을 거절한다")
+    public void checkOverlappingReservationsBeforeBackfill() {
+        given(backfillStatus.isCompleted()).willReturn(false);
+        given(reservationDao.countOverlapping(eq(1L), eq(startAt), eq(startAt.plusDays(1)), any())).willReturn(2L);
+
+        Assertions.assertThatThrownBy(() -> roomInventoryService.checkOverlappingReservations(room, startAt,
+                        startAt.plusDays(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재고 행을 채운 뒤에는 예약 테이블을 세지 않는다")
+    public void checkOverlappingReservationsAfterBackfill() {
+        given(backfillStatus.isCompleted()).willReturn(true);
+
+        roomInventoryService.checkOverlappingReservations(room, startAt, startAt.plusDays(2));
+
+        then(reservationDao).should(never()).countOverlapping(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재고 다시 세기는 from 이후 밤의 booked 를 재고를 차지하는 예약 수로 맞춘다")
+    public void rebuild() {
+        Reservation first = createStay(startAt, startAt.plusDays(2));
+        Reservation second = createStay(startAt.plusDays(1), startAt.plusDays(3));
+        given(reservationDao.findStaysWithLockFrom(eq(1L), any(), eq(startAt))).willReturn(List.of(first, second));
+        List<RoomNightInventory> inventories = List.of(createInventory(startAt), createInventory(startAt.plusDays(1)),
+                createInventory(startAt.plusDays(2)));
+        given(roomNightInventoryDao.countByRoomIdAndStayDateIn(eq(1L), any())).willReturn(3L);
+        given(roomNightInventoryDao.findWithLockByRoomIdAndStayDateInOrderByStayDateAsc(1L,
+                List.of(startAt, startAt.plusDays(1), startAt.plusDays(2)))).willReturn(inventories);
+
+        int rebuilt = roomInventoryService.rebuild(room, startAt);
+
+        Assertions.assertThat(rebuilt).isEqualTo(3);
+        Assertions.assertThat(inventories).extracting(RoomNightInventory::getBooked).containsExactly(1, 2, 1);
+    }
+
+    private Reservation createStay(LocalDate stayStartAt, LocalDate stayEndAt) {
+        return Reservation.builder()
+                .price(1000)
+                .startAt(stayStartAt)
+                .endAt(stayEndAt)
+                .visitorCount(2)
+                .adultCount(2)
+                .childCount(0)
+                .user(user)
+                .room(room)
+                .build();
+    }
+
+    private RoomNightInventory createInventory(LocalDate stayDate) {
+        RoomNightInventory inventory = RoomNightInventory.builder().room(room).stayDate(stayDate).total(2).build();
+        inventory.setBooked(2);
+        return inventory;
+    }
+}
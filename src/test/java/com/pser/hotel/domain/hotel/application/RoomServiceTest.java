@@ -17,6 +17,7 @@ import com.pser.hotel.domain.hotel.dto.mapper.RoomMapper;
 import com.pser.hotel.domain.hotel.dto.request.RoomRequest;
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.domain.hotel.kafka.producer.RoomStatusProducer;
 import com.pser.hotel.domain.member.domain.User;
 import java.time.LocalTime;
 import java.util.List;
@@ -50,6 +51,12 @@ class RoomServiceTest {
     HotelDao hotelDao;
     @Mock
     RoomMapper roomMapper;
+    @Mock
+    RoomInventoryService roomInventoryService;
+    @Mock
+    KeywordSearchIndex keywordSearchIndex;
+    @Mock
+    RoomStatusProducer roomStatusProducer;
     User user;
     Hotel hotel;
     Room room;
@@ -4,16 +4,22 @@ import com.pser.hotel.domain.hotel.config.MapperConfig;
 import com.pser.hotel.domain.hotel.domain.Facility;
 import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.domain.HotelCategoryEnum;
+import com.pser.hotel.domain.hotel.domain.HotelImage;
 import com.pser.hotel.domain.hotel.domain.Reservation;
 import com.pser.hotel.domain.hotel.domain.Room;
 import com.pser.hotel.domain.hotel.dto.response.HotelResponse;
 import com.pser.hotel.domain.hotel.dto.request.HotelSearchRequest;
 import com.pser.hotel.domain.hotel.dto.response.HotelSummaryResponse;
+import com.pser.hotel.domain.hotel.util.QueryCountAssertions;
 import com.pser.hotel.domain.hotel.util.Utils;
 import com.pser.hotel.domain.member.domain.User;
 import com.pser.hotel.global.config.QueryDslConfig;
+import com.pser.hotel.global.config.db.JdbcBatchConfig;
+import com.pser.hotel.global.config.db.QueryMetricsConfig;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,7 +34,7 @@ import org.springframework.data.domain.Slice;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({QueryDslConfig.class, MapperConfig.class})
+@Import({QueryDslConfig.class, MapperConfig.class, QueryMetricsConfig.class, JdbcBatchConfig.class})
 public class HotelDaoImplTest {
     @Autowired
     HotelDao hotelDao;
@@ -65,6 +71,71 @@ public class HotelDaoImplTest {
         }
     }
 
+    @Test
+    @DisplayName("반경 검색은 반경 안의 숙소만 가까운 순으로 조회한다")
+    public void findNearbyTest() {
+        Hotel near = saveHotelAt(37.5700, 126.9800);
+        Hotel nearest = saveHotelAt(37.5666, 126.9781);
+        saveHotelAt(35.1796, 129.0756);
+
+        Slice<HotelSummaryResponse> result = hotelDao.findNearby(37.5665, 126.9780, 3, pageable);
+
+        Assertions.assertThat(result.getContent()).extracting(HotelSummaryResponse::getId)
+                .containsExactly(nearest.getId(), near.getId());
+        Assertions.assertThat(result.getContent().get(0).getDistance()).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("영역 검색은 영역 안의 숙소만 조회한다")
+    public void findWithinTest() {
+        Hotel inside = saveHotelAt(37.5665, 126.9780);
+        saveHotelAt(35.1796, 129.0756);
+
+        Slice<HotelSummaryResponse> result = hotelDao.findWithin(37.4, 126.8, 37.7, 127.2, pageable);
+
+        Assertions.assertThat(result.getContent()).extracting(HotelSummaryResponse::getId)
+                .containsExactly(inside.getId());
+    }
+
+    private Hotel saveHotelAt(double latitude, double longitude) {
+        Hotel hotel = Utils.createHotel(user);
+        hotel.setLatitude(latitude);
+        hotel.setLongitude(longitude);
+        return hotelDao.save(hotel);
+    }
+
+    @Test
+    @DisplayName("검색은 한 페이지의 숙소 수와 관계없이 정해진 수의 쿼리로 조회한다")
+    public void searchQueryCountTest() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<HotelSummaryResponse> result = QueryCountAssertions.assertMaxQueries(5, () ->
+                hotelDao.search(createSearchRequestByName(), pageable));
+
+        Assertions.assertThat(result.getContent().size()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("숙소 저장은 이미지 수와 관계없이 테이블마다 batch insert 한 번으로 끝난다")
+    public void saveHotelStatementCountTest() {
+        entityManager.flush();
+        Hotel newHotel = Utils.createHotel(user);
+        Utils.createFacility(newHotel);
+        for (int i = 0; i < 20; i++) {
+            HotelImage.builder().imageUrl("https://img.pser.dev/hotels/new/" + i + ".jpg").hotel(newHotel).build();
+        }
+
+        // 시퀀스 호출(테이블마다 최대 2번) + hotel, facility, hotel_image insert batch 각 1번. IDENTITY 였다면 2 + 20번이다.
+        QueryCountAssertions.assertMaxQueries(9, () -> {
+            hotelDao.save(newHotel);
+            entityManager.flush();
+            return newHotel;
+        });
+
+        Assertions.assertThat(newHotel.getImages()).hasSize(20).allMatch(image -> image.getId() != null);
+    }
+
     @Test
     @DisplayName("name 검색 테스트")
     public void nameSearchTest() {
@@ -185,6 +256,17 @@ public class HotelDaoImplTest {
         Assertions.assertThat(hotelResponse.getProvince()).isEqualTo("서울특별시");
     }
 
+    @Test
+    @DisplayName("숙소 목록 일괄 가격 조회 테스트")
+    public void enrichSummariesTest() {
+        HotelSummaryResponse summary = HotelSummaryResponse.builder().id(hotel.getId()).build();
+        hotelDao.enrichSummaries(new ArrayList<>(List.of(summary)));
+        Assertions.assertThat(summary.getPreviousPrice()).isEqualTo(room.getPrice());
+        Assertions.assertThat(summary.getSalePrice()).isEqualTo(room.getPrice());
+        Assertions.assertThat(summary.getGradeAverage()).isEqualTo(0.0);
+        Assertions.assertThat(summary.getHotelImageUrls()).isEmpty();
+    }
+
     private Pageable createPageable() {
         return PageRequest.of(0, 20);
     }
@@ -5,9 +5,15 @@ import com.pser.hotel.domain.hotel.domain.Hotel;
 import com.pser.hotel.domain.hotel.domain.Room;
 import com.pser.hotel.domain.hotel.dto.response.RoomResponse;
 import com.pser.hotel.domain.hotel.dto.request.RoomSearchRequest;
+import com.pser.hotel.domain.hotel.util.QueryCountAssertions;
 import com.pser.hotel.domain.hotel.util.Utils;
 import com.pser.hotel.domain.member.domain.User;
+import com.pser.hotel.global.common.request.Cursor;
+import com.pser.hotel.global.common.response.CursorSlice;
 import com.pser.hotel.global.config.QueryDslConfig;
+import com.pser.hotel.global.config.db.QueryMetricsConfig;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import org.assertj.core.api.Assertions;
@@ -21,16 +27,19 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({QueryDslConfig.class, MapperConfig.class})
+@Import({QueryDslConfig.class, MapperConfig.class, QueryMetricsConfig.class})
 @ActiveProfiles("test")
 @DisplayName("RoomDaoImpl 테스트")
 class RoomDaoImplTest {
     @Autowired
     RoomDao roomDao;
+    @Autowired
+    EntityManager entityManager;
     User user;
     Hotel hotel;
     List<Room> rooms;
@@ -191,6 +200,45 @@ class RoomDaoImplTest {
         return request;
     }
 
+    @Test
+    @DisplayName("Slice 조회는 count 쿼리 없이 다음 페이지 존재 여부를 판단한다")
+    public void searchSlice() {
+        request = RoomSearchRequest.builder().build();
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<RoomResponse> first = QueryCountAssertions.assertMaxQueries(1, () ->
+                roomDao.searchSlice(request, PageRequest.of(0, 7)));
+        Slice<RoomResponse> last = QueryCountAssertions.assertMaxQueries(1, () ->
+                roomDao.searchSlice(request, PageRequest.of(1, 7)));
+
+        Assertions.assertThat(first.getContent()).hasSize(7);
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(last.getContent()).hasSize(rooms.size() - 7);
+        Assertions.assertThat(last.hasNext()).isFalse();
+        Assertions.assertThat(roomDao.searchForCount(request)).isEqualTo(rooms.size());
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 모든 객실을 중복 없이 조회한다")
+    public void searchByCursor() {
+        request = RoomSearchRequest.builder().build();
+        List<RoomResponse> fetched = new ArrayList<>();
+        Cursor cursor = null;
+
+        CursorSlice<RoomResponse> slice;
+        do {
+            slice = roomDao.search(request, cursor, 3);
+            fetched.addAll(slice.getContent());
+            cursor = Cursor.decode(slice.getNextCursor());
+        } while (slice.hasNext());
+
+        Assertions.assertThat(fetched).hasSize(rooms.size());
+        Assertions.assertThat(fetched).extracting(RoomResponse::getName)
+                .doesNotHaveDuplicates();
+        Assertions.assertThat(slice.getNextCursor()).isNull();
+    }
+
     private Pageable createPageable() {
         return PageRequest.of(0, 10);
     }
@@ -52,6 +52,18 @@ class FacilityTest {
         Assertions.assertThat(em.contains(facility)).isTrue();
     }
 
+    @Test
+    @DisplayName("편의시설을 변경하면 비트마스크도 함께 갱신된다")
+    public void syncFacilityMask() {
+        facility.setWifi(true);
+        facility.setSauna(false);
+        em.flush();
+
+        Assertions.assertThat(facility.getFacilityMask() & FacilityFlag.WIFI.bit()).isNotZero();
+        Assertions.assertThat(facility.getFacilityMask() & FacilityFlag.SAUNA.bit()).isZero();
+        Assertions.assertThat(facility.getFacilityMask()).isEqualTo(FacilityFlag.maskOf(facility));
+    }
+
     private Profile createProfile(User user) {
         return Profile.builder()
                 .user(user)
@@ -0,0 +1,49 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import com.pser.hotel.domain.model.GradeEnum;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HotelRatingSummary 엔티티 테스트")
+public class HotelRatingSummaryTest {
+    @Test
+    @DisplayName("평점 추가, 변경, 삭제 시 평균과 분포가 갱신된다")
+    public void adjustTest() {
+        HotelRatingSummary summary = HotelRatingSummary.builder().build();
+
+        summary.add(GradeEnum.FIVE_STARS);
+        summary.add(GradeEnum.THREE_STARS);
+        summary.change(GradeEnum.THREE_STARS, GradeEnum.FOUR_STARS);
+        summary.add(GradeEnum.ONE_STAR);
+        summary.remove(GradeEnum.ONE_STAR);
+
+        Assertions.assertThat(summary.getReviewCount()).isEqualTo(2);
+        Assertions.assertThat(summary.getGradeAverage()).isEqualTo(4.5);
+        Assertions.assertThat(summary.getCount(GradeEnum.THREE_STARS)).isZero();
+        Assertions.assertThat(summary.getCount(GradeEnum.FOUR_STARS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("집계되지 않은 평점은 삭제할 수 없다")
+    public void removeMissingGradeTest() {
+        HotelRatingSummary summary = HotelRatingSummary.builder().build();
+
+        Assertions.assertThatThrownBy(() -> summary.remove(GradeEnum.TWO_STARS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("재집계 시 기존 값을 덮어쓴다")
+    public void resetTest() {
+        HotelRatingSummary summary = HotelRatingSummary.builder().build();
+        summary.add(GradeEnum.ONE_STAR);
+
+        summary.reset(Map.of(GradeEnum.TWO_STARS, 2L, GradeEnum.FIVE_STARS, 2L));
+
+        Assertions.assertThat(summary.getReviewCount()).isEqualTo(4);
+        Assertions.assertThat(summary.getGradeAverage()).isEqualTo(3.5);
+        Assertions.assertThat(summary.getCount(GradeEnum.ONE_STAR)).isZero();
+    }
+}
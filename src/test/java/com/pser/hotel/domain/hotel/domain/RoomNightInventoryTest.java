@@ -0,0 +1,37 @@
+package com.pser.hotel.domain.hotel.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RoomNightInventory 엔티티 테스트")
+public class RoomNightInventoryTest {
+    @Test
+    @DisplayName("숙박 일자는 체크아웃 일자를 제외한다")
+    public void nightsOfTest() {
+        LocalDate startAt = LocalDate.of(2024, 4, 17);
+
+        Assertions.assertThat(RoomNightInventory.nightsOf(startAt, startAt.plusDays(2)))
+                .isEqualTo(List.of(startAt, startAt.plusDays(1)));
+        Assertions.assertThat(RoomNightInventory.nightsOf(startAt, startAt))
+                .isEqualTo(List.of(startAt));
+    }
+
+    @Test
+    @DisplayName("재고를 초과해 예약할 수 없다")
+    public void bookOverTotalTest() {
+        RoomNightInventory inventory = RoomNightInventory.builder()
+                .stayDate(LocalDate.of(2024, 4, 17))
+                .total(1)
+                .build();
+
+        inventory.book();
+
+        Assertions.assertThat(inventory.isAvailable()).isFalse();
+        Assertions.assertThatThrownBy(inventory::book).isInstanceOf(IllegalArgumentException.class);
+        inventory.release();
+        Assertions.assertThat(inventory.getBooked()).isZero();
+    }
+}
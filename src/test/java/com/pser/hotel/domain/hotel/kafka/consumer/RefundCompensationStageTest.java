@@ -0,0 +1,148 @@
+package com.pser.hotel.domain.hotel.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.pser.hotel.domain.hotel.application.ReservationService;
+import com.pser.hotel.global.common.BulkStatusUpdateResult;
+import com.pser.hotel.global.common.PaymentDto;
+import com.pser.hotel.global.common.StatusUpdateResult;
+import com.pser.hotel.global.config.kafka.KafkaTopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("환불 보상 stage 테스트")
+class RefundCompensationStageTest {
+    @Mock
+    ReservationService reservationService;
+    @Mock
+    KafkaTemplate<String, PaymentDto> paymentDtoValueKafkaTemplate;
+    @Mock
+    KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    @Mock
+    MessageListenerContainer container;
+
+    @Captor
+    ArgumentCaptor<List<PaymentDto>> batchCaptor;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    RefundCompensationStage refundCompensationStage;
+
+    @BeforeEach
+    public void setUp() {
+        refundCompensationStage = new RefundCompensationStage(reservationService, paymentDtoValueKafkaTemplate,
+                meterRegistry, kafkaListenerEndpointRegistry);
+    }
+
+    @Test
+    @DisplayName("DLT 배치를 한 번에 환불 대기로 옮긴다")
+    public void compensate() {
+        given(reservationService.requireRefunds(anyList())).willReturn(updated(1L, 2L));
+
+        refundCompensationStage.compensate(List.of(createPayment("a"), createPayment("b"), createPayment("c")));
+
+        then(reservationService).should().requireRefunds(batchCaptor.capture());
+        Assertions.assertThat(batchCaptor.getValue()).extracting(PaymentDto::getMerchantUid)
+                .containsExactly("a", "b", "c");
+        Assertions.assertThat(meterRegistry.counter("refund.compensation.refunded").count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.counter("refund.compensation.skipped").count()).isEqualTo(1);
+        then(paymentDtoValueKafkaTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 결제를 하나씩 다시 처리하고 실패한 결제는 재시도 토픽으로 보낸다")
+    public void compensateOneByOne() {
+        PaymentDto failed = createPayment("b");
+        given(reservationService.requireRefunds(anyList()))
+                .willThrow(new IllegalStateException())
+                .willReturn(updated(1L))
+                .willThrow(new IllegalStateException());
+        given(paymentDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_REFUND_COMPENSATION_RETRY, "b", failed))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        refundCompensationStage.compensate(List.of(createPayment("a"), failed));
+
+        then(reservationService).should(times(3)).requireRefunds(anyList());
+        then(paymentDtoValueKafkaTemplate).should()
+                .send(KafkaTopics.RESERVATION_REFUND_COMPENSATION_RETRY, "b", failed);
+        Assertions.assertThat(meterRegistry.counter("refund.compensation.refunded").count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.counter("refund.compensation.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 토픽으로 보내지 못하면 예외를 던져 DLT 오프셋을 커밋하지 않는다")
+    public void compensateFailsWhenRetryForwardFails() {
+        PaymentDto failed = createPayment("a");
+        given(reservationService.requireRefunds(anyList())).willThrow(new IllegalStateException());
+        given(paymentDtoValueKafkaTemplate.send(KafkaTopics.RESERVATION_REFUND_COMPENSATION_RETRY, "a", failed))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        Assertions.assertThatThrownBy(() -> refundCompensationStage.compensate(List.of(failed)))
+                .isInstanceOf(CompletionException.class);
+    }
+
+    private BulkStatusUpdateResult updated(Long... ids) {
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        for (Long id : ids) {
+            result.put(id, StatusUpdateResult.UPDATED);
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("밀린 보상 작업 수는 DLT listener 의 파티션별 lag 합이다")
+    public void queueDepth() {
+        given(kafkaListenerEndpointRegistry.getListenerContainer(RefundCompensationStage.LISTENER_ID))
+                .willReturn(container);
+        given(container.isRunning()).willReturn(true);
+        Map<MetricName, Metric> metrics = new HashMap<>();
+        putMetric(metrics, "records-lag", Map.of("partition", "0"), 30.0);
+        putMetric(metrics, "records-lag", Map.of("partition", "1"), 12.0);
+        putMetric(metrics, "records-lag", Map.of("partition", "2"), Double.NaN);
+        metrics.put(new MetricName("records-lag-max", "consumer-fetch-manager-metrics", "", Map.of()),
+                mock(Metric.class));
+        willReturn(Map.of("client-0", metrics)).given(container).metrics();
+
+        Assertions.assertThat(meterRegistry.get("refund.compensation.queue.depth").gauge().value()).isEqualTo(42);
+    }
+
+    private void putMetric(Map<MetricName, Metric> metrics, String name, Map<String, String> tags, double value) {
+        MetricName metricName = new MetricName(name, "consumer-fetch-manager-metrics", "", tags);
+        Metric metric = mock(Metric.class);
+        given(metric.metricValue()).willReturn(value);
+        metrics.put(metricName, metric);
+    }
+
+    private PaymentDto createPayment(String merchantUid) {
+        return PaymentDto.builder()
+                .impUid("imp_" + merchantUid)
+                .merchantUid(merchantUid)
+                .amount(10000)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.pser.hotel.domain.hotel.kafka.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.pser.hotel.domain.hotel.dao.OutboxEventDao;
+import com.pser.hotel.domain.hotel.domain.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox relay 테스트")
+class OutboxRelayTest {
+    @Mock
+    OutboxEventDao outboxEventDao;
+
+    @Mock
+    KafkaTemplate<String, byte[]> byteArrayValueKafkaTemplate;
+
+    @Captor
+    ArgumentCaptor<List<OutboxEvent>> deletedCaptor;
+
+    @Captor
+    ArgumentCaptor<List<OutboxEvent>> releasedCaptor;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    OutboxRelay outboxRelay;
+
+    @BeforeEach
+    public void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        outboxRelay = new OutboxRelay(outboxEventDao, byteArrayValueKafkaTemplate, transactionTemplate,
+                new MockEnvironment(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("발행이 확인된 이벤트를 outbox 에서 지운다")
+    public void relay() {
+        given(outboxEventDao.findWithLockClaimable(any(), any())).willReturn(List.of(
+                createEvent("hotel.created", "1"),
+                createEvent("hotel.updated", "1"),
+                createEvent("hotel.created", "2")
+        ));
+        given(byteArrayValueKafkaTemplate.send(any(), any(), any())).willReturn(delivered());
+
+        int relayed = outboxRelay.relay(3);
+
+        verify(outboxEventDao).deleteAllInBatch(deletedCaptor.capture());
+        Assertions.assertThat(relayed).isEqualTo(3);
+        Assertions.assertThat(deletedCaptor.getValue()).hasSize(3);
+        Assertions.assertThat(meterRegistry.counter("outbox.relay.sent").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("키마다 앞 이벤트가 확인된 뒤에 다음 이벤트를 보내고, 실패한 키의 뒤 이벤트는 보내지 않고 돌려놓는다")
+    public void relayKeepsOrderAfterFailure() {
+        OutboxEvent failed = createEvent("reservation.created", "1");
+        OutboxEvent blocked = createEvent("reservation.refund-required", "1");
+        OutboxEvent other = createEvent("reservation.created", "2");
+        given(outboxEventDao.findWithLockClaimable(any(), any())).willReturn(List.of(failed, blocked, other));
+        given(byteArrayValueKafkaTemplate.send("reservation.created", "1", failed.getPayload()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        given(byteArrayValueKafkaTemplate.send("reservation.created", "2", other.getPayload())).willReturn(delivered());
+
+        int relayed = outboxRelay.relay(3);
+
+        verify(byteArrayValueKafkaTemplate, never()).send(eq("reservation.refund-required"), any(), any());
+        verify(outboxEventDao).deleteAllInBatch(deletedCaptor.capture());
+        verify(outboxEventDao).releaseClaims(releasedCaptor.capture());
+        Assertions.assertThat(relayed).isZero();
+        Assertions.assertThat(deletedCaptor.getValue())
+                .extracting(OutboxEvent::getTopic, OutboxEvent::getAggregateKey)
+                .containsExactly(Assertions.tuple("reservation.created", "2"));
+        Assertions.assertThat(releasedCaptor.getValue()).extracting(OutboxEvent::getTopic)
+                .containsExactly("reservation.created", "reservation.refund-required");
+        Assertions.assertThat(meterRegistry.counter("outbox.relay.failed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 앞 이벤트의 발행이 확인된 뒤에 보낸다")
+    public void relaySendsSameKeyInOrder() {
+        OutboxEvent first = createEvent("reservation.created", "1");
+        OutboxEvent second = createEvent("reservation.refund-required", "1");
+        given(outboxEventDao.findWithLockClaimable(any(), any())).willReturn(List.of(first, second));
+        given(byteArrayValueKafkaTemplate.send(any(), any(), any())).willReturn(delivered());
+
+        int relayed = outboxRelay.relay(2);
+
+        InOrder inOrder = inOrder(byteArrayValueKafkaTemplate);
+        inOrder.verify(byteArrayValueKafkaTemplate).send("reservation.created", "1", first.getPayload());
+        inOrder.verify(byteArrayValueKafkaTemplate).flush();
+        inOrder.verify(byteArrayValueKafkaTemplate).send("reservation.refund-required", "1", second.getPayload());
+        Assertions.assertThat(relayed).isEqualTo(2);
+        Assertions.assertThat(first.getClaimedAt()).isNotNull();
+    }
+
+    private OutboxEvent createEvent(String topic, String aggregateKey) {
+        return OutboxEvent.builder()
+                .topic(topic)
+                .aggregateKey(aggregateKey)
+                .payload("{}".getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> delivered() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pser.hotel.domain.hotel.util;
+
+import com.pser.hotel.global.config.db.QueryStats;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+
+/**
+ * QueryMetricsConfig 를 Import 한 테스트에서 action 이 실행한 JDBC statement 수가 한도를 넘지 않는지 확인한다.
+ */
+public class QueryCountAssertions {
+    public static <T> T assertMaxQueries(int maxStatements, Supplier<T> action) {
+        QueryStats.start();
+        T result;
+        QueryStats stats;
+        try {
+            result = action.get();
+        } finally {
+            stats = QueryStats.stop();
+        }
+        Assertions.assertThat(stats.getStatements())
+                .as("executed statements (repeated: %s)", stats.getRepeatedStatements(2))
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.pser.hotel.global.config.aop.latency;
+
+import static org.mockito.BDDMockito.given;
+
+import com.pser.hotel.domain.hotel.dao.ReservationDao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LatencyTraceAspect 테스트")
+class LatencyTraceAspectTest {
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    @Mock
+    MethodSignature signature;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("메서드별 Timer 에 호출 시간을 기록하고 예외도 기록한다")
+    public void trace() throws Throwable {
+        LatencyTraceAspect aspect = new LatencyTraceAspect(meterRegistry, 1.0, 10_000, false);
+        given(joinPoint.getThis()).willReturn(this);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(LatencyTraceAspectTest.class.getDeclaredMethod("trace"));
+        given(joinPoint.proceed()).willReturn("ok").willThrow(new IllegalStateException());
+
+        Object result = aspect.trace(joinPoint);
+        Assertions.assertThatThrownBy(() -> aspect.trace(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = meterRegistry.get("method.latency")
+                .tag("class", "LatencyTraceAspectTest")
+                .tag("method", "trace")
+                .timer();
+        Assertions.assertThat(result).isEqualTo("ok");
+        Assertions.assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("sample-rate 가 0 이면 Timer 에 기록하지 않는다")
+    public void skipUnsampled() throws Throwable {
+        LatencyTraceAspect aspect = new LatencyTraceAspect(meterRegistry, 0.0, 10_000, false);
+        given(joinPoint.proceed()).willReturn("ok");
+
+        aspect.trace(joinPoint);
+
+        Assertions.assertThat(meterRegistry.find("method.latency").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("repository proxy 는 Dao 인터페이스 이름으로 태그를 단다")
+    public void classNameOf() {
+        Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ReservationDao.class},
+                (target, method, args) -> null);
+
+        Assertions.assertThat(LatencyTraceAspect.classNameOf(proxy.getClass())).isEqualTo("ReservationDao");
+        Assertions.assertThat(LatencyTraceAspect.classNameOf(String.class)).isEqualTo("String");
+    }
+}
@@ -0,0 +1,79 @@
+package com.pser.hotel.global.config.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrencyLimitedDataSource 테스트")
+class ConcurrencyLimitedDataSourceTest {
+    ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:concurrency-limit;DB_CLOSE_DELAY=-1");
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 10, 5_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ConcurrencyLimitedDataSource.clearRequestThread();
+    }
+
+    @Test
+    @DisplayName("요청 스레드는 한도만큼 커넥션을 빌려주고 나면 대기하지 않고 실패한다")
+    public void rejectOverLimit() throws Exception {
+        ConcurrencyLimitedDataSource.markRequestThread();
+        try (Connection ignored = dataSource.getConnection()) {
+            Assertions.assertThat(dataSource.getActiveCount()).isEqualTo(1);
+            Assertions.assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(DbConcurrencyLimitExceededException.class);
+        }
+
+        Assertions.assertThat(dataSource.getActiveCount()).isZero();
+        Assertions.assertThat(dataSource.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖의 스레드는 한도가 차 있으면 허가가 반납될 때까지 기다린다")
+    public void backgroundWaitsForPermit() throws Exception {
+        Connection held = dataSource.getConnection();
+        CompletableFuture<Boolean> background = CompletableFuture.supplyAsync(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(1);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        for (int i = 0; i < 500 && dataSource.getWaitingCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(dataSource.getWaitingCount()).isEqualTo(1);
+
+        held.close();
+
+        Assertions.assertThat(background.get(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(dataSource.getRejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션을 여러 번 닫아도 허가는 한 번만 반납한다")
+    public void releaseOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Assertions.assertThat(dataSource.getActiveCount()).isZero();
+        try (Connection next = dataSource.getConnection()) {
+            Assertions.assertThat(next.isValid(1)).isTrue();
+            Assertions.assertThat(dataSource.getActiveCount()).isEqualTo(1);
+        }
+    }
+}
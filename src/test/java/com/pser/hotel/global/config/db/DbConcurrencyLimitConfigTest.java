@@ -0,0 +1,80 @@
+package com.pser.hotel.global.config.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("DbConcurrencyLimitConfig 테스트")
+class DbConcurrencyLimitConfigTest {
+    MockEnvironment env;
+    HikariDataSource hikari;
+    BeanPostProcessor limiter;
+    BeanPostProcessor queryCounting;
+
+    @BeforeEach
+    public void setUp() {
+        env = new MockEnvironment()
+                .withProperty("db.concurrency.enabled", "true")
+                .withProperty("db.query-metrics.enabled", "true");
+        hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:mem:concurrency-config");
+        hikari.setMaximumPoolSize(7);
+        hikari.setConnectionTimeout(12_000);
+        limiter = DbConcurrencyLimitConfig.dbConcurrencyLimitPostProcessor(env);
+        queryCounting = QueryMetricsConfig.queryCountingPostProcessor(env);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hikari.close();
+    }
+
+    @Test
+    @DisplayName("쿼리 수 집계가 먼저 감싸도 한도는 Hikari 의 pool 크기를 따른다")
+    public void limiterWrapsQueryCounting() throws Exception {
+        DataSource dataSource = postProcess(List.of(queryCounting, limiter));
+
+        assertLimitedByPoolSize(dataSource);
+    }
+
+    @Test
+    @DisplayName("동시성 제한이 먼저 감싸도 db.concurrency 지표가 등록된다")
+    public void queryCountingWrapsLimiter() throws Exception {
+        DataSource dataSource = postProcess(List.of(limiter, queryCounting));
+
+        Assertions.assertThat(dataSource).isInstanceOf(QueryCountingDataSource.class);
+        assertLimitedByPoolSize(dataSource);
+    }
+
+    private DataSource postProcess(List<BeanPostProcessor> postProcessors) {
+        Object bean = hikari;
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            bean = postProcessor.postProcessAfterInitialization(bean, "dataSource");
+        }
+        return (DataSource) bean;
+    }
+
+    private void assertLimitedByPoolSize(DataSource dataSource) throws Exception {
+        ConcurrencyLimitedDataSource limited = dataSource.unwrap(ConcurrencyLimitedDataSource.class);
+        Assertions.assertThat(limited.getMaxConcurrency()).isEqualTo(7);
+        Assertions.assertThat(ReflectionTestUtils.getField(limited, "backgroundAcquireTimeoutMs")).isEqualTo(12_000L);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new DbConcurrencyLimitConfig().dbConcurrencyMetrics(dataSource).bindTo(registry);
+
+        Assertions.assertThat(registry.get("db.concurrency.max").gauge().value()).isEqualTo(7);
+        Assertions.assertThat(registry.find("db.concurrency.active").gauge()).isNotNull();
+        Assertions.assertThat(registry.find("db.concurrency.waiting").gauge()).isNotNull();
+        Assertions.assertThat(registry.find("db.concurrency.rejected").functionCounter()).isNotNull();
+    }
+}
@@ -0,0 +1,89 @@
+package com.pser.hotel.global.config.db;
+
+import com.pser.hotel.global.util.KeyAffinityExecutor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryCountingDataSource 테스트")
+class QueryCountingDataSourceTest {
+    QueryCountingDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:query-counting;DB_CLOSE_DELAY=-1");
+        dataSource = new QueryCountingDataSource(target);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists item (id bigint primary key)");
+            statement.execute("merge into item key (id) values (1), (2), (3)");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    @DisplayName("QueryStats 가 열린 동안 실행한 statement 와 읽은 행을 센다")
+    public void countStatementsAndRows() throws Exception {
+        QueryStats stats = QueryStats.start();
+        try (Connection connection = dataSource.getConnection()) {
+            for (long id = 1; id <= 3; id++) {
+                try (PreparedStatement statement = connection.prepareStatement("select id from item where id = ?")) {
+                    statement.setLong(1, id);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            Assertions.assertThat(resultSet.getLong(1)).isEqualTo(id);
+                        }
+                    }
+                }
+            }
+        }
+
+        Assertions.assertThat(stats.getStatements()).isEqualTo(3);
+        Assertions.assertThat(stats.getRows()).isEqualTo(3);
+        Assertions.assertThat(stats.getRepeatedStatements(3)).containsEntry("select id from item where id = ?", 3);
+        Assertions.assertThat(stats.getRepeatedStatements(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("QueryStats 가 없으면 세지 않는다")
+    public void skipWithoutStats() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id from item")) {
+            Assertions.assertThat(resultSet.next()).isTrue();
+        }
+
+        Assertions.assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("lane 스레드로 넘긴 작업의 쿼리도 처리를 시작한 스레드의 QueryStats 에 센다")
+    public void countStatementsOnLanes() {
+        QueryStats stats = QueryStats.start();
+        try (KeyAffinityExecutor executor = new KeyAffinityExecutor(4, "test-lane", QueryStats::propagate)) {
+            executor.executeAll(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), id -> id, lane -> lane.forEach(id -> {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement();
+                     ResultSet ignored = statement.executeQuery("select id from item where id = " + id)) {
+                    Assertions.assertThat(QueryStats.current()).isSameAs(stats);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        Assertions.assertThat(stats.getStatements()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import com.pser.hotel.domain.hotel.dto.HotelDto;
+import com.pser.hotel.global.common.PaymentDto;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.kafka.common.errors.SerializationException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KafkaSerde 테스트")
+class KafkaSerdeTest {
+    KafkaSerde jsonSerde = new KafkaSerde(SerdeFormat.JSON);
+    KafkaSerde smileSerde = new KafkaSerde(SerdeFormat.SMILE);
+
+    @Test
+    @DisplayName("JSON 과 Smile 모두 같은 값으로 복원된다")
+    public void roundTrip() {
+        HotelDto hotelDto = createHotelDto();
+
+        for (KafkaSerde serde : List.of(jsonSerde, smileSerde)) {
+            HotelDto decoded = serde.deserializer(HotelDto.class)
+                    .deserialize("hotel", serde.serializer().serialize("hotel", hotelDto));
+
+            Assertions.assertThat(decoded).isEqualTo(hotelDto);
+        }
+    }
+
+    @Test
+    @DisplayName("설정한 형식과 관계없이 헤더로 형식을 판별해 읽는다")
+    public void decodeEitherFormat() {
+        PaymentDto paymentDto = PaymentDto.builder().merchantUid("merchant-1").amount(10000).build();
+
+        byte[] smile = smileSerde.encode(paymentDto);
+        byte[] json = jsonSerde.encode(paymentDto);
+
+        Assertions.assertThat(KafkaSerde.isSmile(smile)).isTrue();
+        Assertions.assertThat(KafkaSerde.isSmile(json)).isFalse();
+        Assertions.assertThat(jsonSerde.decode(smile, PaymentDto.class).getMerchantUid()).isEqualTo("merchant-1");
+        Assertions.assertThat(smileSerde.decode(json, PaymentDto.class).getAmount()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("null 필드는 쓰지 않고, 모르는 필드는 무시한다")
+    public void compactAndTolerant() {
+        PaymentDto paymentDto = PaymentDto.builder().merchantUid("merchant-1").build();
+
+        String json = new String(jsonSerde.encode(paymentDto), StandardCharsets.UTF_8);
+        PaymentDto decoded = jsonSerde.decode("{\"merchantUid\":\"merchant-1\",\"unknown\":1}"
+                .getBytes(StandardCharsets.UTF_8), PaymentDto.class);
+
+        Assertions.assertThat(json).isEqualTo("{\"merchantUid\":\"merchant-1\"}");
+        Assertions.assertThat(decoded.getMerchantUid()).isEqualTo("merchant-1");
+    }
+
+    @Test
+    @DisplayName("Smile 은 JSON 보다 작다")
+    public void smileIsSmaller() {
+        HotelDto hotelDto = createHotelDto();
+
+        Assertions.assertThat(smileSerde.encode(hotelDto).length).isLessThan(jsonSerde.encode(hotelDto).length);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 SerializationException 을 던진다")
+    public void decodeInvalid() {
+        byte[] invalid = "not json".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertThatThrownBy(() -> jsonSerde.decode(invalid, HotelDto.class))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private HotelDto createHotelDto() {
+        return HotelDto.builder()
+                .id(1L)
+                .createdAt(LocalDateTime.of(2024, 4, 1, 12, 30))
+                .name("신라호텔")
+                .description("서울 중구의 호텔입니다")
+                .province("서울특별시")
+                .city("중구")
+                .district("장충동")
+                .latitude(37.5556)
+                .longitude(127.0055)
+                .userId(1L)
+                .images(List.of("https://example.com/1.jpg", "https://example.com/2.jpg"))
+                .build();
+    }
+}
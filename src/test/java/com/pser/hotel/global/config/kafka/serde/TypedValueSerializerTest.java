@@ -0,0 +1,27 @@
+package com.pser.hotel.global.config.kafka.serde;
+
+import com.pser.hotel.global.common.PaymentDto;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TypedValueSerializer 테스트")
+class TypedValueSerializerTest {
+    KafkaSerde kafkaSerde = new KafkaSerde(SerdeFormat.JSON);
+    TypedValueSerializer serializer = new TypedValueSerializer(kafkaSerde);
+
+    @Test
+    @DisplayName("값 타입에 맞는 형식으로 직렬화한다")
+    public void serialize() {
+        PaymentDto paymentDto = PaymentDto.builder().merchantUid("merchant-1").build();
+        byte[] bytes = {1, 2, 3};
+
+        Assertions.assertThat(serializer.serialize("topic", "1")).isEqualTo("1".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThat(serializer.serialize("topic", 1L)).isEqualTo(ByteBuffer.allocate(8).putLong(1L).array());
+        Assertions.assertThat(serializer.serialize("topic", bytes)).isSameAs(bytes);
+        Assertions.assertThat(serializer.serialize("topic", paymentDto)).isEqualTo(kafkaSerde.encode(paymentDto));
+        Assertions.assertThat(serializer.serialize("topic", null)).isNull();
+    }
+}
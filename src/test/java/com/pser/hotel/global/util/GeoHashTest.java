@@ -0,0 +1,95 @@
+package com.pser.hotel.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+@DisplayName("GeoHash 테스트")
+class GeoHashTest {
+    static final double SEOUL_LATITUDE = 37.5665;
+    static final double SEOUL_LONGITUDE = 126.9780;
+
+    @Test
+    @DisplayName("알려진 좌표를 geohash 로 인코딩한다")
+    public void encode() {
+        Assertions.assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        Assertions.assertThat(GeoHash.encode(SEOUL_LATITUDE, SEOUL_LONGITUDE, 5)).isEqualTo("wydm9");
+    }
+
+    @Test
+    @DisplayName("haversine 거리를 계산한다")
+    public void distanceKm() {
+        double seoulToBusan = GeoHash.distanceKm(SEOUL_LATITUDE, SEOUL_LONGITUDE, 35.1796, 129.0756);
+        Assertions.assertThat(seoulToBusan).isCloseTo(325, Offset.offset(5.0));
+    }
+
+    @Test
+    @DisplayName("영역을 덮는 셀은 최대 개수를 넘지 않고 영역의 모든 점을 포함한다")
+    public void cover() {
+        double[] box = GeoHash.boundingBox(SEOUL_LATITUDE, SEOUL_LONGITUDE, 3);
+        List<String> cells = GeoHash.cover(box[0], box[1], box[2], box[3], 16);
+
+        Assertions.assertThat(cells).hasSizeLessThanOrEqualTo(16);
+        Random rnd = new Random(1);
+        for (int i = 0; i < 1_000; i++) {
+            double latitude = box[0] + rnd.nextDouble() * (box[2] - box[0]);
+            double longitude = box[1] + rnd.nextDouble() * (box[3] - box[1]);
+            String hash = GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+            Assertions.assertThat(cells).anyMatch(hash::startsWith);
+        }
+    }
+
+    @Test
+    @DisplayName("10만 개 숙소에서 geohash 로 후보를 줄여도 전체 탐색과 같은 결과를 낸다")
+    public void nearbyBenchmark() {
+        int hotelCount = 100_000;
+        double radiusKm = 3;
+        Random rnd = new Random(42);
+        double[][] hotels = new double[hotelCount][];
+        TreeMap<String, Integer> index = new TreeMap<>();
+        for (int i = 0; i < hotelCount; i++) {
+            double latitude = 33.0 + rnd.nextDouble() * 5.6;
+            double longitude = 124.5 + rnd.nextDouble() * 6.5;
+            hotels[i] = new double[]{latitude, longitude};
+            index.put(GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION) + ":" + i, i);
+        }
+
+        long fullScanStart = System.nanoTime();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < hotelCount; i++) {
+            if (GeoHash.distanceKm(SEOUL_LATITUDE, SEOUL_LONGITUDE, hotels[i][0], hotels[i][1]) <= radiusKm) {
+                expected.add(i);
+            }
+        }
+        long fullScanNanos = System.nanoTime() - fullScanStart;
+
+        long prunedStart = System.nanoTime();
+        double[] box = GeoHash.boundingBox(SEOUL_LATITUDE, SEOUL_LONGITUDE, radiusKm);
+        List<Integer> candidates = new ArrayList<>();
+        for (String cell : GeoHash.cover(box[0], box[1], box[2], box[3], 16)) {
+            for (Map.Entry<String, Integer> entry : index.subMap(cell, cell + Character.MAX_VALUE).entrySet()) {
+                candidates.add(entry.getValue());
+            }
+        }
+        List<Integer> actual = candidates.stream()
+                .filter(i -> GeoHash.distanceKm(SEOUL_LATITUDE, SEOUL_LONGITUDE, hotels[i][0], hotels[i][1])
+                        <= radiusKm)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        long prunedNanos = System.nanoTime() - prunedStart;
+
+        log.info("hotels={}, matched={}, candidates={}, fullScan={}us, geohash={}us", hotelCount, expected.size(),
+                candidates.size(), fullScanNanos / 1_000, prunedNanos / 1_000);
+        Assertions.assertThat(actual).isEqualTo(expected);
+        Assertions.assertThat(candidates.size()).isLessThan(hotelCount / 100);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pser.hotel.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyAffinityExecutor 테스트")
+class KeyAffinityExecutorTest {
+    KeyAffinityExecutor executor = new KeyAffinityExecutor(4, "test-lane");
+
+    @AfterEach
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("같은 키의 항목은 들어온 순서대로 같은 스레드에서 처리한다")
+    public void executeAllKeepsOrderPerKey() {
+        List<long[]> events = IntStream.range(0, 1_000)
+                .mapToObj(i -> new long[]{i % 37, i})
+                .toList();
+        Map<Long, List<Long>> processed = new ConcurrentHashMap<>();
+        Map<Long, Set<String>> threads = new ConcurrentHashMap<>();
+
+        executor.executeAll(events, event -> event[0], lane -> lane.forEach(event -> {
+            processed.computeIfAbsent(event[0], key -> Collections.synchronizedList(new ArrayList<>())).add(event[1]);
+            threads.computeIfAbsent(event[0], key -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+        }));
+
+        Assertions.assertThat(processed).hasSize(37);
+        processed.values().forEach(sequence -> Assertions.assertThat(sequence).isSorted());
+        threads.values().forEach(names -> Assertions.assertThat(names).hasSize(1));
+        Assertions.assertThat(threads.values().stream().flatMap(Set::stream).distinct().count()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("한 lane 이 실패하면 다른 lane 을 마친 뒤 예외를 다시 던진다")
+    public void executeAllRethrowsFailure() {
+        List<Integer> keys = IntStream.range(0, 8).boxed().toList();
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        Assertions.assertThatThrownBy(() -> executor.executeAll(keys, key -> key, lane -> lane.forEach(key -> {
+                    if (key == 0) {
+                        throw new IllegalStateException("poison");
+                    }
+                    processed.add(key);
+                })))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("poison");
+        Assertions.assertThat(processed).contains(1, 2, 3);
+    }
+}
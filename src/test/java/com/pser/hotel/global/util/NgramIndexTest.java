@@ -0,0 +1,69 @@
+package com.pser.hotel.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NgramIndex 테스트")
+class NgramIndexTest {
+    @Test
+    @DisplayName("검색어를 부분 문자열로 포함하는 문서만 찾는다")
+    public void searchSubstring() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "신라호텔", "서울특별시", "중구");
+        index.put(2L, "호텔신라 제주", "제주특별자치도", "서귀포시");
+        index.put(3L, "라호 게스트하우스", "부산광역시", "해운대구");
+
+        Assertions.assertThat(index.search("라호텔", 10)).containsExactly(1L);
+        Assertions.assertThat(index.search("특별", 10)).containsExactlyInAnyOrder(1L, 2L);
+        Assertions.assertThat(index.search("강릉", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 정규화해 검색한다")
+    public void searchNormalized() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Grand  Hyatt Seoul");
+
+        Assertions.assertThat(index.search("grand hyatt", 10)).containsExactly(1L);
+        Assertions.assertThat(index.search("HYATT", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색어가 자주 나오는 짧은 문서를 먼저 돌려준다")
+    public void searchRanked() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "바다가 보이는 객실, 넓은 침대와 욕조가 있고 조식이 포함된 객실입니다");
+        index.put(2L, "오션뷰 오션뷰 오션뷰");
+        index.put(3L, "오션뷰 객실, 넓은 침대와 욕조가 있고 조식이 포함된 객실입니다");
+
+        Assertions.assertThat(index.search("오션뷰", 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("문서를 다시 넣거나 지우면 검색 결과에 반영된다")
+    public void putAndRemove() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "해운대 호텔");
+        index.put(1L, "광안리 호텔");
+
+        Assertions.assertThat(index.search("해운대", 10)).isEmpty();
+        Assertions.assertThat(index.search("광안리", 10)).containsExactly(1L);
+
+        index.remove(1L);
+
+        Assertions.assertThat(index.search("호텔", 10)).isEmpty();
+        Assertions.assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인으로 처리하지 않는다")
+    public void isSearchable() {
+        Assertions.assertThat(NgramIndex.isSearchable("호텔")).isTrue();
+        Assertions.assertThat(NgramIndex.isSearchable("서울 호텔")).isTrue();
+        Assertions.assertThat(NgramIndex.isSearchable("역")).isFalse();
+        Assertions.assertThat(NgramIndex.isSearchable("서울 역")).isFalse();
+        Assertions.assertThat(NgramIndex.isSearchable(" ")).isFalse();
+        Assertions.assertThat(NgramIndex.isSearchable(null)).isFalse();
+    }
+}